@@ -25,9 +25,11 @@ import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.alias.AliasMappings;
 import seedu.moolah.model.budget.exceptions.BudgetNotFoundException;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.statistics.TrendStatistics;
 import seedu.moolah.model.util.SampleDataUtil;
 import seedu.moolah.storage.JsonMooLahStorage;
 import seedu.moolah.storage.JsonUserPrefsStorage;
+import seedu.moolah.storage.LogMooLahStorage;
 import seedu.moolah.storage.MooLahStorage;
 import seedu.moolah.storage.Storage;
 import seedu.moolah.storage.StorageManager;
@@ -61,7 +63,9 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        MooLahStorage mooLahStorage = new JsonMooLahStorage(userPrefs.getMooLahFilePath());
+        MooLahStorage mooLahStorage = config.isWriteAheadLogEnabled()
+                ? new LogMooLahStorage(userPrefs.getMooLahFilePath())
+                : new JsonMooLahStorage(userPrefs.getMooLahFilePath());
         storage = new StorageManager(mooLahStorage, userPrefsStorage);
 
         initLogging(config);
@@ -100,7 +104,7 @@ public class MainApp extends Application {
             initialData = new MooLah();
         }
 
-        return new ModelManager(initialData, userPrefs, new ModelHistory());
+        return new ModelManager(initialData, userPrefs, new ModelHistory(config.getHistoryCapacity()));
     }
 
     private void initLogging(Config config) {
@@ -174,6 +178,13 @@ public class MainApp extends Application {
             initializedPrefs.setAliasMappings(new AliasMappings());
         }
 
+        //ensure the trend interval count is valid, as it is read from the file without the setter's check
+        if (initializedPrefs.getTrendIntervalCount() <= 0) {
+            logger.warning("Trend interval count in the file is not positive. "
+                    + "Will be using the default of " + TrendStatistics.DEFAULT_INTERVAL_COUNT);
+            initializedPrefs.setTrendIntervalCount(TrendStatistics.DEFAULT_INTERVAL_COUNT);
+        }
+
         // Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -194,6 +205,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping MooLah ] =============================");
+        try {
+            logic.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
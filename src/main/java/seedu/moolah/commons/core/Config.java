@@ -11,10 +11,13 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_HISTORY_CAPACITY = 100000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int historyCapacity = DEFAULT_HISTORY_CAPACITY;
+    private boolean writeAheadLogEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getHistoryCapacity() {
+        return historyCapacity;
+    }
+
+    public void setHistoryCapacity(int historyCapacity) {
+        this.historyCapacity = historyCapacity;
+    }
+
+    public boolean isWriteAheadLogEnabled() {
+        return writeAheadLogEnabled;
+    }
+
+    public void setWriteAheadLogEnabled(boolean writeAheadLogEnabled) {
+        this.writeAheadLogEnabled = writeAheadLogEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +63,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && historyCapacity == o.historyCapacity
+                && writeAheadLogEnabled == o.writeAheadLogEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, historyCapacity, writeAheadLogEnabled);
     }
 
     @Override
@@ -57,6 +78,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nHistory capacity : " + historyCapacity);
+        sb.append("\nWrite-ahead log enabled : " + writeAheadLogEnabled);
         return sb.toString();
     }
 
@@ -3,6 +3,8 @@ package seedu.moolah.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +13,10 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -110,6 +115,37 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Creates a parser which reads JSON data from {@code in} one token at a time.
+     * Values read through the parser, e.g. with {@link JsonParser#readValueAs(Class)}, are converted in the same way
+     * as by {@link #fromJsonString(String, Class)}. Closing the parser closes {@code in}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Creates a generator which writes JSON data to {@code out} one token at a time, in the same layout as
+     * {@link #toJsonString(Object)}. Values written through the generator, e.g. with
+     * {@link JsonGenerator#writeObject(Object)}, are converted in the same way as by {@link #toJsonString(Object)}.
+     * Closing the generator flushes and closes {@code out}.
+     */
+    public static JsonGenerator createPrettyGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out).setPrettyPrinter(new DefaultPrettyPrinter());
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,8 @@
 package seedu.moolah.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.moolah.commons.core.GuiSettings;
@@ -29,7 +31,31 @@ public interface Logic {
      */
     CommandResult execute(String commandText, String commandGroup) throws CommandException, ParseException;
 
-    void save() throws CommandException;
+    /**
+     * Schedules the current data to be saved in the background.
+     */
+    void save();
+
+    /**
+     * Sets the handler to be given the error message of every failed save.
+     * The handler is called on the saving thread.
+     */
+    void setOnSaveFailure(Consumer<String> onSaveFailure);
+
+    /**
+     * Waits until every scheduled save has completed.
+     *
+     * @throws IOException if the most recent save failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Waits until every scheduled save has completed, then stops saving in the background and syncs the saved data
+     * to the disk. No save may be scheduled afterwards.
+     *
+     * @throws IOException if the most recent save failed, or the saved data could not be synced.
+     */
+    void shutdown() throws IOException;
 
     boolean hasBudgetWithName(Description targetDescription);
 
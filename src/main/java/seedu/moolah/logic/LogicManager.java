@@ -1,7 +1,10 @@
 package seedu.moolah.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -21,6 +24,7 @@ import seedu.moolah.model.event.Event;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.general.Description;
 import seedu.moolah.model.statistics.Statistics;
+import seedu.moolah.storage.AsyncSaver;
 import seedu.moolah.storage.Storage;
 
 /**
@@ -32,11 +36,13 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final AsyncSaver saver;
     private final MooLahParser mooLahParser;
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        saver = new AsyncSaver(storage);
         mooLahParser = new MooLahParser();
     }
 
@@ -63,16 +69,31 @@ public class LogicManager implements Logic {
     }
 
     /**
-     * Saves any changes in MooLah or in user preferences into Storage.
-     *
-     * @throws CommandException If there is an IO error.
+     * Schedules any changes in MooLah or in user preferences to be saved into Storage in the background.
+     * Failures to save are reported to the handler set by {@link #setOnSaveFailure(Consumer)}.
      */
-    public void save() throws CommandException {
+    @Override
+    public void save() {
+        saver.save(model.getMooLah(), model.getUserPrefs());
+    }
+
+    @Override
+    public void setOnSaveFailure(Consumer<String> onSaveFailure) {
+        requireNonNull(onSaveFailure);
+        saver.setOnSaveFailure(ioe -> onSaveFailure.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        saver.flush();
+    }
+
+    @Override
+    public void shutdown() throws IOException {
         try {
-            storage.saveMooLah(model.getMooLah());
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            saver.shutdown();
+        } finally {
+            storage.flushMooLah();
         }
     }
 
@@ -113,12 +134,7 @@ public class LogicManager implements Logic {
     @Override
     public void deleteTranspiredEvent(Event event) {
         model.deleteEvent(event);
-
-        try {
-            save();
-        } catch (CommandException e) {
-            e.printStackTrace();
-        }
+        save();
     }
 
     /**
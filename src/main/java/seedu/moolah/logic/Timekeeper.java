@@ -2,16 +2,28 @@ package seedu.moolah.logic;
 
 import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.moolah.commons.core.LogsCenter;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.event.Event;
 import seedu.moolah.model.event.Reminder;
@@ -19,42 +31,170 @@ import seedu.moolah.model.general.Timestamp;
 
 /**
  * Handles all comparisons between system time and the time fields of Expenses, Events and Budgets.
+ * Once started, it sleeps until the earliest event transpires or the day breaks, whichever comes first, instead of
+ * polling the system time. Upcoming events are kept in a priority queue by timestamp, updated with every change to
+ * the event list.
  */
 public class Timekeeper {
     public static final long THRESHOLD = 7;
-    private static Timestamp systemTime = new Timestamp(LocalDateTime.now());
+
+    // the longest sleep, after which the deadlines are checked again in case the system clock has been changed
+    static final Duration MAX_SLEEP = Duration.ofHours(1);
+
+    private static final String THREAD_NAME = "MooLah-timekeeper";
+
+    private static final Logger logger = LogsCenter.getLogger(Timekeeper.class);
+
+    private final Clock clock;
     private Logic logic;
     private ObservableList<Event> events;
     private List<Reminder> reminders = new ArrayList<>();
     private ObservableList<Budget> budgets;
 
+    private final PriorityQueue<Event> upcomingEvents = new PriorityQueue<>(
+            Comparator.comparing(event -> event.getTimestamp().getFullTimestamp()));
+    private final ListChangeListener<Event> eventsListener = this::updateUpcomingEvents;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> nextWakeUp;
+    private Executor uiExecutor;
+    private Runnable onEventsTranspired;
+    private LocalDate lastRefreshDate;
+
     public Timekeeper(Logic logic) {
-        requireAllNonNull(logic);
+        this(logic, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a {@code Timekeeper} which reads the time from {@code clock}.
+     */
+    Timekeeper(Logic logic, Clock clock) {
+        requireAllNonNull(logic, clock);
         this.logic = logic;
+        this.clock = clock;
         events = logic.getFilteredEventList();
         budgets = logic.getMooLah().getBudgetList();
     }
 
     /**
-     * Checks the system's time and updates the app's system time field to it.
+     * Starts waking up at every deadline: when an event transpires, {@code onEventsTranspired} is run, and when the
+     * day breaks, the budgets are refreshed. Both are run through {@code uiExecutor}, which must run its tasks on the
+     * thread which changes the event list. {@code onEventsTranspired} is also run once straight away, for the events
+     * which transpired while the app was closed.
      */
-    public void updateTime() {
-        systemTime = new Timestamp(LocalDateTime.now());
-        if (isAtDayBreak(systemTime)) {
+    public void start(Runnable onEventsTranspired, Executor uiExecutor) {
+        requireAllNonNull(onEventsTranspired, uiExecutor);
+        this.onEventsTranspired = onEventsTranspired;
+        this.uiExecutor = uiExecutor;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        lastRefreshDate = LocalDate.now(clock);
+        upcomingEvents.addAll(events);
+        events.addListener(eventsListener);
+        uiExecutor.execute(this::handleDeadlines);
+    }
+
+    /**
+     * Stops waking up at deadlines.
+     */
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        events.removeListener(eventsListener);
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    /**
+     * Refreshes the budgets if the day has broken, and handles the events which have transpired, since the last
+     * deadline. Then sleeps until the next deadline.
+     */
+    private void handleDeadlines() {
+        if (scheduler == null) {
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(lastRefreshDate)) {
+            logger.info("Day break: refreshing budgets");
+            lastRefreshDate = today;
             refreshBudgets();
         }
+        if (hasEarliestEventTranspired()) {
+            onEventsTranspired.run();
+        }
+        // transpired events which were not handled are not waited for again
+        while (hasEarliestEventTranspired()) {
+            upcomingEvents.poll();
+        }
+        scheduleNextWakeUp();
     }
 
     /**
-     * Checks if the system time is at day break by comparing current date and the date just now.
+     * Returns true if the earliest upcoming event has transpired.
+     */
+    private boolean hasEarliestEventTranspired() {
+        Event earliestEvent = upcomingEvents.peek();
+        return earliestEvent != null && earliestEvent.getTimestamp().getFullTimestamp().isBefore(now());
+    }
+
+    /**
+     * Schedules the next call of {@link #handleDeadlines()}, replacing any call scheduled before.
+     */
+    private void scheduleNextWakeUp() {
+        if (nextWakeUp != null) {
+            nextWakeUp.cancel(false);
+        }
+        // rounded up, so that the deadline has passed on waking up
+        long delay = getTimeUntilNextDeadline().toMillis() + 1;
+        nextWakeUp = scheduler.schedule(() -> uiExecutor.execute(this::handleDeadlines), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the time until the earliest upcoming event transpires or the day breaks, whichever comes first,
+     * but no longer than {@link #MAX_SLEEP}.
+     */
+    Duration getTimeUntilNextDeadline() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime deadline = LocalDate.now(clock).plusDays(1).atStartOfDay(clock.getZone());
+        Event earliestEvent = upcomingEvents.peek();
+        if (earliestEvent != null) {
+            ZonedDateTime eventTime = earliestEvent.getTimestamp().getFullTimestamp().atZone(clock.getZone());
+            if (eventTime.isBefore(deadline)) {
+                deadline = eventTime;
+            }
+        }
+        Duration timeUntilDeadline = Duration.between(now, deadline);
+        if (timeUntilDeadline.isNegative()) {
+            return Duration.ZERO;
+        }
+        return timeUntilDeadline.compareTo(MAX_SLEEP) > 0 ? MAX_SLEEP : timeUntilDeadline;
+    }
+
+    /**
+     * Updates the upcoming events with a change to the event list, and sleeps until the new next deadline.
      *
-     * @param timeNow The current system time.
-     * @return True if the system time is at day break, false otherwise.
+     * @param change The change made to the event list.
+     */
+    private void updateUpcomingEvents(ListChangeListener.Change<? extends Event> change) {
+        while (change.next()) {
+            for (Event removed : change.getRemoved()) {
+                upcomingEvents.remove(removed);
+            }
+            upcomingEvents.addAll(change.getAddedSubList());
+        }
+        if (scheduler != null) {
+            scheduleNextWakeUp();
+        }
+    }
+
+    /**
+     * Returns the current time according to the clock of this timekeeper.
      */
-    private boolean isAtDayBreak(Timestamp timeNow) {
-        LocalDate dateNow = timeNow.getDate();
-        LocalDate dateJustNow = timeNow.getDateJustNow();
-        return !dateNow.equals(dateJustNow);
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
     }
 
     /**
@@ -69,25 +209,23 @@ public class Timekeeper {
                 .toInstant()
                 .atZone(ZoneId.systemDefault())
                 .toLocalDateTime()
-                .withNano(0); // to accommodate for system time only being updated every 0.05 seconds
+                .withNano(0); // so that times parsed within the same second are equal
     }
 
     /**
      * Returns events with timestamps that are past the system time and tied to budgets that are still existing.
+     * Only the transpired events are looked at, found through the time index of the events.
      *
      * @return A list of transpired events.
      */
     public List<Event> getTranspiredEvents() {
         List<Event> eventsToNotify = new ArrayList<>();
         List<Event> toBeRemoved = new ArrayList<>();
-        for (Event event : events) {
-            Timestamp timestamp = event.getTimestamp();
-            if (hasTranspired(timestamp)) {
-                if (logic.hasBudgetWithName(event.getBudgetName())) {
-                    eventsToNotify.add(event);
-                } else { // the budget in which the event was added before does not exist anymore, so delete the event
-                    toBeRemoved.add(event);
-                }
+        for (Event event : logic.getMooLah().getEventsBefore(new Timestamp(now()))) {
+            if (logic.hasBudgetWithName(event.getBudgetName())) {
+                eventsToNotify.add(event);
+            } else { // the budget in which the event was added before does not exist anymore, so delete the event
+                toBeRemoved.add(event);
             }
         }
 
@@ -99,14 +237,17 @@ public class Timekeeper {
     }
 
     /**
-     * Creates then formats a list of reminders into a readable format.
+     * Creates then formats a list of reminders of the events in the coming {@link #THRESHOLD} days, in order of
+     * their timestamps, into a readable format.
      *
      * @return The String of reminders.
      */
     public String displayReminders() {
-        for (Event event : events) {
-            Optional<Reminder> potentialReminder = createReminderIfValid(event);
-            potentialReminder.ifPresent(reminder -> reminders.add(reminder));
+        LocalDateTime now = now();
+        List<Event> upcomingEvents = logic.getMooLah().getEventsBetween(new Timestamp(now),
+                new Timestamp(now.plusDays(THRESHOLD)));
+        for (Event event : upcomingEvents) {
+            reminders.add(new Reminder(event, now.until(event.getTimestamp().getFullTimestamp(), ChronoUnit.DAYS)));
         }
 
         StringBuilder remindersMessage =
@@ -131,29 +272,6 @@ public class Timekeeper {
         }
     }
 
-    /**
-     * Given an Event, create an Optional Reminder which will contain a Reminder
-     * if the Event is upcoming.
-     *
-     * @param event The Event which a Reminder may be made from.
-     * @return An Optional Reminder which may contain a Reminder of the Event.
-     */
-    private static Optional<Reminder> createReminderIfValid(Event event) {
-        Timestamp timestamp = event.getTimestamp();
-        long daysLeft = calculateDaysRemaining(timestamp);
-        return (isUrgent(timestamp)) ? Optional.of(new Reminder(event, daysLeft)) : Optional.empty();
-    }
-
-    private static long calculateDaysRemaining(Timestamp timestamp) {
-        long daysLeft = systemTime.getFullTimestamp().until(timestamp.getFullTimestamp(), ChronoUnit.DAYS);
-        return daysLeft;
-    }
-
-    private static boolean isUrgent(Timestamp timestamp) {
-        long daysLeft = calculateDaysRemaining(timestamp);
-        return daysLeft < THRESHOLD && !hasTranspired(timestamp);
-    }
-
     /**
      * Checks whether a timestamp has gone past the timestamp representing the current system time.
      *
@@ -161,7 +279,7 @@ public class Timekeeper {
      * @return Whether the timestamp has gone past system time.
      */
     public static boolean hasTranspired(Timestamp timestamp) {
-        return timestamp.isBefore(systemTime);
+        return timestamp.isBefore(Timestamp.getCurrentTimestamp());
     }
 
     /**
@@ -171,6 +289,6 @@ public class Timekeeper {
      * @return Whether the timestamp is still in the future.
      */
     public static boolean isFutureTimestamp(Timestamp timestamp) {
-        return timestamp.isAfter(systemTime);
+        return timestamp.isAfter(Timestamp.getCurrentTimestamp());
     }
 }
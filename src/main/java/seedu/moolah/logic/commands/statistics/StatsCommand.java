@@ -5,6 +5,7 @@ import static seedu.moolah.commons.core.Messages.MESSAGE_DISPLAY_STATISTICS_WITH
 import static seedu.moolah.logic.parser.CliSyntax.PREFIX_END_DATE;
 import static seedu.moolah.logic.parser.CliSyntax.PREFIX_START_DATE;
 
+import java.util.List;
 import java.util.Optional;
 
 import seedu.moolah.logic.commands.Command;
@@ -61,8 +62,8 @@ public class StatsCommand extends Command {
     protected CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Budget primaryBudget = model.getPrimaryBudget();
-        Statistics statistics = createPieChartStatistics(primaryBudget, statsDescriptor);
+        List<?> parameters = List.of(COMMAND_WORD, statsDescriptor.getStartDate(), statsDescriptor.getEndDate());
+        Statistics statistics = model.getOrCreateStatistics(parameters, this::createPieChartStatistics);
         model.setStatistics(statistics);
 
         return new CommandResult(MESSAGE_SUCCESS, false, false, StatsPanel.PANEL_NAME);
@@ -79,7 +80,7 @@ public class StatsCommand extends Command {
      * Creates and returns a {@code Statistics} with the details of {@code statsDescriptor}
      * and {@code primaryBudget} where necessary.
      */
-    private Statistics createPieChartStatistics(Budget primaryBudget, StatsDescriptor statsDescriptor) {
+    private Statistics createPieChartStatistics(Budget primaryBudget) {
         requireNonNull(primaryBudget);
         Optional<Timestamp> startDate = statsDescriptor.getStartDate();
         Optional<Timestamp> endDate = statsDescriptor.getEndDate();
@@ -97,10 +98,8 @@ public class StatsCommand extends Command {
             startDate = Optional.of(endDate.get().createBackwardTimestamp(primaryBudget.getBudgetPeriod()).plusDays(1));
         }
 
-        PieChartStatistics statistics = new PieChartStatistics(primaryBudget.getExpenses(),
+        return new PieChartStatistics(primaryBudget,
                 startDate.get(), endDate.get());
-        statistics.populateData();
-        return statistics;
 
     }
 
@@ -6,6 +6,7 @@ import static seedu.moolah.logic.parser.CliSyntax.PREFIX_FIRST_START_DATE;
 import static seedu.moolah.logic.parser.CliSyntax.PREFIX_SECOND_START_DATE;
 
 import java.time.Period;
+import java.util.List;
 
 import seedu.moolah.logic.commands.Command;
 import seedu.moolah.logic.commands.CommandGroup;
@@ -59,8 +60,8 @@ public class StatsCompareCommand extends Command {
     @Override
     protected CommandResult execute(Model model) {
         requireNonNull(model);
-        Budget primaryBudget = model.getPrimaryBudget();
-        Statistics statistics = createTabularStatistics(primaryBudget);
+        Statistics statistics = model.getOrCreateStatistics(
+                List.of(COMMAND_WORD, firstStartDate, secondStartDate), this::createTabularStatistics);
         model.setStatistics(statistics);
         return new CommandResult(MESSAGE_SUCCESS, false, false, StatsPanel.PANEL_NAME);
     }
@@ -85,12 +86,9 @@ public class StatsCompareCommand extends Command {
         Timestamp firstEndDate = new Timestamp(firstStartDate.getFullTimestamp().plus(period)).minusDays(1);
         Timestamp secondEndDate = new Timestamp(secondStartDate.getFullTimestamp().plus(period)).minusDays(1);
 
-        TabularStatistics statistics = new TabularStatistics(primaryBudget.getExpenses(),
+        return new TabularStatistics(primaryBudget,
                 firstStartDate, firstEndDate,
                 secondStartDate, secondEndDate);
-
-        statistics.populateData();
-        return statistics;
     }
 
 }
@@ -5,6 +5,7 @@ import static seedu.moolah.logic.parser.CliSyntax.PREFIX_END_DATE;
 import static seedu.moolah.logic.parser.CliSyntax.PREFIX_MODE;
 import static seedu.moolah.logic.parser.CliSyntax.PREFIX_START_DATE;
 
+import java.util.List;
 import java.util.Optional;
 
 import seedu.moolah.logic.commands.Command;
@@ -38,8 +39,6 @@ public class StatsTrendCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Statistics Trend Calculated!";
 
-    public static final int HALF_OF_PERIOD_NUMBER = TrendStatistics.INTERVAL_COUNT / 2;
-
     private StatsTrendDescriptor statsTrendDescriptor;
 
     /**
@@ -65,18 +64,22 @@ public class StatsTrendCommand extends Command {
     protected CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Budget primaryBudget = model.getPrimaryBudget();
-        Statistics statistics = createTrendStatistics(primaryBudget, statsTrendDescriptor);
+        int intervalCount = model.getUserPrefs().getTrendIntervalCount();
+        List<?> parameters = List.of(COMMAND_WORD, statsTrendDescriptor.getStartDate(),
+                statsTrendDescriptor.getEndDate(), statsTrendDescriptor.getMode(), intervalCount);
+        Statistics statistics = model.getOrCreateStatistics(parameters,
+            primaryBudget -> createTrendStatistics(primaryBudget, intervalCount));
         model.setStatistics(statistics);
         return new CommandResult(MESSAGE_SUCCESS, false, false, StatsPanel.PANEL_NAME);
     }
 
     /**
-     * Creates and returns a {@code Statistics} with the details of {@code statsTrendDescriptor}
-     * and {@code primaryBudget} where necessary.
+     * Creates and returns a {@code Statistics} of at most {@code intervalCount} intervals with the details of
+     * {@code statsTrendDescriptor} and {@code primaryBudget} where necessary.
      */
-    private Statistics createTrendStatistics(Budget primaryBudget, StatsTrendDescriptor statsTrendDescriptor) {
+    private Statistics createTrendStatistics(Budget primaryBudget, int intervalCount) {
         requireNonNull(primaryBudget);
+        int halfIntervalCount = intervalCount / 2;
         Optional<Timestamp> startDate = statsTrendDescriptor.getStartDate();
         Optional<Timestamp> endDate = statsTrendDescriptor.getEndDate();
 
@@ -87,21 +90,19 @@ public class StatsTrendCommand extends Command {
         if (!isStartPresent && !isEndPresent) {
             Timestamp centreDate = primaryBudget.getWindowStartDate();
             endDate = Optional.of(centreDate.createForwardTimestamp(primaryBudget.getBudgetPeriod(),
-                    StatsTrendCommand.HALF_OF_PERIOD_NUMBER));
+                    halfIntervalCount));
             startDate = Optional.of(centreDate.createBackwardTimestamp(primaryBudget.getBudgetPeriod(),
-                    StatsTrendCommand.HALF_OF_PERIOD_NUMBER));
+                    halfIntervalCount));
         } else if (isStartPresent && !isEndPresent) {
             endDate = Optional.of(startDate.get().createForwardTimestamp(primaryBudget.getBudgetPeriod(),
-                    2 * StatsTrendCommand.HALF_OF_PERIOD_NUMBER));
+                    intervalCount));
         } else if (!isStartPresent) {
             startDate = Optional.of(endDate.get().createBackwardTimestamp(primaryBudget.getBudgetPeriod(),
-                    2 * StatsTrendCommand.HALF_OF_PERIOD_NUMBER));
+                    intervalCount));
         }
 
-        TrendStatistics statistics = new TrendStatistics(startDate.get(), endDate.get(),
-                primaryBudget, statsTrendDescriptor.getMode());
-        statistics.populateData();
-        return statistics;
+        return new TrendStatistics(startDate.get(), endDate.get(),
+                primaryBudget, statsTrendDescriptor.getMode(), intervalCount);
     }
 
 
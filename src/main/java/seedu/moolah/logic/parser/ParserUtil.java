@@ -84,7 +84,7 @@ public class ParserUtil {
         if (!Category.isValidCategoryName(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(trimmedCategory);
+        return Category.of(trimmedCategory);
     }
 
 
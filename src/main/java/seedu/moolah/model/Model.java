@@ -1,7 +1,10 @@
 package seedu.moolah.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -193,6 +196,12 @@ public interface Model {
      */
     void addExpense(Expense expense);
 
+    /**
+     * Adds the given expenses in a single change.
+     * {@code expenses} must not already exist in the MooLah, nor be equivalent to one another.
+     */
+    void addExpenses(Collection<Expense> expenses);
+
     /**
      * Replaces the given expense {@code target} with {@code editedExpense}.
      * {@code target} must exist in the MooLah.
@@ -328,5 +337,12 @@ public interface Model {
 
     void setStatistics(Statistics statistics);
 
+    /**
+     * Returns the statistics created earlier with the same {@code parameters} for the primary budget, if that budget
+     * has not changed since. Otherwise, returns the statistics created by {@code creator} from a copy of the primary
+     * budget, which no later change to the model affects.
+     */
+    Statistics getOrCreateStatistics(List<?> parameters, Function<Budget, Statistics> creator);
+
     void handleAlreadyTranspiredEvents();
 }
@@ -6,8 +6,10 @@ import static seedu.moolah.logic.Timekeeper.hasTranspired;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -26,6 +28,7 @@ import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
 import seedu.moolah.model.modelhistory.ReadOnlyModelHistory;
 import seedu.moolah.model.statistics.Statistics;
+import seedu.moolah.model.statistics.StatisticsCache;
 
 /**
  * Represents the in-memory model of the MooLah data.
@@ -40,6 +43,7 @@ public class ModelManager implements Model {
     private final FilteredList<Event> filteredEvents;
     private final FilteredList<Budget> filteredBudgets;
     private Statistics statistics;
+    private final StatisticsCache statisticsCache = new StatisticsCache();
 
     /**
      * Initializes a ModelManager with the given MooLah, UserPrefs, and ModelHistory.
@@ -89,7 +93,7 @@ public class ModelManager implements Model {
     @Override
     public void applyChanges(ModelChanges changes) {
         requireNonNull(changes);
-        changes.getMooLah().ifPresent(this::setMooLah);
+        changes.getMooLahDelta().ifPresent(mooLah::applyDelta);
         changes.getUserPrefs().ifPresent(this::setUserPrefs);
         changes.getExpensePredicate().ifPresent(this::updateFilteredExpenseList);
         changes.getEventPredicate().ifPresent(this::updateFilteredEventList);
@@ -125,8 +129,8 @@ public class ModelManager implements Model {
     public void commit(String changeMessage, Model prevModel) {
         requireAllNonNull(changeMessage, prevModel);
         ModelChanges changes = ModelChanges.compareModels(changeMessage, prevModel, this);
-        modelHistory.addToPastChanges(changes);
         modelHistory.clearFutureChanges();
+        modelHistory.addToPastChanges(changes);
     }
 
     @Override
@@ -260,6 +264,13 @@ public class ModelManager implements Model {
         updateFilteredExpenseList(PREDICATE_SHOW_ALL_EXPENSES);
     }
 
+    @Override
+    public void addExpenses(Collection<Expense> expenses) {
+        requireNonNull(expenses);
+        mooLah.addExpenses(expenses);
+        updateFilteredExpenseList(PREDICATE_SHOW_ALL_EXPENSES);
+    }
+
     @Override
     public void setExpense(Expense target, Expense editedExpense) {
         requireAllNonNull(target, editedExpense);
@@ -438,6 +449,13 @@ public class ModelManager implements Model {
         this.statistics = statistics;
     }
 
+    @Override
+    public Statistics getOrCreateStatistics(List<?> parameters, Function<Budget, Statistics> creator) {
+        requireAllNonNull(parameters, creator);
+        Budget primaryBudget = getPrimaryBudget();
+        return statisticsCache.getOrCreate(primaryBudget, parameters, () -> creator.apply(primaryBudget.deepCopy()));
+    }
+
 
     //=========== Filtered Expense List Accessors =============================================================
 
@@ -1,10 +1,17 @@
 package seedu.moolah.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.moolah.model.budget.Budget.DEFAULT_BUDGET;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.budget.UniqueBudgetList;
@@ -12,8 +19,12 @@ import seedu.moolah.model.event.Event;
 import seedu.moolah.model.event.UniqueEventList;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.expense.UniqueExpenseList;
+import seedu.moolah.model.expense.exceptions.DuplicateExpenseException;
 import seedu.moolah.model.general.Description;
 import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.model.modelhistory.ListDelta;
+import seedu.moolah.model.modelhistory.ListHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 /**
  * Wraps all data at the MooLah level
@@ -21,10 +32,19 @@ import seedu.moolah.model.general.Timestamp;
  */
 public class MooLah implements ReadOnlyMooLah {
 
+    // Gives out versions which no MooLah has held before.
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
     private final UniqueExpenseList expenses;
     private final UniqueBudgetList budgets;
     private final UniqueEventList events;
 
+    private long version = VERSION_COUNTER.incrementAndGet();
+    // version of the budget list when this MooLah was last given a version, as budgets may be changed in place
+    private long budgetListVersion;
+    // updates the version with every change to the lists, which together hold all data of this MooLah
+    private final InvalidationListener versionUpdater = observable -> version = VERSION_COUNTER.incrementAndGet();
+
     public MooLah() {
         expenses = new UniqueExpenseList();
         budgets = new UniqueBudgetList();
@@ -32,10 +52,16 @@ public class MooLah implements ReadOnlyMooLah {
         db.setToPrimary();
         budgets.add(db);
         events = new UniqueEventList();
+
+        getExpenseList().addListener(versionUpdater);
+        getBudgetList().addListener(versionUpdater);
+        getEventList().addListener(versionUpdater);
+        budgetListVersion = budgets.getVersion();
     }
 
     /**
-     * Creates an MooLah using the Expenses in the {@code toBeCopied}
+     * Creates an MooLah using the Expenses in the {@code toBeCopied}.
+     * If {@code toBeCopied} is a {@code MooLah}, its lists are shared until either MooLah is modified.
      */
     public MooLah(ReadOnlyMooLah toBeCopied) {
         this();
@@ -47,6 +73,20 @@ public class MooLah implements ReadOnlyMooLah {
         return new MooLah(this);
     }
 
+    /**
+     * Returns a copy of this MooLah which, unlike {@link #copy()}, does not share its budgets, so that the copy is
+     * unaffected by budgets being refreshed in place. The copy keeps the version of this MooLah.
+     */
+    public MooLah deepCopy() {
+        MooLah copy = new MooLah();
+        copy.expenses.setExpenses(expenses);
+        copy.budgets.copyBudgets(budgets);
+        copy.events.setEvents(events);
+        copy.version = getVersion();
+        copy.budgetListVersion = budgetListVersion;
+        return copy;
+    }
+
     //// list overwrite operations
 
     /**
@@ -75,11 +115,50 @@ public class MooLah implements ReadOnlyMooLah {
     public void resetData(ReadOnlyMooLah newData) {
         requireNonNull(newData);
 
+        if (newData instanceof MooLah) {
+            // shares the already unique lists of newData, which are copied only when either side is modified
+            MooLah other = (MooLah) newData;
+            expenses.setExpenses(other.expenses);
+            budgets.setBudgets(other.budgets);
+            events.setEvents(other.events);
+            version = other.getVersion();
+            budgetListVersion = other.budgetListVersion;
+            return;
+        }
+
         setExpenses(newData.getExpenseList());
         setBudgets(newData.getBudgetList());
         setEvents(newData.getEventList());
     }
 
+    /**
+     * Applies {@code delta} to this {@code MooLah}, replacing only the recorded ranges of each list.
+     */
+    public void applyDelta(MooLahDelta delta) {
+        requireNonNull(delta);
+
+        ListDelta<Expense> expenseDelta = delta.getExpenseDelta();
+        if (expenseDelta.isApplicableTo(getExpenseList())) {
+            expenses.replaceRange(expenseDelta.getFromIndex(), expenseDelta.getToIndex(), expenseDelta.getAdded());
+        } else {
+            setExpenses(expenseDelta.applyTo(getExpenseList()));
+        }
+
+        ListDelta<Budget> budgetDelta = delta.getBudgetDelta();
+        if (budgetDelta.isApplicableTo(getBudgetList())) {
+            budgets.replaceRange(budgetDelta.getFromIndex(), budgetDelta.getToIndex(), budgetDelta.getAdded());
+        } else {
+            setBudgets(budgetDelta.applyTo(getBudgetList()));
+        }
+
+        ListDelta<Event> eventDelta = delta.getEventDelta();
+        if (eventDelta.isApplicableTo(getEventList())) {
+            events.replaceRange(eventDelta.getFromIndex(), eventDelta.getToIndex(), eventDelta.getAdded());
+        } else {
+            setEvents(eventDelta.applyTo(getEventList()));
+        }
+    }
+
     //=========== Expense-level operations =============================================================
 
     /**
@@ -113,6 +192,36 @@ public class MooLah implements ReadOnlyMooLah {
         expenses.add(p);
     }
 
+    /**
+     * Adds the given expenses to the MooLah, each to its own budget or, if it names none, to the primary budget.
+     * Each budget is copied once, however many expenses it receives, and the expense list changes once.
+     * The expenses must not already exist in the MooLah, nor be equivalent to one another.
+     */
+    public void addExpenses(Collection<Expense> toAdd) {
+        requireAllNonNull(toAdd);
+        // checked before any expense is given a budget, so that a rejected batch is left unchanged
+        if (!expenses.canAddAll(toAdd)) {
+            throw new DuplicateExpenseException();
+        }
+
+        Budget primaryBudget = budgets.getPrimaryBudget();
+        Map<Description, List<Expense>> expensesByBudgetName = new LinkedHashMap<>();
+        for (Expense expense : toAdd) {
+            if (expense.getBudgetName() == null) {
+                expense.setBudget(primaryBudget);
+            }
+            expensesByBudgetName.computeIfAbsent(expense.getBudgetName(), name -> new ArrayList<>()).add(expense);
+        }
+
+        expenses.addAll(toAdd);
+        for (Map.Entry<Description, List<Expense>> entry : expensesByBudgetName.entrySet()) {
+            Budget budget = budgets.getBudgetWithName(entry.getKey());
+            if (budget != null) {
+                budgets.addExpenses(budget, entry.getValue());
+            }
+        }
+    }
+
     /**
      * Replaces the given expense {@code target} in the list with {@code editedExpense}.
      * {@code target} must exist in the MooLah.
@@ -317,6 +426,36 @@ public class MooLah implements ReadOnlyMooLah {
         // TODO: refine later
     }
 
+    @Override
+    public long getVersion() {
+        long currentBudgetListVersion = budgets.getVersion();
+        if (currentBudgetListVersion != budgetListVersion) {
+            budgetListVersion = currentBudgetListVersion;
+            version = VERSION_COUNTER.incrementAndGet();
+        }
+        return version;
+    }
+
+    public long getExpenseListVersion() {
+        return expenses.getVersion();
+    }
+
+    public long getBudgetListVersion() {
+        return budgets.getVersion();
+    }
+
+    public long getEventListVersion() {
+        return events.getVersion();
+    }
+
+    public ListHistory getExpenseListHistory() {
+        return expenses.getHistory();
+    }
+
+    public ListHistory getEventListHistory() {
+        return events.getHistory();
+    }
+
     @Override
     public ObservableList<Expense> getExpenseList() {
         return expenses.asUnmodifiableObservableList();
@@ -332,6 +471,16 @@ public class MooLah implements ReadOnlyMooLah {
         return events.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Event> getEventsBefore(Timestamp timestamp) {
+        return events.getEventsBefore(timestamp);
+    }
+
+    @Override
+    public List<Event> getEventsBetween(Timestamp startTimestamp, Timestamp endTimestamp) {
+        return events.getEventsBetween(startTimestamp, endTimestamp);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
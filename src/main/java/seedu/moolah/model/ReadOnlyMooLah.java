@@ -1,9 +1,12 @@
 package seedu.moolah.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.event.Event;
 import seedu.moolah.model.expense.Expense;
+import seedu.moolah.model.general.Timestamp;
 
 /**
  * Unmodifiable view of a MooLah
@@ -33,6 +36,23 @@ public interface ReadOnlyMooLah {
      */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns the events with timestamps before {@code timestamp}, in order of their timestamps.
+     */
+    List<Event> getEventsBefore(Timestamp timestamp);
+
+    /**
+     * Returns the events with timestamps from {@code startTimestamp}, inclusive, to {@code endTimestamp},
+     * exclusive, in order of their timestamps.
+     */
+    List<Event> getEventsBetween(Timestamp startTimestamp, Timestamp endTimestamp);
+
     String getPrimaryBudgetName();
 
+    /**
+     * Returns the version of the data of this MooLah. Copies of a MooLah have its version, and every change gives
+     * it a version which no MooLah has held before, so two MooLahs with the same version hold the same data.
+     */
+    long getVersion();
+
 }
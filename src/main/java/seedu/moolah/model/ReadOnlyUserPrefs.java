@@ -22,6 +22,11 @@ public interface ReadOnlyUserPrefs {
 
     AliasMappings getAliasMappings();
 
+    /**
+     * Returns the maximum number of intervals shown by a statistics trend.
+     */
+    int getTrendIntervalCount();
+
     Alias getAlias(String aliasName);
 
     boolean hasAlias(String aliasName);
@@ -30,4 +35,10 @@ public interface ReadOnlyUserPrefs {
 
     boolean aliasCommandWordIsAlias(Alias alias);
 
+    /**
+     * Returns the version of these preferences. Copies of preferences have their version, and every change gives
+     * them a version which no preferences have held before, so preferences with the same version are equal.
+     */
+    long getVersion();
+
 }
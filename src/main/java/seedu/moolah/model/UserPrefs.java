@@ -1,23 +1,32 @@
 package seedu.moolah.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.moolah.commons.core.GuiSettings;
 import seedu.moolah.model.alias.Alias;
 import seedu.moolah.model.alias.AliasMappings;
+import seedu.moolah.model.statistics.TrendStatistics;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    // Gives out versions which no preferences have held before.
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path mooLahFilePath = Paths.get("data" , "moolah.json");
     private AliasMappings aliasMappings = new AliasMappings();
+    private int trendIntervalCount = TrendStatistics.DEFAULT_INTERVAL_COUNT;
+    // Only meaningful within this process, so it is never written to or read from the prefs file.
+    private transient long version = VERSION_COUNTER.incrementAndGet();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +49,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setMooLahFilePath(newUserPrefs.getMooLahFilePath());
         setAliasMappings(newUserPrefs.getAliasMappings());
+        setTrendIntervalCount(newUserPrefs.getTrendIntervalCount());
+        version = newUserPrefs.getVersion();
     }
 
     @Override
@@ -54,6 +65,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         this.guiSettings = guiSettings;
+        version = VERSION_COUNTER.incrementAndGet();
     }
 
     public Path getMooLahFilePath() {
@@ -63,6 +75,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setMooLahFilePath(Path mooLahFilePath) {
         requireNonNull(mooLahFilePath);
         this.mooLahFilePath = mooLahFilePath;
+        version = VERSION_COUNTER.incrementAndGet();
     }
 
     public AliasMappings getAliasMappings() {
@@ -72,10 +85,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setAliasMappings(AliasMappings aliasMappings) {
         requireNonNull(aliasMappings);
         this.aliasMappings = aliasMappings.copy();
+        version = VERSION_COUNTER.incrementAndGet();
+    }
+
+    public int getTrendIntervalCount() {
+        return trendIntervalCount;
+    }
+
+    /**
+     * Sets the maximum number of intervals shown by a statistics trend.
+     */
+    public void setTrendIntervalCount(int trendIntervalCount) {
+        checkArgument(trendIntervalCount > 0, TrendStatistics.MESSAGE_CONSTRAINTS);
+        this.trendIntervalCount = trendIntervalCount;
+        version = VERSION_COUNTER.incrementAndGet();
     }
 
+    /**
+     * Removes the user defined {@code Alias} with the given name, if there is one.
+     *
+     * @return True if an alias was removed.
+     */
     public boolean removeAliasWithName(String name) {
-        return aliasMappings.removeAlias(name);
+        boolean isRemoved = aliasMappings.removeAlias(name);
+        if (isRemoved) {
+            version = VERSION_COUNTER.incrementAndGet();
+        }
+        return isRemoved;
     }
 
     /**
@@ -85,6 +121,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void addUserAlias(Alias alias) {
         requireNonNull(alias);
         this.aliasMappings = aliasMappings.addAlias(alias);
+        version = VERSION_COUNTER.incrementAndGet();
     }
 
     public Alias getAlias(String aliasName) {
@@ -92,6 +129,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return this.aliasMappings.getAlias(aliasName);
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean hasAlias(String aliasName) {
         return this.aliasMappings.aliasWithNameExists(aliasName);
@@ -129,12 +171,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && mooLahFilePath.equals(o.mooLahFilePath)
-                && aliasMappings.equals(o.aliasMappings);
+                && aliasMappings.equals(o.aliasMappings)
+                && trendIntervalCount == o.trendIntervalCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, mooLahFilePath, aliasMappings);
+        return Objects.hash(guiSettings, mooLahFilePath, aliasMappings, trendIntervalCount);
     }
 
     @Override
@@ -142,6 +185,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + mooLahFilePath);
+        sb.append("\nTrend interval count : " + trendIntervalCount);
         return sb.toString();
     }
 
@@ -3,15 +3,24 @@ package seedu.moolah.model.budget;
 import static java.util.Objects.requireNonNull;
 import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.general.Description;
 import seedu.moolah.model.general.Price;
 import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.model.statistics.DailyCategoryTotals;
+import seedu.moolah.model.util.CopyOnWriteObservableList;
 
 /**
  * Represents a Budget in MooLah.
@@ -19,6 +28,8 @@ import seedu.moolah.model.general.Timestamp;
  */
 public class Budget {
     public static final Description DEFAULT_BUDGET_DESCRIPTION = new Description("Default Budget");
+    // Gives out versions which no budget has held before, so it must be initialized before any budget is.
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
     private static final Price DEFAULT_BUDGET_AMOUNT = Price.MAX_PRICE;
     private static final Timestamp DEFAULT_BUDGET_START_DATE = Timestamp.EARLIEST_TIMESTAMP;
     private static final BudgetPeriod DEFAULT_BUDGET_PERIOD = BudgetPeriod.INFINITY;
@@ -34,27 +45,43 @@ public class Budget {
     private final Description description;
     private final Price amount;
     private final BudgetWindow window;
-    private ObservableList<Expense> expenses;
+    private final ObservableList<Expense> expenses;
     private boolean isPrimary;
 
+    // Keeps currentPeriodCents and the version up to date with every change to the expense list, however it is made.
+    private final ListChangeListener<Expense> expensesListener = this::onExpensesChanged;
+    private long currentPeriodCents;
+    private long version = VERSION_COUNTER.incrementAndGet();
+    private DailyCategoryTotals dailyCategoryTotals;
+
     //Constructor for user input, four fields.
     public Budget(Description description, Price amount, Timestamp startDate, BudgetPeriod period) {
-        requireAllNonNull(description, amount, startDate, period);
-
-        this.description = description;
-        this.amount = amount;
-        this.window = new BudgetWindow(startDate, period);
-        this.expenses = FXCollections.observableArrayList();
+        this(description, amount, startDate, period, new CopyOnWriteObservableList<>(), false);
     }
 
     //Constructor for system, six fields.
     public Budget(Description description, Price amount, Timestamp startDate, BudgetPeriod period,
                   ObservableList<Expense> expenses, boolean isPrimary) {
-        this(description, amount, startDate, period);
+        this(description, amount, new BudgetWindow(startDate, period), expenses, isPrimary, -1);
+    }
+
+    /**
+     * Constructs a budget with the given window, which must not be shared with any other budget.
+     *
+     * @param currentPeriodCents The sum of prices of the expenses within the window in cents,
+     *     or -1 if it is to be calculated.
+     */
+    private Budget(Description description, Price amount, BudgetWindow window, ObservableList<Expense> expenses,
+                   boolean isPrimary, long currentPeriodCents) {
+        requireAllNonNull(description, amount, window, expenses);
 
-        requireNonNull(expenses);
+        this.description = description;
+        this.amount = amount;
+        this.window = window;
         this.expenses = expenses;
         this.isPrimary = isPrimary;
+        this.currentPeriodCents = currentPeriodCents < 0 ? sumCurrentPeriodExpenses() : currentPeriodCents;
+        expenses.addListener(new WeakListChangeListener<>(expensesListener));
     }
 
     public Description getDescription() {
@@ -65,6 +92,14 @@ public class Budget {
         return this.amount;
     }
 
+    /**
+     * Returns the version of the contents of this budget. Copies of a budget have its version, and every change to
+     * the expenses or window of a budget gives it a version which no budget has held before.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
     public Timestamp getWindowStartDate() {
         return this.window.getStartDate();
     }
@@ -81,6 +116,17 @@ public class Budget {
         return this.expenses;
     }
 
+    /**
+     * Returns the totals of the expenses of this budget for each day and category, building them on first use.
+     * Copies of this budget carry on from the totals of this budget, so that they are only built once.
+     */
+    public DailyCategoryTotals getDailyCategoryTotals() {
+        if (dailyCategoryTotals == null) {
+            dailyCategoryTotals = new DailyCategoryTotals(this.expenses);
+        }
+        return dailyCategoryTotals;
+    }
+
     public boolean isPrimary() {
         return isPrimary;
     }
@@ -105,13 +151,19 @@ public class Budget {
     /**
      * Makes a deep copy of this budget.
      *
-     * @return A deep copy of the budget, with identical attributes. The expense list is deep copied.
+     * @return A deep copy of the budget, with identical attributes. The expense list is copied on write,
+     *     so the copy shares its expenses with this budget until either expense list is modified.
      */
     public Budget deepCopy() {
-        ObservableList<Expense> expensesCopy = FXCollections.observableArrayList(this.expenses);
-        Budget budget = new Budget(this.description, this.amount, this.getWindowStartDate(),
-                this.getBudgetPeriod(), expensesCopy, this.isPrimary);
-        return budget;
+        ObservableList<Expense> expensesCopy = CopyOnWriteObservableList.copyOf(this.expenses);
+        BudgetWindow windowCopy = new BudgetWindow(this.getWindowStartDate(), this.getBudgetPeriod());
+        long centsCopy = windowCopy.equals(this.window) ? this.currentPeriodCents : -1;
+        Budget copy = new Budget(this.description, this.amount, windowCopy, expensesCopy, this.isPrimary, centsCopy);
+        if (this.dailyCategoryTotals != null) {
+            copy.dailyCategoryTotals = this.dailyCategoryTotals.copyFor(expensesCopy);
+        }
+        copy.version = this.version;
+        return copy;
     }
 
     /**
@@ -127,7 +179,7 @@ public class Budget {
             return this; // default budget has "infinity" period, no need to normalize
         }
         Budget copy = this.deepCopy();
-        copy.window.normalize(anchor);
+        copy.normalizeWindow(anchor);
         return copy;
     }
 
@@ -136,7 +188,20 @@ public class Budget {
      */
     public void refresh() {
         if (!this.isDefaultBudget()) {
-            this.window.normalize(Timestamp.getCurrentTimestamp());
+            normalizeWindow(Timestamp.getCurrentTimestamp());
+        }
+    }
+
+    /**
+     * Normalizes the window of this budget to the period containing the specified timestamp,
+     * recalculating the sum of expenses within the window only if the window moves.
+     */
+    private void normalizeWindow(Timestamp anchor) {
+        BudgetWindow oldWindow = new BudgetWindow(getWindowStartDate(), getBudgetPeriod());
+        this.window.normalize(anchor);
+        if (!this.window.equals(oldWindow)) {
+            currentPeriodCents = sumCurrentPeriodExpenses();
+            version = VERSION_COUNTER.incrementAndGet();
         }
     }
 
@@ -153,6 +218,25 @@ public class Budget {
         }
     }
 
+    /**
+     * Adds the specified expenses to this budget's expense list in a single change. Duplicates, whether of expenses
+     * already in the list or of each other, are not added.
+     *
+     * @param toAdd The expenses to add.
+     */
+    public void addExpenses(Collection<Expense> toAdd) {
+        requireAllNonNull(toAdd);
+
+        Set<Expense> present = new HashSet<>(this.expenses);
+        List<Expense> newExpenses = new ArrayList<>();
+        for (Expense expense : toAdd) {
+            if (present.add(expense)) {
+                newExpenses.add(expense);
+            }
+        }
+        this.expenses.addAll(newExpenses);
+    }
+
     /**
      * Removes the specified expense from this budget's expense list.
      *
@@ -209,13 +293,11 @@ public class Budget {
      */
     public ObservableList<Expense> getCurrentPeriodExpenses() {
         ObservableList<Expense> currentPeriodExpenses = FXCollections.observableArrayList();
-        if (this.expenses != null) {
-            this.expenses.stream().forEach(e -> {
-                if (withinCurrentPeriod(e)) {
-                    currentPeriodExpenses.add(e);
-                }
-            });
-        }
+        this.expenses.stream().forEach(e -> {
+            if (withinCurrentPeriod(e)) {
+                currentPeriodExpenses.add(e);
+            }
+        });
         return currentPeriodExpenses;
     }
 
@@ -231,19 +313,66 @@ public class Budget {
     }
 
     /**
-     * Calculates the sum of expenses within the current budgeting period.
+     * Sums the prices of all expenses within the current budgeting period.
      *
-     * @return A double representing the sum of prices of expenses within the current budgeting period.
+     * @return The sum of prices of expenses within the current budgeting period in cents,
+     *     or {@link Price#UNCOUNTABLE_CENTS} if it is too large to be counted.
      */
-    public double calculateExpenseSum() {
-        List<Expense> currentExpenses = getCurrentPeriodExpenses();
-        double sum = 0;
-        for (Expense expense : currentExpenses) {
-            sum += expense.getPrice().getAsDouble();
+    private long sumCurrentPeriodExpenses() {
+        long sum = 0;
+        for (Expense expense : this.expenses) {
+            if (withinCurrentPeriod(expense)) {
+                sum = Price.addCents(sum, expense.getPrice().getCents());
+            }
         }
         return sum;
     }
 
+    /**
+     * Updates the version of this budget with a change to the expense list.
+     *
+     * @param change The change made to the expense list.
+     */
+    private void onExpensesChanged(ListChangeListener.Change<? extends Expense> change) {
+        version = VERSION_COUNTER.incrementAndGet();
+        updateCurrentPeriodCents(change);
+    }
+
+    /**
+     * Updates the sum of expenses within the current budgeting period with a change to the expense list.
+     *
+     * @param change The change made to the expense list.
+     */
+    private void updateCurrentPeriodCents(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            for (Expense removed : change.getRemoved()) {
+                if (withinCurrentPeriod(removed)) {
+                    if (currentPeriodCents == Price.UNCOUNTABLE_CENTS) {
+                        // the parts of an uncountable sum are unknown, so it has to be summed again
+                        currentPeriodCents = sumCurrentPeriodExpenses();
+                        return;
+                    }
+                    currentPeriodCents -= removed.getPrice().getCents();
+                }
+            }
+            for (Expense added : change.getAddedSubList()) {
+                if (withinCurrentPeriod(added)) {
+                    currentPeriodCents = Price.addCents(currentPeriodCents, added.getPrice().getCents());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of expenses within the current budgeting period.
+     * The sum is kept up to date as expenses change, so this takes constant time.
+     *
+     * @return A double representing the sum of prices of expenses within the current budgeting period.
+     */
+    public double calculateExpenseSum() {
+        return Price.toDollars(currentPeriodCents);
+    }
+
     /**
      * Calculates the proportion of budget used in the current period.
      *
@@ -277,7 +406,7 @@ public class Budget {
      * @return True if expense sum is more than budget limit, false otherwise.
      */
     public boolean isExceeded() {
-        return calculateExpenseSum() > amount.getAsDouble();
+        return currentPeriodCents > amount.getCents();
     }
 
     /**
@@ -3,9 +3,13 @@ package seedu.moolah.model.budget;
 import static java.util.Objects.requireNonNull;
 import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javafx.beans.InvalidationListener;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.moolah.model.budget.exceptions.BudgetNotFoundException;
@@ -15,6 +19,7 @@ import seedu.moolah.model.budget.exceptions.SwitchToFuturePeriodException;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.general.Description;
 import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.model.util.CopyOnWriteObservableList;
 
 /**
  * A list of budgets that enforces uniqueness between its elements and does not allow nulls.
@@ -29,9 +34,20 @@ import seedu.moolah.model.general.Timestamp;
  * @see Budget#isSameBudget(Budget)
  */
 public class UniqueBudgetList implements Iterable<Budget> {
-    private final ObservableList<Budget> internalList = FXCollections.observableArrayList();
+    // Gives out versions which no budget list has held before.
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
+    private final ObservableList<Budget> internalList = new CopyOnWriteObservableList<>();
     private final ObservableList<Budget> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long version = VERSION_COUNTER.incrementAndGet();
+    // sum of the versions of the budgets when the list was last given a version, which grows whenever a budget in
+    // the list is changed in place, as by Budget#refresh()
+    private long budgetVersionSum;
+
+    public UniqueBudgetList() {
+        internalList.addListener((InvalidationListener) observable -> updateVersion());
+    }
 
     /**
      * Checks whether the list contains an equivalent budget as the given argument.
@@ -86,12 +102,15 @@ public class UniqueBudgetList implements Iterable<Budget> {
 
     /**
      * Sets the budgets in the list from an existing UniqueBudgetList.
+     * Both lists share their backing budgets until either of them is modified.
      *
      * @param replacement The given UniqueBudgetList.
      */
     public void setBudgets(UniqueBudgetList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        version = replacement.getVersion();
+        budgetVersionSum = replacement.budgetVersionSum;
     }
 
     /**
@@ -109,6 +128,34 @@ public class UniqueBudgetList implements Iterable<Budget> {
         internalList.setAll(budgets);
     }
 
+    /**
+     * Sets the budgets in the list to copies of the budgets of an existing UniqueBudgetList, so that the list is
+     * unaffected by budgets of {@code replacement} being changed in place. The list keeps the version of
+     * {@code replacement}.
+     *
+     * @param replacement The given UniqueBudgetList.
+     */
+    public void copyBudgets(UniqueBudgetList replacement) {
+        requireNonNull(replacement);
+        List<Budget> copies = new ArrayList<>(replacement.internalList.size());
+        for (Budget budget : replacement.internalList) {
+            copies.add(budget.deepCopy());
+        }
+        internalList.setAll(copies);
+        version = replacement.getVersion();
+        budgetVersionSum = replacement.budgetVersionSum;
+    }
+
+    /**
+     * Replaces the budgets from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     * The resulting list must not contain duplicate budgets.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<Budget> replacement) {
+        requireAllNonNull(replacement);
+        internalList.remove(fromIndex, toIndex);
+        internalList.addAll(fromIndex, replacement);
+    }
+
     /**
      * Removes an expense from its corresponding budget.
      *
@@ -330,6 +377,54 @@ public class UniqueBudgetList implements Iterable<Budget> {
         internalList.set(index, editedBudget.deepCopy());
     }
 
+    /**
+     * Adds {@code toAdd} to the expenses of {@code budget}, replacing the budget with a single copy holding them.
+     *
+     * @param budget The budget in this list to add the expenses to.
+     * @param toAdd The expenses to add.
+     */
+    public void addExpenses(Budget budget, Collection<Expense> toAdd) {
+        requireAllNonNull(budget, toAdd);
+
+        int index = internalList.indexOf(budget);
+        if (index == -1) {
+            throw new BudgetNotFoundException();
+        }
+        Budget copy = budget.deepCopy();
+        copy.addExpenses(toAdd);
+        internalList.set(index, copy);
+    }
+
+    /**
+     * Returns the version of the contents of this list. A list which shares the contents of another list has its
+     * version, and every change gives the list a version which no budget list has held before.
+     */
+    public long getVersion() {
+        if (sumBudgetVersions() != budgetVersionSum) {
+            updateVersion();
+        }
+        return version;
+    }
+
+    /**
+     * Gives the list a version which no budget list has held before.
+     */
+    private void updateVersion() {
+        version = VERSION_COUNTER.incrementAndGet();
+        budgetVersionSum = sumBudgetVersions();
+    }
+
+    /**
+     * Returns the sum of the versions of the budgets in the list.
+     */
+    private long sumBudgetVersions() {
+        long sum = 0;
+        for (Budget budget : internalList) {
+            sum += budget.getVersion();
+        }
+        return sum;
+    }
+
     /**
      * Checks if this UniqueBudgetList is empty.
      *
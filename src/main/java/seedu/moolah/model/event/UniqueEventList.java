@@ -3,13 +3,26 @@ package seedu.moolah.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.moolah.model.event.exceptions.DuplicateEventException;
 import seedu.moolah.model.event.exceptions.EventNotFoundException;
+import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.model.modelhistory.ListHistory;
+import seedu.moolah.model.util.CopyOnWriteObservableList;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -20,21 +33,65 @@ import seedu.moolah.model.event.exceptions.EventNotFoundException;
  * as to ensure that the event with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The events are also indexed by identity and by timestamp, so that checking for an event takes O(1) time and
+ * finding the k events within a range of time takes O(log n + k) time. The index is built on the first query after
+ * the list is replaced, so that copying a list stays O(1), and is kept up to date with every change after that.
  *
  * @see Event#equals(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    // Gives out versions which no event list has held before.
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
+    private final ObservableList<Event> internalList = new CopyOnWriteObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // the events by identity, counting any equal events, or null if the index is yet to be built
+    private Map<Event, Integer> eventCounts;
+    private NavigableMap<LocalDateTime, List<Event>> eventsByTime;
+    private long version = VERSION_COUNTER.incrementAndGet();
+    private ListHistory history = ListHistory.startingAt(version);
+
+    public UniqueEventList() {
+        internalList.addListener(this::updateIndex);
+        internalList.addListener((ListChangeListener<Event>) change -> {
+            version = VERSION_COUNTER.incrementAndGet();
+            history = history.after(change, version);
+        });
+    }
+
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        ensureIndex();
+        return eventCounts.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the events with timestamps before {@code timestamp}, in order of their timestamps.
+     */
+    public List<Event> getEventsBefore(Timestamp timestamp) {
+        requireNonNull(timestamp);
+        ensureIndex();
+        return flatten(eventsByTime.headMap(timestamp.getFullTimestamp(), false).values());
+    }
+
+    /**
+     * Returns the events with timestamps from {@code startTimestamp}, inclusive, to {@code endTimestamp},
+     * exclusive, in order of their timestamps.
+     */
+    public List<Event> getEventsBetween(Timestamp startTimestamp, Timestamp endTimestamp) {
+        requireAllNonNull(startTimestamp, endTimestamp);
+        ensureIndex();
+        if (!startTimestamp.isBefore(endTimestamp)) {
+            return new ArrayList<>();
+        }
+        return flatten(eventsByTime.subMap(startTimestamp.getFullTimestamp(), true,
+                endTimestamp.getFullTimestamp(), false).values());
     }
 
     /**
@@ -60,9 +117,16 @@ public class UniqueEventList implements Iterable<Event> {
         }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * Both lists share their backing events until either of them is modified.
+     */
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
+        clearIndex();
         internalList.setAll(replacement.internalList);
+        version = replacement.version;
+        history = replacement.history;
     }
 
     /**
@@ -75,9 +139,20 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
+        clearIndex();
         internalList.setAll(events);
     }
 
+    /**
+     * Replaces the events from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     * The resulting list must not contain duplicate events.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<Event> replacement) {
+        requireAllNonNull(replacement);
+        internalList.remove(fromIndex, toIndex);
+        internalList.addAll(fromIndex, replacement);
+    }
+
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
@@ -98,6 +173,21 @@ public class UniqueEventList implements Iterable<Event> {
         internalList.set(index, editedEvent);
     }
 
+    /**
+     * Returns the version of the contents of this list. A list which shares the contents of another list has its
+     * version, and every change gives the list a version which no event list has held before.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the recent changes to this list, up to its current version.
+     */
+    public ListHistory getHistory() {
+        return history;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -126,14 +216,79 @@ public class UniqueEventList implements Iterable<Event> {
      * Returns true if {@code events} contains only unique events.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).equals(events.get(j))) {
-                    return false;
-                }
+        return new HashSet<>(events).size() == events.size();
+    }
+
+    /**
+     * Returns the events in {@code eventLists}, in order.
+     */
+    private static List<Event> flatten(Collection<List<Event>> eventLists) {
+        List<Event> result = new ArrayList<>();
+        for (List<Event> eventList : eventLists) {
+            result.addAll(eventList);
+        }
+        return result;
+    }
+
+    /**
+     * Drops the index, so that it is rebuilt on the next query.
+     */
+    private void clearIndex() {
+        eventCounts = null;
+        eventsByTime = null;
+    }
+
+    /**
+     * Builds the index of the events if it has been dropped.
+     */
+    private void ensureIndex() {
+        if (eventCounts != null) {
+            return;
+        }
+        eventCounts = new HashMap<>();
+        eventsByTime = new TreeMap<>();
+        for (Event event : internalList) {
+            addToIndex(event);
+        }
+    }
+
+    /**
+     * Updates the index, if it has been built, with a change to the backing list.
+     *
+     * @param change The change made to the backing list.
+     */
+    private void updateIndex(ListChangeListener.Change<? extends Event> change) {
+        if (eventCounts == null) {
+            return;
+        }
+        while (change.next()) {
+            for (Event removed : change.getRemoved()) {
+                removeFromIndex(removed);
             }
+            for (Event added : change.getAddedSubList()) {
+                addToIndex(added);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code event} to the index.
+     */
+    private void addToIndex(Event event) {
+        eventCounts.merge(event, 1, Integer::sum);
+        eventsByTime.computeIfAbsent(event.getTimestamp().getFullTimestamp(), time -> new ArrayList<>(1)).add(event);
+    }
+
+    /**
+     * Removes {@code event} from the index.
+     */
+    private void removeFromIndex(Event event) {
+        eventCounts.computeIfPresent(event, (key, count) -> count == 1 ? null : count - 1);
+        LocalDateTime time = event.getTimestamp().getFullTimestamp();
+        List<Event> eventsAtTime = eventsByTime.get(time);
+        if (eventsAtTime != null && eventsAtTime.remove(event) && eventsAtTime.isEmpty()) {
+            eventsByTime.remove(time);
         }
-        return true;
     }
 }
 
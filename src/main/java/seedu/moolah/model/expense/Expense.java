@@ -62,12 +62,12 @@ public class Expense {
     }
 
     public Expense(MenuItem menuItem, UniqueIdentifier uniqueIdentifier) {
-        this(menuItem.getDescription(), menuItem.getPrice(), new Category("FOOD"),
+        this(menuItem.getDescription(), menuItem.getPrice(), Category.of("FOOD"),
                 uniqueIdentifier);
     }
 
     public Expense(MenuItem menuItem, Timestamp timestamp, UniqueIdentifier uniqueIdentifier) {
-        this(menuItem.getDescription(), menuItem.getPrice(), new Category("FOOD"),
+        this(menuItem.getDescription(), menuItem.getPrice(), Category.of("FOOD"),
                 timestamp, uniqueIdentifier);
     }
 
@@ -3,13 +3,22 @@ package seedu.moolah.model.expense;
 import static java.util.Objects.requireNonNull;
 import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.moolah.model.expense.exceptions.DuplicateExpenseException;
 import seedu.moolah.model.expense.exceptions.ExpenseNotFoundException;
+import seedu.moolah.model.modelhistory.ListHistory;
+import seedu.moolah.model.util.CopyOnWriteObservableList;
 
 /**
  * A list of expenses that enforces uniqueness between its elements and does not allow nulls.
@@ -20,21 +29,38 @@ import seedu.moolah.model.expense.exceptions.ExpenseNotFoundException;
  * as to ensure that the expense with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The position of each expense is indexed by its unique identifier, so that looking up an expense takes constant time.
+ * The index is built on first use after the list is replaced, so that copying a list stays cheap.
  *
  * @see Expense#isSameExpense(Expense)
  */
 public class UniqueExpenseList implements Iterable<Expense> {
 
-    private final ObservableList<Expense> internalList = FXCollections.observableArrayList();
+    // Gives out versions which no expense list has held before.
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
+    private final ObservableList<Expense> internalList = new CopyOnWriteObservableList<>();
     private final ObservableList<Expense> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Position of each expense in internalList by its unique identifier, or null if it has yet to be built.
+    private Map<UniqueIdentifier, Integer> positions = new HashMap<>();
+    private long version = VERSION_COUNTER.incrementAndGet();
+    private ListHistory history = ListHistory.startingAt(version);
+
+    public UniqueExpenseList() {
+        internalList.addListener((ListChangeListener<Expense>) change -> {
+            version = VERSION_COUNTER.incrementAndGet();
+            history = history.after(change, version);
+        });
+    }
+
     /**
      * Returns true if the list contains an equivalent expense as the given argument.
      */
     public boolean contains(Expense toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameExpense);
+        return getPositions().containsKey(toCheck.getUniqueIdentifier());
     }
 
     /**
@@ -47,6 +73,38 @@ public class UniqueExpenseList implements Iterable<Expense> {
             throw new DuplicateExpenseException();
         }
         internalList.add(toAdd);
+        positions.put(toAdd.getUniqueIdentifier(), internalList.size() - 1);
+    }
+
+    /**
+     * Adds the given expenses to the end of the list in a single change.
+     * The expenses must not already exist in the list, nor be equivalent to one another.
+     */
+    public void addAll(Collection<Expense> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!canAddAll(toAdd)) {
+            throw new DuplicateExpenseException();
+        }
+
+        int fromIndex = internalList.size();
+        internalList.addAll(toAdd);
+        indexPositionsFrom(fromIndex);
+    }
+
+    /**
+     * Returns true if none of the given expenses already exist in the list, nor are equivalent to one another.
+     */
+    public boolean canAddAll(Collection<Expense> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<UniqueIdentifier, Integer> indexedPositions = getPositions();
+        Set<UniqueIdentifier> newIdentifiers = new HashSet<>();
+        for (Expense expense : toAdd) {
+            UniqueIdentifier identifier = expense.getUniqueIdentifier();
+            if (indexedPositions.containsKey(identifier) || !newIdentifiers.add(identifier)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -57,7 +115,7 @@ public class UniqueExpenseList implements Iterable<Expense> {
     public void setExpense(Expense target, Expense editedExpense) {
         requireAllNonNull(target, editedExpense);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ExpenseNotFoundException();
         }
@@ -67,6 +125,8 @@ public class UniqueExpenseList implements Iterable<Expense> {
         }
 
         internalList.set(index, editedExpense);
+        positions.remove(target.getUniqueIdentifier());
+        positions.put(editedExpense.getUniqueIdentifier(), index);
     }
 
     /**
@@ -75,14 +135,25 @@ public class UniqueExpenseList implements Iterable<Expense> {
      */
     public void remove(Expense toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ExpenseNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getUniqueIdentifier());
+        indexPositionsFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * Both lists share their backing expenses until either of them is modified.
+     */
     public void setExpenses(UniqueExpenseList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions = null;
+        version = replacement.version;
+        history = replacement.history;
     }
 
     /**
@@ -91,10 +162,41 @@ public class UniqueExpenseList implements Iterable<Expense> {
      */
     public void setExpenses(List<Expense> expenses) {
         requireAllNonNull(expenses);
-        if (!expensesAreUnique(expenses)) {
+        Map<UniqueIdentifier, Integer> newPositions = indexPositions(expenses);
+        if (newPositions == null) {
             throw new DuplicateExpenseException();
         }
         internalList.setAll(expenses);
+        positions = newPositions;
+    }
+
+    /**
+     * Replaces the expenses from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with {@code replacement}.
+     * The resulting list must not contain duplicate expenses.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<Expense> replacement) {
+        requireAllNonNull(replacement);
+        for (Expense removed : internalList.subList(fromIndex, toIndex)) {
+            getPositions().remove(removed.getUniqueIdentifier());
+        }
+        internalList.remove(fromIndex, toIndex);
+        internalList.addAll(fromIndex, replacement);
+        indexPositionsFrom(fromIndex);
+    }
+
+    /**
+     * Returns the version of the contents of this list. A list which shares the contents of another list has its
+     * version, and every change gives the list a version which no expense list has held before.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the recent changes to this list, up to its current version.
+     */
+    public ListHistory getHistory() {
+        return history;
     }
 
     public int getSize() {
@@ -126,16 +228,48 @@ public class UniqueExpenseList implements Iterable<Expense> {
     }
 
     /**
-     * Returns true if {@code expenses} contains only unique expenses.
+     * Returns the position of {@code expense} in the list, or -1 if the list does not contain an equal expense.
      */
-    private boolean expensesAreUnique(List<Expense> expenses) {
-        for (int i = 0; i < expenses.size() - 1; i++) {
-            for (int j = i + 1; j < expenses.size(); j++) {
-                if (expenses.get(i).isSameExpense(expenses.get(j))) {
-                    return false;
-                }
+    private int indexOf(Expense expense) {
+        Integer index = getPositions().get(expense.getUniqueIdentifier());
+        if (index == null || !internalList.get(index).equals(expense)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of positions of the expenses in the list, building it if it has yet to be built.
+     */
+    private Map<UniqueIdentifier, Integer> getPositions() {
+        if (positions == null) {
+            positions = indexPositions(internalList);
+            assert positions != null : "Expenses in the list should be unique";
+        }
+        return positions;
+    }
+
+    /**
+     * Updates the index of positions of the expenses from {@code fromIndex} onwards, after they have moved.
+     */
+    private void indexPositionsFrom(int fromIndex) {
+        Map<UniqueIdentifier, Integer> indexedPositions = getPositions();
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            indexedPositions.put(internalList.get(i).getUniqueIdentifier(), i);
+        }
+    }
+
+    /**
+     * Returns the positions of {@code expenses} by their unique identifiers,
+     * or null if {@code expenses} does not contain only unique expenses.
+     */
+    private static Map<UniqueIdentifier, Integer> indexPositions(List<Expense> expenses) {
+        Map<UniqueIdentifier, Integer> positions = new HashMap<>();
+        for (int i = 0; i < expenses.size(); i++) {
+            if (positions.put(expenses.get(i).getUniqueIdentifier(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return positions;
     }
 }
@@ -3,8 +3,11 @@ package seedu.moolah.model.general;
 import static java.util.Objects.requireNonNull;
 import static seedu.moolah.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Represents a Category in the MooLah.
@@ -16,13 +19,20 @@ public class Category {
             "Category should only be one of the following: FOOD, TRAVEL, TRANSPORT, SHOPPING, UTILITIES, "
                     + "HEALTHCARE, ENTERTAINMENT, EDUCATION, OTHERS.";
 
-    private static List<String> validCategories = List.of("FOOD", "TRAVEL", "TRANSPORT", "SHOPPING", "UTILITIES",
-            "HEALTHCARE", "ENTERTAINMENT", "EDUCATION", "OTHERS");
+    private static final List<String> VALID_CATEGORY_NAMES = List.of("FOOD", "TRAVEL", "TRANSPORT", "SHOPPING",
+            "UTILITIES", "HEALTHCARE", "ENTERTAINMENT", "EDUCATION", "OTHERS");
 
     private static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Map<String, Integer> ORDINALS = createOrdinals();
+
+    // one shared instance of each category, in the order of their ordinals
+    private static final List<Category> INTERNED_CATEGORIES = createInternedCategories();
+
     private final String categoryName;
 
+    private final int ordinal;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -32,6 +42,19 @@ public class Category {
         requireNonNull(categoryName);
         checkArgument(isValidCategoryName(categoryName), MESSAGE_CONSTRAINTS);
         this.categoryName = categoryName.toUpperCase();
+        this.ordinal = ORDINALS.get(this.categoryName);
+    }
+
+    /**
+     * Returns the shared instance of the category with the given name, which is equal to
+     * {@code new Category(categoryName)}.
+     *
+     * @param categoryName A valid category name.
+     */
+    public static Category of(String categoryName) {
+        requireNonNull(categoryName);
+        checkArgument(isValidCategoryName(categoryName), MESSAGE_CONSTRAINTS);
+        return INTERNED_CATEGORIES.get(ORDINALS.get(categoryName.toUpperCase()));
     }
 
     //should be converted to Enum for better code quality
@@ -39,8 +62,16 @@ public class Category {
         return categoryName;
     }
 
+    /**
+     * Returns the position of this category among the valid categories, from 0 to
+     * {@code getNumValidCategory() - 1}. Suitable for indexing arrays with one element per category.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     public static int indexOfInList(Category test) {
-        return validCategories.indexOf(test.categoryName.toUpperCase());
+        return test.ordinal;
     }
 
 
@@ -48,18 +79,40 @@ public class Category {
      * Returns true if a given string is a valid category name.
      */
     public static boolean isValidCategoryName(String test) {
-        return test.matches(VALIDATION_REGEX) && validCategories.contains(test.toUpperCase());
+        return test.matches(VALIDATION_REGEX) && ORDINALS.containsKey(test.toUpperCase());
     }
 
+    /**
+     * Returns an unmodifiable list of all valid categories, in the order of their ordinals.
+     */
     public static List<Category> getValidCategories() {
-        return validCategories
-                .stream()
-                .map(Category::new)
-                .collect(Collectors.toList());
+        return INTERNED_CATEGORIES;
     }
 
     public static int getNumValidCategory() {
-        return getValidCategories().size();
+        return VALID_CATEGORY_NAMES.size();
+    }
+
+    /**
+     * Maps each valid category name to its ordinal.
+     */
+    private static Map<String, Integer> createOrdinals() {
+        Map<String, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < VALID_CATEGORY_NAMES.size(); i++) {
+            ordinals.put(VALID_CATEGORY_NAMES.get(i), i);
+        }
+        return ordinals;
+    }
+
+    /**
+     * Creates the shared instance of each valid category.
+     */
+    private static List<Category> createInternedCategories() {
+        List<Category> categories = new ArrayList<>();
+        for (String categoryName : VALID_CATEGORY_NAMES) {
+            categories.add(new Category(categoryName));
+        }
+        return Collections.unmodifiableList(categories);
     }
 
     @Override
@@ -0,0 +1,190 @@
+package seedu.moolah.model.general;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.AppUtil.checkArgument;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.antlr.runtime.tree.Tree;
+
+import com.joestelmach.natty.DateGroup;
+import com.joestelmach.natty.Parser;
+
+import seedu.moolah.logic.Timekeeper;
+
+/**
+ * Parses natural language dates and times with Natty.
+ * Natty parsers are costly to create, so each thread reuses its own. The results of recent inputs are cached until
+ * the day changes, which is when relative inputs such as "yesterday" start resolving to other dates.
+ * Safe for use by multiple threads.
+ */
+class NaturalDateParser {
+
+    public static final int DEFAULT_CACHE_CAPACITY = 256;
+    public static final String MESSAGE_CONSTRAINTS = "Cache capacity should be positive";
+
+    // nodes of Natty syntax trees which resolve relative to the current time of day, e.g. "2 hours from now"
+    private static final String RELATIVE_TIME_NODE = "RELATIVE_TIME";
+    private static final String SEEK_NODE = "SEEK";
+    // units by which a SEEK node moves the current time of day, which is its last child, e.g. "in 5 minutes"
+    private static final Set<String> TIME_SEEK_UNITS = Set.of("hour", "minute", "second");
+
+    private static final ThreadLocal<Parser> PARSERS = ThreadLocal.withInitial(Parser::new);
+
+    private final Clock clock;
+    private final Map<String, Resolution> cache;
+    private LocalDate cacheDate;
+
+    /**
+     * Constructs a {@code NaturalDateParser} using the system clock and the default cache capacity.
+     */
+    NaturalDateParser() {
+        this(Clock.systemDefaultZone(), DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Constructs a {@code NaturalDateParser}.
+     *
+     * @param clock The clock which relative inputs are resolved against.
+     * @param cacheCapacity The number of recent inputs whose results are cached.
+     */
+    NaturalDateParser(Clock clock, int cacheCapacity) {
+        requireNonNull(clock);
+        checkArgument(cacheCapacity > 0, MESSAGE_CONSTRAINTS);
+        this.clock = clock;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Resolution> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the date and time that {@code rawTimestamp} resolves to at the current time.
+     *
+     * @param rawTimestamp The natural language date and time, with its date in the American format.
+     * @return An Optional that contains the date and time if Natty understands the input.
+     */
+    Optional<LocalDateTime> parse(String rawTimestamp) {
+        requireNonNull(rawTimestamp);
+        // Natty works in the system time zone
+        Instant instant = clock.instant();
+        LocalDateTime now = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+
+        Resolution resolution;
+        synchronized (cache) {
+            if (!now.toLocalDate().equals(cacheDate)) {
+                cache.clear();
+                cacheDate = now.toLocalDate();
+            }
+            resolution = cache.get(rawTimestamp);
+        }
+
+        if (resolution == null) {
+            resolution = resolve(rawTimestamp, instant);
+            if (resolution.isCacheable) {
+                synchronized (cache) {
+                    if (now.toLocalDate().equals(cacheDate)) {
+                        cache.put(rawTimestamp, resolution);
+                    }
+                }
+            }
+        }
+        return resolution.toDateTime(now);
+    }
+
+    /**
+     * Returns the number of inputs whose results are currently cached.
+     */
+    int getCacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Resolves {@code rawTimestamp} with Natty, relative to {@code instant}.
+     */
+    private static Resolution resolve(String rawTimestamp, Instant instant) {
+        List<DateGroup> groups = PARSERS.get().parse(rawTimestamp, Date.from(instant));
+        if (groups.isEmpty() || groups.get(0).getDates().isEmpty()) {
+            return Resolution.INVALID;
+        }
+
+        DateGroup group = groups.get(0);
+        LocalDateTime dateTime = Timekeeper.convertToLocalDateTime(group.getDates().get(0));
+        if (group.isTimeInferred()) {
+            // Natty takes the current time of day, which is taken again whenever the result is reused
+            return new Resolution(dateTime.toLocalDate(), null, true);
+        }
+        boolean isCacheable = !isRelativeToTimeOfDay(group.getSyntaxTree());
+        return new Resolution(dateTime.toLocalDate(), dateTime.toLocalTime(), isCacheable);
+    }
+
+    /**
+     * Returns true if any node of {@code tree} resolves relative to the current time of day, so that the result
+     * changes within the day.
+     */
+    private static boolean isRelativeToTimeOfDay(Tree tree) {
+        String text = tree.getText();
+        if (RELATIVE_TIME_NODE.equals(text)) {
+            return true;
+        }
+        if (SEEK_NODE.equals(text) && tree.getChildCount() > 0
+                && TIME_SEEK_UNITS.contains(tree.getChild(tree.getChildCount() - 1).getText())) {
+            return true;
+        }
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            if (isRelativeToTimeOfDay(tree.getChild(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The result of resolving an input, which holds for the rest of the day it was resolved on.
+     */
+    private static class Resolution {
+        private static final Resolution INVALID = new Resolution(null, null, true);
+
+        private final LocalDate date;
+        private final LocalTime time;
+        private final boolean isCacheable;
+
+        /**
+         * Constructs a {@code Resolution}.
+         *
+         * @param date The resolved date, or null if the input is not understood.
+         * @param time The resolved time, or null if it is the current time of day.
+         * @param isCacheable Whether the result holds for the rest of the day.
+         */
+        private Resolution(LocalDate date, LocalTime time, boolean isCacheable) {
+            this.date = date;
+            this.time = time;
+            this.isCacheable = isCacheable;
+        }
+
+        /**
+         * Returns the date and time of this result at {@code now}.
+         */
+        private Optional<LocalDateTime> toDateTime(LocalDateTime now) {
+            if (date == null) {
+                return Optional.empty();
+            }
+            return Optional.of(date.atTime(time != null ? time : now.toLocalTime().withNano(0)));
+        }
+    }
+}
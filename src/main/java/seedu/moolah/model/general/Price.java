@@ -3,8 +3,13 @@ package seedu.moolah.model.general;
 import static java.util.Objects.requireNonNull;
 import static seedu.moolah.commons.util.AppUtil.checkArgument;
 
+import java.math.BigDecimal;
+
 /**
  * Represents a Expense's price in the MooLah.
+ * The price is parsed once into a whole number of cents, so that prices can be added up exactly without parsing.
+ * Prices too large to be counted in a {@code long} of cents, such as {@link #MAX_PRICE}, are kept as a
+ * {@code BigDecimal} instead, and count as {@link #UNCOUNTABLE_CENTS} cents.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
  */
 public class Price {
@@ -15,9 +20,15 @@ public class Price {
                     + "a maximum of 2 decimal places allowed.";
     public static final String VALIDATION_REGEX = "^\\d+(\\.\\d{0,2})?$";
     public static final String ZERO = "0";
+    public static final long UNCOUNTABLE_CENTS = Long.MAX_VALUE;
     public static final Price MAX_PRICE = new Price("1000000000000000000000");
 
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final char DECIMAL_POINT = '.';
+
     public final String value;
+    private final long cents;
+    private final BigDecimal uncountableAmount;
 
     /**
      * Constructs a {@code Price}.
@@ -28,6 +39,61 @@ public class Price {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
         value = price;
+        long parsedCents = parseCents(price);
+        if (parsedCents < 0) {
+            cents = UNCOUNTABLE_CENTS;
+            uncountableAmount = new BigDecimal(price);
+        } else {
+            cents = parsedCents;
+            uncountableAmount = null;
+        }
+    }
+
+    /**
+     * Parses a valid price into a whole number of cents.
+     *
+     * @return The number of cents, or -1 if it does not fit in a {@code long}.
+     */
+    private static long parseCents(String price) {
+        long result = 0;
+        int decimalPlaces = -1;
+        try {
+            for (int i = 0; i < price.length(); i++) {
+                char c = price.charAt(i);
+                if (c == DECIMAL_POINT) {
+                    decimalPlaces = 0;
+                    continue;
+                }
+                result = Math.addExact(Math.multiplyExact(result, 10), c - '0');
+                if (decimalPlaces >= 0) {
+                    decimalPlaces++;
+                }
+            }
+            for (int i = Math.max(decimalPlaces, 0); i < 2; i++) {
+                result = Math.multiplyExact(result, 10);
+            }
+        } catch (ArithmeticException e) {
+            return -1;
+        }
+        return result;
+    }
+
+    /**
+     * Adds two amounts of cents, giving {@link #UNCOUNTABLE_CENTS} if the sum is too large to be counted.
+     */
+    public static long addCents(long augend, long addend) {
+        long sum = augend + addend;
+        if (augend >= 0 && addend >= 0 && sum < 0) {
+            return UNCOUNTABLE_CENTS;
+        }
+        return sum;
+    }
+
+    /**
+     * Converts an amount of cents into dollars.
+     */
+    public static double toDollars(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
     }
 
     /**
@@ -37,8 +103,19 @@ public class Price {
         return test.matches(VALIDATION_REGEX) && !test.equals(ZERO);
     }
 
+    /**
+     * Returns this price in cents, or {@link #UNCOUNTABLE_CENTS} if it is too large to be counted in cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
     public Double getAsDouble() {
-        return Double.parseDouble(value);
+        return uncountableAmount == null ? toDollars(cents) : uncountableAmount.doubleValue();
+    }
+
+    public BigDecimal getAsBigDecimal() {
+        return uncountableAmount == null ? BigDecimal.valueOf(cents, 2) : uncountableAmount;
     }
 
     @Override
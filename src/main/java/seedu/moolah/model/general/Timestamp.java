@@ -7,17 +7,12 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.format.FormatStyle;
-import java.util.Date;
-import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import com.joestelmach.natty.DateGroup;
-import com.joestelmach.natty.Parser;
-
-import seedu.moolah.logic.Timekeeper;
 import seedu.moolah.model.budget.BudgetPeriod;
 
 /**
@@ -43,6 +38,11 @@ public class Timestamp implements Comparable<Timestamp> {
     private static final Pattern DDMM_PATTERN =
             Pattern.compile("(?<=\\b)(?<dd>[0-9]{1,2})(?<div1>[\\\\\\-\\/])(?<mm>[0-9]{1,2})");
 
+    private static final NaturalDateParser NATURAL_DATE_PARSER = new NaturalDateParser();
+
+    // length of the shortest ISO-8601 local date and time, e.g. 2019-10-21T12:00
+    private static final int ISO_MINIMUM_LENGTH = 16;
+
     public final LocalDateTime fullTimestamp;
 
     public Timestamp(LocalDateTime fullTimestamp) {
@@ -73,17 +73,38 @@ public class Timestamp implements Comparable<Timestamp> {
      * @param rawTimestamp The raw timestamp input.
      * @return An Optional that contains a timestamp if the raw timestamp input was successfully parsed by Natty.
      */
-    private static Optional<Timestamp> parseRawTimestamp(String rawTimestamp) {
-        try {
-            Parser parser = new Parser();
-            List<DateGroup> groups = parser.parse(rawTimestamp); // Natty parses the datetime input
-            DateGroup group = groups.get(0);
-            Date datetime = group.getDates().get(0);
-            LocalDateTime fullTimestamp = Timekeeper.convertToLocalDateTime(datetime);
-            return Optional.of(new Timestamp(fullTimestamp));
-        } catch (IndexOutOfBoundsException e) {
-            return Optional.empty();
+    static Optional<Timestamp> parseRawTimestamp(String rawTimestamp) {
+        return NATURAL_DATE_PARSER.parse(rawTimestamp).map(Timestamp::new);
+    }
+
+    /**
+     * Returns an Optional timestamp from parsing a string read from storage.
+     * Timestamps are stored in the ISO-8601 format of {@link LocalDateTime#toString()}, which is parsed directly.
+     * Only values in other formats, written by older versions, are parsed through Natty.
+     *
+     * @param rawTimestamp The stored timestamp.
+     * @return An Optional that contains a timestamp if the stored timestamp was successfully parsed.
+     */
+    private static Optional<Timestamp> parseStoredTimestamp(String rawTimestamp) {
+        if (isIsoLocalDateTime(rawTimestamp)) {
+            try {
+                return Optional.of(new Timestamp(LocalDateTime.parse(rawTimestamp)));
+            } catch (DateTimeParseException e) {
+                // not a valid date and time after all, so leave it to Natty
+            }
         }
+        return parseRawTimestamp(rawTimestamp);
+    }
+
+    /**
+     * Returns true if {@code rawTimestamp} has the shape of an ISO-8601 local date and time, e.g. 2019-10-21T12:00.
+     * This cheap check avoids the cost of a failed parse for values in other formats.
+     */
+    private static boolean isIsoLocalDateTime(String rawTimestamp) {
+        return rawTimestamp.length() >= ISO_MINIMUM_LENGTH
+                && rawTimestamp.charAt(4) == '-'
+                && rawTimestamp.charAt(7) == '-'
+                && rawTimestamp.charAt(10) == 'T';
     }
 
     /**
@@ -94,7 +115,7 @@ public class Timestamp implements Comparable<Timestamp> {
      * if the datetime is valid and it is in the past.
      */
     public static Optional<Timestamp> createPastTimestampFromStorage(String rawTimestamp) {
-        Optional<Timestamp> potentialTimestamp = parseRawTimestamp(rawTimestamp);
+        Optional<Timestamp> potentialTimestamp = parseStoredTimestamp(rawTimestamp);
         if (potentialTimestamp.isPresent()) {
             Timestamp timestamp = potentialTimestamp.get();
             Timestamp currentTimestamp = getCurrentTimestamp();
@@ -112,7 +133,17 @@ public class Timestamp implements Comparable<Timestamp> {
      * if the datetime is valid.
      */
     public static Optional<Timestamp> createGeneralTimestampFromStorage(String rawTimestamp) {
-        return parseRawTimestamp(rawTimestamp);
+        return parseStoredTimestamp(rawTimestamp);
+    }
+
+    /**
+     * Returns the string representation of this timestamp to be stored, which is read back by
+     * {@link #createGeneralTimestampFromStorage(String)} without going through Natty.
+     *
+     * @return A String that represents the full timestamp in the ISO-8601 format.
+     */
+    public String toStorageString() {
+        return fullTimestamp.toString();
     }
 
     /**
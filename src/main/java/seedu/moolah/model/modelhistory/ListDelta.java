@@ -0,0 +1,171 @@
+package seedu.moolah.model.modelhistory;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a reversible change to a list, in which a contiguous range of elements is replaced by other elements.
+ * Only the replaced and replacing elements are recorded, not the whole list.
+ *
+ * @param <T> The type of elements in the list.
+ */
+public class ListDelta<T> {
+
+    private final int fromIndex;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Constructs a ListDelta that replaces {@code removed}, which starts at {@code fromIndex}, with {@code added}.
+     *
+     * @param fromIndex The index of the first element replaced.
+     * @param removed The elements to be replaced.
+     * @param added The elements replacing them.
+     */
+    public ListDelta(int fromIndex, List<? extends T> removed, List<? extends T> added) {
+        requireAllNonNull(removed, added);
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(fromIndex);
+        }
+        this.fromIndex = fromIndex;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    /**
+     * Creates the {@code ListDelta} that changes {@code base} into {@code other}.
+     * Only the range between the longest common prefix and the longest common suffix of both lists is recorded.
+     *
+     * @param base The list before the change.
+     * @param other The list after the change.
+     * @return The delta which, applied to {@code base}, results in a list equal to {@code other}.
+     */
+    public static <T> ListDelta<T> between(List<? extends T> base, List<? extends T> other) {
+        requireAllNonNull(base, other);
+
+        int baseSize = base.size();
+        int otherSize = other.size();
+
+        int prefix = 0;
+        while (prefix < baseSize && prefix < otherSize && base.get(prefix).equals(other.get(prefix))) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < baseSize - prefix && suffix < otherSize - prefix
+                && base.get(baseSize - 1 - suffix).equals(other.get(otherSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        return new ListDelta<>(prefix, base.subList(prefix, baseSize - suffix),
+                other.subList(prefix, otherSize - suffix));
+    }
+
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    /**
+     * Returns the index just after the last element replaced.
+     */
+    public int getToIndex() {
+        return fromIndex + removed.size();
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns true if this delta does not change the list.
+     */
+    public boolean isEmpty() {
+        return removed.isEmpty() && added.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements recorded by this delta.
+     */
+    public int getSize() {
+        return removed.size() + added.size();
+    }
+
+    /**
+     * Returns true if {@code list} contains the replaced elements at the recorded position.
+     */
+    public boolean isApplicableTo(List<? extends T> list) {
+        requireNonNull(list);
+        return getToIndex() <= list.size() && list.subList(fromIndex, getToIndex()).equals(removed);
+    }
+
+    /**
+     * Creates a new list which is the result of applying this delta to {@code list}.
+     * If {@code list} has been modified since this delta was recorded, the replaced elements are removed wherever
+     * they are, and the replacing elements which are not yet in the list are inserted at the recorded position.
+     *
+     * @param list The list to apply this delta to.
+     * @return a new list with this delta applied.
+     */
+    public List<T> applyTo(List<? extends T> list) {
+        requireNonNull(list);
+        List<T> result = new ArrayList<>(list);
+        if (isApplicableTo(list)) {
+            result.subList(fromIndex, getToIndex()).clear();
+            result.addAll(fromIndex, added);
+            return result;
+        }
+
+        result.removeAll(removed);
+        int index = Math.min(fromIndex, result.size());
+        for (T element : added) {
+            if (!result.contains(element)) {
+                result.add(index++, element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the delta that reverts this delta.
+     *
+     * @return a {@code ListDelta} which, applied after this delta, restores the original list.
+     */
+    public ListDelta<T> inverse() {
+        return new ListDelta<>(fromIndex, added, removed);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof ListDelta)) {
+            return false;
+        }
+
+        ListDelta<?> other = (ListDelta<?>) obj;
+        return fromIndex == other.fromIndex
+                && removed.equals(other.removed)
+                && added.equals(other.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fromIndex, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("replaced %d element(s) at %d with %d element(s)", removed.size(), fromIndex,
+                added.size());
+    }
+}
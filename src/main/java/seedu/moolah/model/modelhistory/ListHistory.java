@@ -0,0 +1,92 @@
+package seedu.moolah.model.modelhistory;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Represents the recent changes to a list, each recorded as the range of the list it replaced and the version it
+ * gave the list. Only the positions of the changes are recorded, not the elements.
+ * A history is never modified, so a list which shares the contents of another list can share its history too.
+ * The delta from an earlier version of the list is then found from the recorded ranges, in time proportional to the
+ * number of changes and elements changed, instead of by comparing the whole lists.
+ */
+public class ListHistory {
+
+    // the number of changes kept, beyond which earlier versions are forgotten
+    private static final int MAX_LENGTH = 256;
+
+    private final long version;
+    // the number of elements at the start and at the end of the list left unchanged by the change to this version
+    private final int unchangedPrefix;
+    private final int unchangedSuffix;
+    // the history up to the version before this one, or null if earlier versions are not known
+    private final ListHistory previous;
+    private final int length;
+
+    private ListHistory(long version, int unchangedPrefix, int unchangedSuffix, ListHistory previous) {
+        this.version = version;
+        this.unchangedPrefix = unchangedPrefix;
+        this.unchangedSuffix = unchangedSuffix;
+        this.previous = previous;
+        length = previous == null ? 0 : previous.length + 1;
+    }
+
+    /**
+     * Returns a history which starts at the given version of a list, with no earlier versions known.
+     */
+    public static ListHistory startingAt(long version) {
+        return new ListHistory(version, 0, 0, null);
+    }
+
+    /**
+     * Returns the history of the list after {@code change}, which gave the list the given version.
+     * All parts of the change are recorded together as the single range which covers them.
+     */
+    public ListHistory after(ListChangeListener.Change<?> change, long version) {
+        requireNonNull(change);
+        int size = change.getList().size();
+        int fromIndex = size;
+        int toIndex = 0;
+        while (change.next()) {
+            fromIndex = Math.min(fromIndex, change.getFrom());
+            toIndex = Math.max(toIndex, change.getTo());
+        }
+        change.reset();
+
+        ListHistory kept = length < MAX_LENGTH ? this : startingAt(this.version);
+        return new ListHistory(version, Math.min(fromIndex, toIndex), size - Math.max(fromIndex, toIndex), kept);
+    }
+
+    /**
+     * Creates the {@code ListDelta} that changes {@code base} into {@code current}, where {@code current} is the
+     * list at the latest version of this history.
+     * If this history does not reach back to {@code baseVersion}, the lists are compared instead.
+     *
+     * @param baseVersion The version of the list {@code base}.
+     * @param base The list before the changes.
+     * @param current The list after the changes.
+     * @return The delta which, applied to {@code base}, results in a list equal to {@code current}.
+     */
+    public <T> ListDelta<T> deltaSince(long baseVersion, List<? extends T> base, List<? extends T> current) {
+        requireAllNonNull(base, current);
+        int prefix = Math.min(base.size(), current.size());
+        int suffix = prefix;
+        for (ListHistory history = this; history.version != baseVersion; history = history.previous) {
+            if (history.previous == null) {
+                return ListDelta.between(base, current);
+            }
+            prefix = Math.min(prefix, history.unchangedPrefix);
+            suffix = Math.min(suffix, history.unchangedSuffix);
+        }
+
+        // the unchanged elements at either end of a list must not overlap
+        suffix = Math.min(suffix, Math.min(base.size(), current.size()) - prefix);
+        return new ListDelta<>(prefix, base.subList(prefix, base.size() - suffix),
+                current.subList(prefix, current.size() - suffix));
+    }
+
+}
@@ -3,11 +3,11 @@ package seedu.moolah.model.modelhistory;
 import static java.util.Objects.requireNonNull;
 import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.moolah.model.Model;
-import seedu.moolah.model.ReadOnlyMooLah;
 import seedu.moolah.model.ReadOnlyUserPrefs;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.event.Event;
@@ -15,11 +15,12 @@ import seedu.moolah.model.expense.Expense;
 
 /**
  * Represents the changes of a model before a particular execution of a command described by the change message.
+ * Changes to the MooLah are recorded as a {@code MooLahDelta} rather than as a copy of the whole MooLah.
  */
 public class ModelChanges {
 
     private String changeMessage;
-    private ReadOnlyMooLah mooLah;
+    private MooLahDelta mooLahDelta;
     private ReadOnlyUserPrefs userPrefs;
     private Predicate<? super Expense> expensePredicate;
     private Predicate<? super Event> eventPredicate;
@@ -41,7 +42,7 @@ public class ModelChanges {
     public ModelChanges(ModelChanges changes) {
         requireNonNull(changes);
         setChangeMessage(changes.changeMessage);
-        setMooLah(changes.mooLah);
+        setMooLahDelta(changes.mooLahDelta);
         setUserPrefs(changes.userPrefs);
         setExpensePredicate(changes.expensePredicate);
         setEventPredicate(changes.eventPredicate);
@@ -60,8 +61,8 @@ public class ModelChanges {
         return changeMessage;
     }
 
-    public Optional<ReadOnlyMooLah> getMooLah() {
-        return Optional.ofNullable(mooLah);
+    public Optional<MooLahDelta> getMooLahDelta() {
+        return Optional.ofNullable(mooLahDelta);
     }
 
     public Optional<ReadOnlyUserPrefs> getUserPrefs() {
@@ -86,10 +87,8 @@ public class ModelChanges {
         return this;
     }
 
-    public ModelChanges setMooLah(ReadOnlyMooLah mooLah) {
-        if (mooLah != null) {
-            this.mooLah = mooLah.copy();
-        }
+    public ModelChanges setMooLahDelta(MooLahDelta mooLahDelta) {
+        this.mooLahDelta = mooLahDelta;
         return this;
     }
 
@@ -115,6 +114,14 @@ public class ModelChanges {
         return this;
     }
 
+    /**
+     * Returns the number of recorded elements held by this {@code ModelChanges}, as a measure of its memory usage.
+     * A change of user preferences is counted as a single element.
+     */
+    public int getSize() {
+        return getMooLahDelta().map(MooLahDelta::getSize).orElse(0) + (getUserPrefs().isPresent() ? 1 : 0);
+    }
+
     /**
      * Creates a {@code ModelChanges} object that can revert the current changes with respect to a reference model.
      * @param base The reference model.
@@ -125,8 +132,8 @@ public class ModelChanges {
 
         ModelChanges revert = new ModelChanges(this.getChangeMessage());
 
-        if (getMooLah().isPresent()) {
-            revert.setMooLah(base.getMooLah());
+        if (getMooLahDelta().isPresent()) {
+            revert.setMooLahDelta(mooLahDelta.inverse());
         }
 
         if (getUserPrefs().isPresent()) {
@@ -150,6 +157,8 @@ public class ModelChanges {
 
     /**
      * Compares two {@code Model}s for changes and keeping the first model data if there are any differences.
+     * Differences in the MooLah are kept as the delta that changes the second MooLah back into the first.
+     * Data holding the same version in both models is known to be unchanged, and is not compared.
      * @param changeMessage The change message to be included if there are changes.
      * @param base The first model to be compared.
      * @param other The second model to be compared.
@@ -160,11 +169,13 @@ public class ModelChanges {
 
         ModelChanges changes = new ModelChanges(changeMessage);
 
-        if (!base.getMooLah().equals(other.getMooLah())) {
-            changes.setMooLah(base.getMooLah());
+        MooLahDelta mooLahDelta = MooLahDelta.between(other.getMooLah(), base.getMooLah());
+        if (!mooLahDelta.isEmpty()) {
+            changes.setMooLahDelta(mooLahDelta);
         }
 
-        if (!base.getUserPrefs().equals(other.getUserPrefs())) {
+        if (base.getUserPrefs().getVersion() != other.getUserPrefs().getVersion()
+                && !base.getUserPrefs().equals(other.getUserPrefs())) {
             changes.setUserPrefs(base.getUserPrefs());
         }
 
@@ -187,7 +198,7 @@ public class ModelChanges {
     public String toString() {
         StringBuilder sb = new StringBuilder("changed:");
 
-        if (getMooLah().isPresent()) {
+        if (getMooLahDelta().isPresent()) {
             sb.append(" mooLah");
         }
 
@@ -222,26 +233,13 @@ public class ModelChanges {
 
         ModelChanges other = (ModelChanges) obj;
         return changeMessage.equals(other.changeMessage)
-            && compareMooLahFieldOnly(other)
+            && Objects.equals(mooLahDelta, other.mooLahDelta)
             && compareUserPrefsFieldOnly(other)
             && (expensePredicate == other.expensePredicate)
             && (eventPredicate == other.eventPredicate)
             && (budgetPredicate == other.budgetPredicate);
     }
 
-    /**
-     * Compares the MooLah field with the other ModelChanges given.
-     * @param other the other ModelChanges to compare to.
-     * @return true if both fields are null or both are equal, false otherwise.
-     */
-    private boolean compareMooLahFieldOnly(ModelChanges other) {
-        if (getMooLah().isEmpty()) {
-            return other.getMooLah().isEmpty();
-        } else {
-            return mooLah.equals(other.mooLah);
-        }
-    }
-
     /**
      * Compares the UserPrefs field with the other ModelChanges given.
      * @param other the other ModelChanges to compare to.
@@ -1,33 +1,63 @@
 package seedu.moolah.model.modelhistory;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.AppUtil.checkArgument;
 
 import java.util.Optional;
 import java.util.Stack;
 
+import seedu.moolah.commons.core.Config;
+
 /**
  * A history of model changes throughout execution to facilitate model manipulation through history.
+ * The history holds at most {@code capacity} recorded elements across its changes; when it holds more,
+ * the oldest past changes are evicted, always keeping the most recent one.
  */
 public class ModelHistory implements ReadOnlyModelHistory {
 
+    public static final String MESSAGE_CONSTRAINTS = "Capacity of a model history should be positive";
+
     private Stack<ModelChanges> pastChanges;
     private Stack<ModelChanges> futureChanges;
+    private int capacity;
+    private int size;
 
     /**
      * Constructs a ModelHistory object.
      * @param pastChanges a {@code Stack} of {@code ModelChanges} that stores the past changes in history.
      * @param futureModels a {@code Stack} of {@code ModelChanges} that stores the future changes in history.
+     * @param capacity the maximum number of recorded elements held across all changes in history.
      */
-    public ModelHistory(Stack<ModelChanges> pastChanges, Stack<ModelChanges> futureModels) {
+    public ModelHistory(Stack<ModelChanges> pastChanges, Stack<ModelChanges> futureModels, int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        this.capacity = capacity;
         setPastChanges(pastChanges);
         setFutureChanges(futureModels);
+        evictOldestChanges();
+    }
+
+    /**
+     * Constructs a ModelHistory object with the default capacity.
+     * @param pastChanges a {@code Stack} of {@code ModelChanges} that stores the past changes in history.
+     * @param futureModels a {@code Stack} of {@code ModelChanges} that stores the future changes in history.
+     */
+    public ModelHistory(Stack<ModelChanges> pastChanges, Stack<ModelChanges> futureModels) {
+        this(pastChanges, futureModels, Config.DEFAULT_HISTORY_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty ModelHistory object with the given capacity.
+     * @param capacity the maximum number of recorded elements held across all changes in history.
+     */
+    public ModelHistory(int capacity) {
+        this(new Stack<>(), new Stack<>(), capacity);
     }
 
     /**
-     * Constructs an empty ModelHistory object.
+     * Constructs an empty ModelHistory object with the default capacity.
      */
     public ModelHistory() {
-        this(new Stack<>(), new Stack<>());
+        this(Config.DEFAULT_HISTORY_CAPACITY);
     }
 
     /**
@@ -45,8 +75,11 @@ public class ModelHistory implements ReadOnlyModelHistory {
      */
     public void resetData(ReadOnlyModelHistory history) {
         requireNonNull(history);
+        checkArgument(history.getCapacity() > 0, MESSAGE_CONSTRAINTS);
+        capacity = history.getCapacity();
         setPastChanges(history.getPastChanges());
         setFutureChanges(history.getFutureChanges());
+        evictOldestChanges();
     }
 
     @Override
@@ -64,16 +97,32 @@ public class ModelHistory implements ReadOnlyModelHistory {
         return futureChanges;
     }
 
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of recorded elements held across all changes in history.
+     */
+    public int getSize() {
+        return size;
+    }
+
     /**
      * Sets past changes data with the copy of the given past changes.
      * @param pastChanges the past changes to be copied
      */
     public void setPastChanges(Stack<ModelChanges> pastChanges) {
         requireNonNull(pastChanges);
+        if (this.pastChanges != null) {
+            size -= sizeOf(this.pastChanges);
+        }
         this.pastChanges = new Stack<>();
         for (ModelChanges change : pastChanges) {
             this.pastChanges.push(change);
         }
+        size += sizeOf(this.pastChanges);
     }
 
     /**
@@ -82,10 +131,14 @@ public class ModelHistory implements ReadOnlyModelHistory {
      */
     public void setFutureChanges(Stack<ModelChanges> futureChanges) {
         requireNonNull(futureChanges);
+        if (this.futureChanges != null) {
+            size -= sizeOf(this.futureChanges);
+        }
         this.futureChanges = new Stack<>();
         for (ModelChanges change : futureChanges) {
             this.futureChanges.push(change);
         }
+        size += sizeOf(this.futureChanges);
     }
 
     /**
@@ -95,6 +148,8 @@ public class ModelHistory implements ReadOnlyModelHistory {
     public void addToPastChanges(ModelChanges change) {
         requireNonNull(change);
         pastChanges.push(change);
+        size += change.getSize();
+        evictOldestChanges();
     }
 
     /**
@@ -104,12 +159,15 @@ public class ModelHistory implements ReadOnlyModelHistory {
     public void addToFutureChanges(ModelChanges change) {
         requireNonNull(change);
         futureChanges.push(change);
+        size += change.getSize();
+        evictOldestChanges();
     }
 
     /**
      * Clears future changes history.
      */
     public void clearFutureChanges() {
+        size -= sizeOf(futureChanges);
         futureChanges.clear();
     }
 
@@ -138,7 +196,9 @@ public class ModelHistory implements ReadOnlyModelHistory {
             return Optional.empty();
         }
 
-        return Optional.of(pastChanges.pop());
+        ModelChanges changes = pastChanges.pop();
+        size -= changes.getSize();
+        return Optional.of(changes);
     }
 
     /**
@@ -150,7 +210,25 @@ public class ModelHistory implements ReadOnlyModelHistory {
             return Optional.empty();
         }
 
-        return Optional.of(futureChanges.pop());
+        ModelChanges changes = futureChanges.pop();
+        size -= changes.getSize();
+        return Optional.of(changes);
+    }
+
+    /**
+     * Removes the oldest past changes until the history is within its capacity or only one past change remains.
+     */
+    private void evictOldestChanges() {
+        while (size > capacity && pastChanges.size() > 1) {
+            size -= pastChanges.remove(0).getSize();
+        }
+    }
+
+    /**
+     * Returns the total number of recorded elements held by the given changes.
+     */
+    private static int sizeOf(Stack<ModelChanges> changes) {
+        return changes.stream().mapToInt(ModelChanges::getSize).sum();
     }
 
     @Override
@@ -165,7 +243,8 @@ public class ModelHistory implements ReadOnlyModelHistory {
 
         ModelHistory other = (ModelHistory) obj;
         return pastChanges.equals(other.pastChanges)
-                && futureChanges.equals(other.futureChanges);
+                && futureChanges.equals(other.futureChanges)
+                && capacity == other.capacity;
     }
 
     // Debug purposes
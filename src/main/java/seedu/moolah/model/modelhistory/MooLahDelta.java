@@ -0,0 +1,138 @@
+package seedu.moolah.model.modelhistory;
+
+import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.moolah.model.MooLah;
+import seedu.moolah.model.ReadOnlyMooLah;
+import seedu.moolah.model.budget.Budget;
+import seedu.moolah.model.event.Event;
+import seedu.moolah.model.expense.Expense;
+
+/**
+ * Represents a reversible change to a MooLah, recorded as the changes to its expense, budget and event lists.
+ */
+public class MooLahDelta {
+
+    private final ListDelta<Expense> expenseDelta;
+    private final ListDelta<Budget> budgetDelta;
+    private final ListDelta<Event> eventDelta;
+
+    /**
+     * Constructs a MooLahDelta from the changes to each list of a MooLah.
+     */
+    public MooLahDelta(ListDelta<Expense> expenseDelta, ListDelta<Budget> budgetDelta, ListDelta<Event> eventDelta) {
+        requireAllNonNull(expenseDelta, budgetDelta, eventDelta);
+        this.expenseDelta = expenseDelta;
+        this.budgetDelta = budgetDelta;
+        this.eventDelta = eventDelta;
+    }
+
+    /**
+     * Creates the {@code MooLahDelta} that changes {@code base} into {@code other}.
+     *
+     * @param base The MooLah before the change.
+     * @param other The MooLah after the change.
+     * @return The delta which, applied to {@code base}, results in a MooLah equal to {@code other}.
+     *     Lists holding the same version in both MooLahs are not compared, so an unchanged MooLah is compared in
+     *     constant time. The expense and event lists of a MooLah changed from {@code base} are not compared either, as
+     *     their delta is found from the changes recorded in their history.
+     */
+    public static MooLahDelta between(ReadOnlyMooLah base, ReadOnlyMooLah other) {
+        requireAllNonNull(base, other);
+        if (base.getVersion() == other.getVersion()) {
+            return new MooLahDelta(unchanged(base.getExpenseList()), unchanged(base.getBudgetList()),
+                    unchanged(base.getEventList()));
+        }
+
+        if (base instanceof MooLah && other instanceof MooLah) {
+            // budgets are few, and changed in place, so only their list is compared
+            MooLah baseMooLah = (MooLah) base;
+            MooLah otherMooLah = (MooLah) other;
+            return new MooLahDelta(
+                    otherMooLah.getExpenseListHistory().deltaSince(baseMooLah.getExpenseListVersion(),
+                            base.getExpenseList(), other.getExpenseList()),
+                    baseMooLah.getBudgetListVersion() == otherMooLah.getBudgetListVersion()
+                            ? unchanged(base.getBudgetList())
+                            : ListDelta.between(base.getBudgetList(), other.getBudgetList()),
+                    otherMooLah.getEventListHistory().deltaSince(baseMooLah.getEventListVersion(),
+                            base.getEventList(), other.getEventList()));
+        }
+
+        return new MooLahDelta(ListDelta.between(base.getExpenseList(), other.getExpenseList()),
+                ListDelta.between(base.getBudgetList(), other.getBudgetList()),
+                ListDelta.between(base.getEventList(), other.getEventList()));
+    }
+
+    /**
+     * Returns the delta between {@code list} and a list holding the same elements, without comparing them.
+     * It equals the delta found by comparing the lists.
+     */
+    private static <T> ListDelta<T> unchanged(List<? extends T> list) {
+        return new ListDelta<>(list.size(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    public ListDelta<Expense> getExpenseDelta() {
+        return expenseDelta;
+    }
+
+    public ListDelta<Budget> getBudgetDelta() {
+        return budgetDelta;
+    }
+
+    public ListDelta<Event> getEventDelta() {
+        return eventDelta;
+    }
+
+    /**
+     * Returns true if this delta does not change the MooLah.
+     */
+    public boolean isEmpty() {
+        return expenseDelta.isEmpty() && budgetDelta.isEmpty() && eventDelta.isEmpty();
+    }
+
+    /**
+     * Returns the number of expenses, budgets and events recorded by this delta.
+     */
+    public int getSize() {
+        return expenseDelta.getSize() + budgetDelta.getSize() + eventDelta.getSize();
+    }
+
+    /**
+     * Creates the delta that reverts this delta.
+     *
+     * @return a {@code MooLahDelta} which, applied after this delta, restores the original MooLah.
+     */
+    public MooLahDelta inverse() {
+        return new MooLahDelta(expenseDelta.inverse(), budgetDelta.inverse(), eventDelta.inverse());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof MooLahDelta)) {
+            return false;
+        }
+
+        MooLahDelta other = (MooLahDelta) obj;
+        return expenseDelta.equals(other.expenseDelta)
+                && budgetDelta.equals(other.budgetDelta)
+                && eventDelta.equals(other.eventDelta);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(expenseDelta, budgetDelta, eventDelta);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("expenses %s, budgets %s, events %s", expenseDelta, budgetDelta, eventDelta);
+    }
+}
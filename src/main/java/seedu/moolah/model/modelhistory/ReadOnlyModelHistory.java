@@ -17,4 +17,9 @@ public interface ReadOnlyModelHistory {
 
     Stack<ModelChanges> getFutureChanges();
 
+    /**
+     * Returns the maximum number of recorded elements held across all changes in the history.
+     */
+    int getCapacity();
+
 }
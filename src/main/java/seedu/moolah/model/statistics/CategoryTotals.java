@@ -0,0 +1,46 @@
+package seedu.moolah.model.statistics;
+
+import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Price;
+
+/**
+ * The total amount and number of expenses in each category, indexed by category ordinal.
+ */
+class CategoryTotals {
+
+    private final long[] cents = new long[Category.getNumValidCategory()];
+    private final int[] counts = new int[Category.getNumValidCategory()];
+
+    /**
+     * Adds {@code count} expenses totalling {@code cents} to the totals of the category with the given ordinal.
+     */
+    void add(int ordinal, long cents, int count) {
+        this.cents[ordinal] = Price.addCents(this.cents[ordinal], cents);
+        counts[ordinal] += count;
+    }
+
+    /**
+     * Returns the total amount of the expenses in the category with the given ordinal, in cents.
+     */
+    long getCents(int ordinal) {
+        return cents[ordinal];
+    }
+
+    /**
+     * Returns the number of expenses in the category with the given ordinal.
+     */
+    int getCount(int ordinal) {
+        return counts[ordinal];
+    }
+
+    /**
+     * Returns the total amount of the expenses in every category, in cents.
+     */
+    long getTotalCents() {
+        long totalCents = 0;
+        for (long categoryCents : cents) {
+            totalCents = Price.addCents(totalCents, categoryCents);
+        }
+        return totalCents;
+    }
+}
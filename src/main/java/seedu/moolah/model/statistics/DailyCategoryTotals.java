@@ -0,0 +1,338 @@
+package seedu.moolah.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import seedu.moolah.model.expense.Expense;
+import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Price;
+import seedu.moolah.model.general.Timestamp;
+
+/**
+ * The total amount and number of expenses of a list for each day and category, kept up to date with every change
+ * to the list. Totals over a range of dates are answered from prefix sums over the days with expenses, in
+ * O(log d + c) time for d days and c categories, however many expenses there are. The prefix sums are rebuilt in
+ * O(d * c) time on the first query after a change. Large lists are totalled in parallel when the totals are
+ * constructed.
+ */
+public class DailyCategoryTotals {
+
+    // the number of expenses from which they are totalled in parallel
+    static final int PARALLEL_THRESHOLD = 8192;
+
+    private static final int NUM_CATEGORIES = Category.getNumValidCategory();
+
+    private final NavigableMap<LocalDate, DayTotals> days;
+
+    // Held by these totals, so that the list only keeps them up to date for as long as they are in use.
+    private final ListChangeListener<Expense> expensesListener = this::update;
+
+    // prefix sums over the days in order, with one row of categories per day, or null if out of date
+    private LocalDate[] prefixDates;
+    private long[] prefixCents;
+    private int[] prefixCounts;
+    private int[] prefixUncountables;
+
+    /**
+     * Constructs the totals of {@code expenses}.
+     *
+     * @param expenses The list of expenses to be totalled.
+     */
+    public DailyCategoryTotals(ObservableList<Expense> expenses) {
+        this(expenses, expenses.size() >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Constructs the totals of {@code expenses}, totalling the expenses in parallel if {@code isParallel} is true.
+     */
+    DailyCategoryTotals(ObservableList<Expense> expenses, boolean isParallel) {
+        this(expenses, totalDays(expenses.toArray(new Expense[0]), isParallel));
+        for (DayTotals dayTotals : days.values()) {
+            dayTotals.owner = this;
+        }
+    }
+
+    /**
+     * Constructs the totals of {@code expenses}, starting with {@code days}.
+     */
+    private DailyCategoryTotals(ObservableList<Expense> expenses, NavigableMap<LocalDate, DayTotals> days) {
+        requireNonNull(expenses);
+        this.days = days;
+        expenses.addListener(new WeakListChangeListener<>(expensesListener));
+    }
+
+    /**
+     * Returns the totals of each day of {@code expenses}, owned by no one. If {@code isParallel} is true, chunks of
+     * the expenses are totalled on the common fork/join pool and then merged. The totals are exact integer sums, so
+     * they are the same either way.
+     */
+    private static NavigableMap<LocalDate, DayTotals> totalDays(Expense[] expenses, boolean isParallel) {
+        Stream<Expense> stream = Arrays.stream(expenses);
+        if (isParallel) {
+            stream = stream.parallel();
+        }
+        return stream.collect(TreeMap::new, DailyCategoryTotals::addTo, DailyCategoryTotals::mergeInto);
+    }
+
+    /**
+     * Adds {@code expense} to the totals of its day in {@code days}, which are owned by no one.
+     */
+    private static void addTo(NavigableMap<LocalDate, DayTotals> days, Expense expense) {
+        days.computeIfAbsent(expense.getTimestamp().getDate(), date -> new DayTotals(null)).add(expense, 1);
+    }
+
+    /**
+     * Adds the totals of each day in {@code other} to the totals of the same day in {@code days}.
+     */
+    private static void mergeInto(NavigableMap<LocalDate, DayTotals> days, NavigableMap<LocalDate, DayTotals> other) {
+        other.forEach((date, dayTotals) -> days.merge(date, dayTotals, DayTotals::addAll));
+    }
+
+    /**
+     * Returns a copy of these totals which tracks {@code expenses} instead.
+     * The copy shares the totals of each day with these totals until either of them changes that day.
+     *
+     * @param expenses A list holding the same expenses as the list tracked by these totals.
+     */
+    public DailyCategoryTotals copyFor(ObservableList<Expense> expenses) {
+        for (DayTotals dayTotals : days.values()) {
+            dayTotals.owner = null;
+        }
+        return new DailyCategoryTotals(expenses, new TreeMap<>(days));
+    }
+
+    /**
+     * Returns the totals of the expenses with dates from {@code startDate} to {@code endDate}, inclusive.
+     */
+    CategoryTotals getTotalsBetween(Timestamp startDate, Timestamp endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (startDate.dateIsAfter(endDate)) {
+            return new CategoryTotals();
+        }
+
+        if (prefixDates == null) {
+            buildPrefixSums();
+        }
+        int from = Arrays.binarySearch(prefixDates, startDate.getDate());
+        from = from >= 0 ? from : -from - 1;
+        int to = Arrays.binarySearch(prefixDates, endDate.getDate());
+        to = to >= 0 ? to + 1 : -to - 1;
+        return sumDays(from, to);
+    }
+
+    /**
+     * Returns the totals of all expenses.
+     */
+    CategoryTotals getTotals() {
+        if (prefixDates == null) {
+            buildPrefixSums();
+        }
+        return sumDays(0, prefixDates.length);
+    }
+
+    /**
+     * Returns the total amount of the expenses in each category and interval, in cents, where interval k holds the
+     * dates from {@code boundaries[k]}, inclusive, to {@code boundaries[k + 1]}, exclusive. Row k of the result
+     * holds the totals of interval k, indexed by category ordinal. The boundaries are matched against the days in a
+     * single sweep, in O(d + b * c) time for b boundaries.
+     *
+     * @param boundaries The boundaries of consecutive intervals, in ascending order.
+     */
+    long[] getCentsByInterval(LocalDate[] boundaries) {
+        requireNonNull(boundaries);
+        if (prefixDates == null) {
+            buildPrefixSums();
+        }
+
+        long[] result = new long[Math.max(boundaries.length - 1, 0) * NUM_CATEGORIES];
+        int day = 0;
+        int previousDay = 0;
+        for (int k = 0; k < boundaries.length; k++) {
+            while (day < prefixDates.length && prefixDates[day].isBefore(boundaries[k])) {
+                day++;
+            }
+            if (k > 0) {
+                int row = (k - 1) * NUM_CATEGORIES;
+                for (int i = 0; i < NUM_CATEGORIES; i++) {
+                    result[row + i] = sumCents(previousDay, day, i);
+                }
+            }
+            previousDay = day;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the totals of the days from the {@code from}-th day, inclusive, to the {@code to}-th day, exclusive.
+     */
+    private CategoryTotals sumDays(int from, int to) {
+        CategoryTotals totals = new CategoryTotals();
+        for (int i = 0; i < NUM_CATEGORIES; i++) {
+            totals.add(i, sumCents(from, to, i), prefixCounts[to * NUM_CATEGORIES + i]
+                    - prefixCounts[from * NUM_CATEGORIES + i]);
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the total amount of the expenses in the category with the given ordinal, in cents, over the days from
+     * the {@code from}-th day, inclusive, to the {@code to}-th day, exclusive.
+     */
+    private long sumCents(int from, int to, int ordinal) {
+        int first = from * NUM_CATEGORIES + ordinal;
+        int last = to * NUM_CATEGORIES + ordinal;
+        return prefixUncountables[last] > prefixUncountables[first]
+                ? Price.UNCOUNTABLE_CENTS
+                : prefixCents[last] - prefixCents[first];
+    }
+
+    /**
+     * Rebuilds the prefix sums over the days, where row k holds the totals of the first k days.
+     */
+    private void buildPrefixSums() {
+        prefixDates = days.keySet().toArray(new LocalDate[0]);
+        prefixCents = new long[(days.size() + 1) * NUM_CATEGORIES];
+        prefixCounts = new int[(days.size() + 1) * NUM_CATEGORIES];
+        prefixUncountables = new int[(days.size() + 1) * NUM_CATEGORIES];
+
+        int row = NUM_CATEGORIES;
+        for (DayTotals dayTotals : days.values()) {
+            for (int i = 0; i < NUM_CATEGORIES; i++) {
+                prefixCents[row + i] = prefixCents[row - NUM_CATEGORIES + i] + dayTotals.cents[i];
+                prefixCounts[row + i] = prefixCounts[row - NUM_CATEGORIES + i] + dayTotals.counts[i];
+                prefixUncountables[row + i] = prefixUncountables[row - NUM_CATEGORIES + i]
+                        + dayTotals.uncountables[i];
+            }
+            row += NUM_CATEGORIES;
+        }
+    }
+
+    /**
+     * Updates these totals with a change to the tracked list.
+     *
+     * @param change The change made to the tracked list.
+     */
+    private void update(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            for (Expense removed : change.getRemoved()) {
+                remove(removed);
+            }
+            for (Expense added : change.getAddedSubList()) {
+                add(added);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code expense} to the totals of its day and category.
+     */
+    private void add(Expense expense) {
+        LocalDate date = expense.getTimestamp().getDate();
+        DayTotals dayTotals = days.get(date);
+        if (dayTotals == null) {
+            dayTotals = new DayTotals(this);
+            days.put(date, dayTotals);
+        } else if (dayTotals.owner != this) {
+            dayTotals = dayTotals.copyFor(this);
+            days.put(date, dayTotals);
+        }
+        dayTotals.add(expense, 1);
+        prefixDates = null;
+    }
+
+    /**
+     * Removes {@code expense} from the totals of its day and category.
+     */
+    private void remove(Expense expense) {
+        LocalDate date = expense.getTimestamp().getDate();
+        DayTotals dayTotals = days.get(date);
+        if (dayTotals == null) {
+            return;
+        }
+        if (dayTotals.owner != this) {
+            dayTotals = dayTotals.copyFor(this);
+            days.put(date, dayTotals);
+        }
+        dayTotals.add(expense, -1);
+        if (dayTotals.isEmpty()) {
+            days.remove(date);
+        }
+        prefixDates = null;
+    }
+
+    /**
+     * The totals of a single day, which only its owner may change.
+     * Prices too large to be counted in cents are counted separately, so that they can be removed again.
+     */
+    private static class DayTotals {
+        private final long[] cents;
+        private final int[] counts;
+        private final int[] uncountables;
+        private DailyCategoryTotals owner;
+
+        private DayTotals(DailyCategoryTotals owner) {
+            this(owner, new long[NUM_CATEGORIES], new int[NUM_CATEGORIES], new int[NUM_CATEGORIES]);
+        }
+
+        private DayTotals(DailyCategoryTotals owner, long[] cents, int[] counts, int[] uncountables) {
+            this.owner = owner;
+            this.cents = cents;
+            this.counts = counts;
+            this.uncountables = uncountables;
+        }
+
+        /**
+         * Returns a copy of these totals owned by {@code owner}.
+         */
+        private DayTotals copyFor(DailyCategoryTotals owner) {
+            return new DayTotals(owner, cents.clone(), counts.clone(), uncountables.clone());
+        }
+
+        /**
+         * Adds {@code sign} times {@code expense} to the totals of its category.
+         */
+        private void add(Expense expense, int sign) {
+            int ordinal = expense.getCategory().getOrdinal();
+            long expenseCents = expense.getPrice().getCents();
+            if (expenseCents == Price.UNCOUNTABLE_CENTS) {
+                uncountables[ordinal] += sign;
+            } else {
+                cents[ordinal] += sign * expenseCents;
+            }
+            counts[ordinal] += sign;
+        }
+
+        /**
+         * Adds {@code other} to these totals, and returns these totals.
+         */
+        private DayTotals addAll(DayTotals other) {
+            for (int i = 0; i < NUM_CATEGORIES; i++) {
+                cents[i] += other.cents[i];
+                counts[i] += other.counts[i];
+                uncountables[i] += other.uncountables[i];
+            }
+            return this;
+        }
+
+        /**
+         * Returns true if no expenses are counted in these totals.
+         */
+        private boolean isEmpty() {
+            for (int count : counts) {
+                if (count != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -7,9 +7,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import javafx.collections.ObservableList;
-import seedu.moolah.model.expense.Expense;
+import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Price;
 import seedu.moolah.model.general.Timestamp;
 import seedu.moolah.ui.statistics.PieChartRegionFactory;
 
@@ -22,7 +22,7 @@ public class PieChartStatistics implements Statistics {
 
     private Timestamp endDate;
 
-    private ObservableList<Expense> expenses;
+    private Budget primaryBudget;
 
     //after population
 
@@ -37,17 +37,17 @@ public class PieChartStatistics implements Statistics {
 
     /**
      * Creates a PieChartStatistics object with all the required information filled in its attributes
-     * @param expenses The expenses tracked under the primary budget
+     * @param primaryBudget The primary budget, whose expenses are tracked
      * @param startDate The start date of the tracking period
      * @param endDate The end date of the tracking period
      */
-    public PieChartStatistics(ObservableList<Expense> expenses,
+    public PieChartStatistics(Budget primaryBudget,
                                Timestamp startDate, Timestamp endDate) {
 
-        requireNonNull(expenses);
+        requireNonNull(primaryBudget);
         requireNonNull(startDate);
         requireNonNull(endDate);
-        this.expenses = expenses;
+        this.primaryBudget = primaryBudget;
         this.startDate = startDate;
         this.endDate = endDate;
     }
@@ -68,9 +68,10 @@ public class PieChartStatistics implements Statistics {
      */
     private void generatePieChartData() {
 
-        this.budgetCategories = collateBudgetCategories(expenses);
+        DailyCategoryTotals dailyCategoryTotals = primaryBudget.getDailyCategoryTotals();
+        this.budgetCategories = collateBudgetCategories(dailyCategoryTotals.getTotals());
 
-        List<List<Expense>> expensesInCategories = extractRelevantExpenses(startDate, endDate);
+        CategoryTotals expensesInCategories = dailyCategoryTotals.getTotalsBetween(startDate, endDate);
         String title = String.format("Statistics Summary from %s to %s\n", startDate.showDate(), endDate.showDate());
 
         ArrayList<Double> percentages = new ArrayList<>();
@@ -88,39 +89,16 @@ public class PieChartStatistics implements Statistics {
 
     }
 
-    /**
-     * Extracts the expenses that are between the 2 dates
-     *
-     * @return A list of categorised expenses according to their categories
-     */
-    private List<List<Expense>> extractRelevantExpenses(Timestamp startDate, Timestamp endDate) {
-        List<List<Expense>> expensesInCategories = new ArrayList<>();
-
-        for (int i = 0; i < budgetCategories.size(); i++) {
-            expensesInCategories.add(new ArrayList<>());
-        }
-
-        for (Expense expense : expenses) {
-            Timestamp date = expense.getTimestamp();
-
-
-            if (date.compareDateTo(startDate) != -1 && date.compareDateTo(endDate) != 1) {
-
-                int index = budgetCategories.indexOf(expense.getCategory());
-                expensesInCategories.get(index).add(expense);
-
-            }
-        }
-        return expensesInCategories;
-    }
-
     /**
      * Returns a list of categories used among all expenses. Meant for PieChart usage
+     * @param totals Totals of all expenses in each category
      */
-    private static List<Category> collateBudgetCategories(ObservableList<Expense> expenses) {
+    private static List<Category> collateBudgetCategories(CategoryTotals totals) {
         Set<Category> categories = new HashSet<>();
-        for (Expense expense: expenses) {
-            categories.add(expense.getCategory());
+        for (Category category : Category.getValidCategories()) {
+            if (totals.getCount(category.getOrdinal()) > 0) {
+                categories.add(category);
+            }
         }
 
         return new ArrayList<>(categories);
@@ -128,36 +106,30 @@ public class PieChartStatistics implements Statistics {
 
     /**
      * Fills in the data to be passed to a GUI
-     * @param data Expenses grouped together under their Categories
+     * @param data Totals of the expenses in each category
      * @param percentages List of all percentages under each category
      * @param numberOfEntries List of number of entries under each category
      * @param names List of all names to be shown in the legend representing the category
      * @param titleWithPeriod String containing the period of time the statistics is taken
      */
-    private void generatePercentages(List<List<Expense>> data, List<Double> percentages,
+    private void generatePercentages(CategoryTotals data, List<Double> percentages,
                                      List<Integer> numberOfEntries, List<String> names,
                                      String titleWithPeriod) {
-        double totalAmount = 0.0;
+        long totalCents = 0;
 
 
 
 
         for (int i = 0; i < percentages.size(); i++) {
 
-            List<Expense> categoryStats = data.get(i);
+            int ordinal = budgetCategories.get(i).getOrdinal();
 
-
-            for (Expense expense : categoryStats) {
-                double oldCategoricalTotal = percentages.get(i);
-                double price = Double.parseDouble(expense.getPrice().value);
-                percentages.set(i, oldCategoricalTotal + price);
-                totalAmount += price;
-                int oldNumberOfEntries = numberOfEntries.get(i);
-                numberOfEntries.set(i, oldNumberOfEntries + 1);
-
-
-            }
+            long categoricalCents = data.getCents(ordinal);
+            percentages.set(i, Price.toDollars(categoricalCents));
+            numberOfEntries.set(i, numberOfEntries.get(i) + data.getCount(ordinal));
+            totalCents = Price.addCents(totalCents, categoricalCents);
         }
+        double totalAmount = Price.toDollars(totalCents);
 
 
         this.formattedCategories = new ArrayList<>();
@@ -0,0 +1,167 @@
+package seedu.moolah.model.statistics;
+
+import static seedu.moolah.commons.util.AppUtil.checkArgument;
+import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.moolah.commons.core.LogsCenter;
+import seedu.moolah.model.budget.Budget;
+import seedu.moolah.model.general.Description;
+import seedu.moolah.ui.statistics.StatisticsRegionFactory;
+
+/**
+ * A bounded cache of statistics, keyed by the budget they describe, the version of that budget and the parameters
+ * they were created with. Statistics of a budget are dropped as soon as statistics of a changed version of it are
+ * cached, and the least recently used statistics are dropped once the cache is full.
+ * Cached statistics are populated at most once, however often they are shown.
+ */
+public class StatisticsCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+
+    public static final String MESSAGE_CONSTRAINTS = "The capacity of a statistics cache should be positive";
+
+    private static final Logger logger = LogsCenter.getLogger(StatisticsCache.class);
+
+    private final Map<Key, Statistics> cache;
+    private int hitCount;
+    private int missCount;
+
+    public StatisticsCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a {@code StatisticsCache} holding the statistics of at most {@code capacity} requests.
+     */
+    public StatisticsCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        cache = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Statistics> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the statistics cached for {@code budget} and {@code parameters}, or else caches and returns the
+     * statistics created by {@code creator}.
+     *
+     * @param budget The budget described by the statistics.
+     * @param parameters The parameters which, together with the budget, determine the statistics.
+     * @param creator The function creating the statistics, which need not be populated.
+     */
+    public Statistics getOrCreate(Budget budget, List<?> parameters, Supplier<Statistics> creator) {
+        requireAllNonNull(budget, parameters, creator);
+        Key key = new Key(budget.getDescription(), budget.getVersion(), parameters);
+
+        Statistics statistics = cache.get(key);
+        if (statistics != null) {
+            hitCount++;
+            logger.fine(String.format("Statistics cache hit (%d hits, %d misses)", hitCount, missCount));
+            return statistics;
+        }
+
+        missCount++;
+        logger.fine(String.format("Statistics cache miss (%d hits, %d misses)", hitCount, missCount));
+        cache.keySet().removeIf(cachedKey -> cachedKey.isOlderVersionOf(key));
+        statistics = new MemoizedStatistics(creator.get());
+        cache.put(key, statistics);
+        return statistics;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Identifies the statistics of a version of a budget created with some parameters.
+     */
+    private static class Key {
+        private final Description budgetDescription;
+        private final long budgetVersion;
+        private final List<?> parameters;
+
+        private Key(Description budgetDescription, long budgetVersion, List<?> parameters) {
+            this.budgetDescription = budgetDescription;
+            this.budgetVersion = budgetVersion;
+            this.parameters = parameters;
+        }
+
+        /**
+         * Returns true if this key describes the same budget as {@code other}, but a different version of it.
+         */
+        private boolean isOlderVersionOf(Key other) {
+            return budgetDescription.equals(other.budgetDescription) && budgetVersion != other.budgetVersion;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Key // instanceof handles nulls
+                    && budgetDescription.equals(((Key) other).budgetDescription)
+                    && budgetVersion == ((Key) other).budgetVersion
+                    && parameters.equals(((Key) other).parameters));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(budgetDescription, budgetVersion, parameters);
+        }
+    }
+
+    /**
+     * Statistics which populate the statistics they wrap only the first time they are populated.
+     */
+    private static class MemoizedStatistics implements Statistics {
+        private final Statistics statistics;
+        private boolean isPopulated;
+
+        private MemoizedStatistics(Statistics statistics) {
+            this.statistics = statistics;
+        }
+
+        @Override
+        public String getTitle() {
+            return statistics.getTitle();
+        }
+
+        @Override
+        public void setTitle(String title) {
+            statistics.setTitle(title);
+        }
+
+        @Override
+        public synchronized void populateData() {
+            if (!isPopulated) {
+                statistics.populateData();
+                isPopulated = true;
+            }
+        }
+
+        @Override
+        public synchronized StatisticsRegionFactory createFactory() {
+            return statistics.createFactory();
+        }
+
+        @Override
+        public String toString() {
+            return statistics.toString();
+        }
+    }
+}
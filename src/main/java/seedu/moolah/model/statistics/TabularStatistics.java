@@ -3,10 +3,9 @@ package seedu.moolah.model.statistics;
 import java.util.ArrayList;
 import java.util.List;
 
-import javafx.collections.ObservableList;
-
-import seedu.moolah.model.expense.Expense;
+import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Price;
 import seedu.moolah.model.general.Timestamp;
 import seedu.moolah.ui.statistics.StatisticsRegionFactory;
 import seedu.moolah.ui.statistics.TableViewRegionFactory;
@@ -26,7 +25,7 @@ public class TabularStatistics implements Statistics {
 
     private int numOfCategories;
 
-    private ObservableList<Expense> expenses;
+    private DailyCategoryTotals dailyCategoryTotals;
 
     //after population
 
@@ -34,11 +33,11 @@ public class TabularStatistics implements Statistics {
 
     private String title;
 
-    public TabularStatistics(ObservableList<Expense> expenses,
+    public TabularStatistics(Budget primaryBudget,
                               Timestamp firstStartDate, Timestamp firstEndDate,
                               Timestamp secondStartDate, Timestamp secondEndDate) {
 
-        this.expenses = expenses;
+        this.dailyCategoryTotals = primaryBudget.getDailyCategoryTotals();
         this.firstStartDate = firstStartDate;
         this.firstEndDate = firstEndDate;
         this.secondStartDate = secondStartDate;
@@ -46,10 +45,10 @@ public class TabularStatistics implements Statistics {
         this.numOfCategories = Category.getNumValidCategory();
     }
 
-    TabularStatistics(ObservableList<Expense> expenses,
+    TabularStatistics(Budget primaryBudget,
                       Timestamp firstStartDate, Timestamp firstEndDate) {
 
-        this.expenses = expenses;
+        this.dailyCategoryTotals = primaryBudget.getDailyCategoryTotals();
         this.firstStartDate = firstStartDate;
         this.firstEndDate = firstEndDate;
         this.numOfCategories = Category.getNumValidCategory();
@@ -63,8 +62,8 @@ public class TabularStatistics implements Statistics {
      * Gathers the data to be used for the elements of the table
      */
     private void generateTableData() {
-        List<List<Expense>> firstData = extractRelevantExpenses(firstStartDate, firstEndDate);
-        List<List<Expense>> secondData = extractRelevantExpenses(secondStartDate, secondEndDate);
+        CategoryTotals firstData = sumRelevantExpenses(firstStartDate, firstEndDate);
+        CategoryTotals secondData = sumRelevantExpenses(secondStartDate, secondEndDate);
 
         String title = String.format("Statistics Summary: Comparing %s to %s with %s to %s\n",
                 firstStartDate.showDate(), firstEndDate.showDate(),
@@ -90,7 +89,7 @@ public class TabularStatistics implements Statistics {
             overlapStartDate = firstStartDate;
         }
 
-        List<List<Expense>> unionData = extractRelevantExpenses(overlapStartDate, overlapEndDate);
+        CategoryTotals unionData = sumRelevantExpenses(overlapStartDate, overlapEndDate);
         convertDataToFigures(unionData, unionTable);
 
         this.unionDifferenceTable = combine(unionTable, differenceTable);
@@ -132,47 +131,27 @@ public class TabularStatistics implements Statistics {
 
 
     /**
-     * Extracts the expenses that are between the 2 dates
+     * Sums up the expenses that are between the 2 dates
      *
-     * @return A list of categorised expenses according to their categories
+     * @return The totals of the expenses in each category
      */
-    List<List<Expense>> extractRelevantExpenses(Timestamp startDate, Timestamp endDate) {
-        List<List<Expense>> data = new ArrayList<>();
-        for (int i = 0; i <= numOfCategories; i++) {
-            data.add(new ArrayList<>());
-        }
-
-        for (Expense expense : expenses) {
-            Timestamp date = expense.getTimestamp();
-            if (date.compareDateTo(startDate) != -1 && date.compareDateTo(endDate) != 1) {
-                data.get(numOfCategories).add(expense);
-                int index = Category.indexOfInList(expense.getCategory());
-                data.get(index).add(expense);
-            }
-        }
-        return data;
+    CategoryTotals sumRelevantExpenses(Timestamp startDate, Timestamp endDate) {
+        return dailyCategoryTotals.getTotalsBetween(startDate, endDate);
     }
 
     /**
      * Fills in the table with calculations from the expenses
      */
-    private void convertDataToFigures(List<List<Expense>> data,
+    private void convertDataToFigures(CategoryTotals data,
                                       List<ThreeElementTableEntry> table) {
 
         table.set(numOfCategories, new ThreeElementTableEntry("TOTAL", 0, 0));
         ThreeElementTableEntry entryForTotal = table.get(numOfCategories);
 
+        List<Category> categories = Category.getValidCategories();
         for (int i = 0; i < numOfCategories; i++) {
-            List<Expense> categoryStats = data.get(i);
-
-            double categoricalTotal = 0;
-            int entryNumber = 0;
-            for (Expense expense : categoryStats) {
-                categoricalTotal += Double.parseDouble(expense.getPrice().value);
-                entryNumber++;
-            }
             ThreeElementTableEntry changes = new ThreeElementTableEntry(
-                    Category.getValidCategories().get(i), categoricalTotal, entryNumber);
+                    categories.get(i), Price.toDollars(data.getCents(i)), data.getCount(i));
             table.set(i, changes);
             entryForTotal = entryForTotal.add(changes);
         }
@@ -1,15 +1,19 @@
 package seedu.moolah.model.statistics;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import javafx.collections.ObservableList;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.budget.BudgetPeriod;
-import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Price;
 import seedu.moolah.model.general.Timestamp;
 import seedu.moolah.ui.statistics.LineChartBudgetRegionFactory;
 import seedu.moolah.ui.statistics.LineChartCategoriesRegionFactory;
@@ -20,7 +24,12 @@ import seedu.moolah.ui.statistics.StatisticsRegionFactory;
  */
 public class TrendStatistics implements Statistics {
 
-    public static final int INTERVAL_COUNT = 32;
+    public static final int DEFAULT_INTERVAL_COUNT = 32;
+
+    public static final String MESSAGE_CONSTRAINTS = "The maximum number of intervals should be positive";
+
+    // average lengths used to estimate how many periods lie between two dates
+    private static final double DAYS_PER_MONTH = 365.2425 / 12;
 
     private Timestamp startDate;
 
@@ -30,156 +39,150 @@ public class TrendStatistics implements Statistics {
 
     private boolean isBudgetLimitMode;
 
-    private ObservableList<Expense> expenses;
+    private int maxIntervalCount;
 
     //after population
 
     private List<Timestamp> dates = new ArrayList<>();
 
-    private List<Double> periodicTotalExpenditures = new ArrayList<>();
+    private double[] periodicTotalExpenditures = new double[0];
 
-    private List<Double> periodicBudgetLimits = new ArrayList<>();
+    private double periodicBudgetLimit;
 
-    private List<List<Double>> periodicCategoricalExpenses = new ArrayList<>();
+    // one row of intervals per category, indexed by category ordinal
+    private double[][] periodicCategoricalExpenses = new double[0][];
 
     private String title;
 
     public TrendStatistics(Timestamp startDate, Timestamp endDate, Budget primaryBudget, boolean isBudgetMode) {
+        this(startDate, endDate, primaryBudget, isBudgetMode, DEFAULT_INTERVAL_COUNT);
+    }
+
+    /**
+     * Creates a trend line of at most {@code maxIntervalCount} intervals from {@code startDate} to {@code endDate}.
+     */
+    public TrendStatistics(Timestamp startDate, Timestamp endDate, Budget primaryBudget, boolean isBudgetMode,
+                           int maxIntervalCount) {
 
         requireNonNull(startDate);
         requireNonNull(endDate);
         requireNonNull(primaryBudget);
+        checkArgument(maxIntervalCount > 0, MESSAGE_CONSTRAINTS);
 
-        this.expenses = primaryBudget.getExpenses();
         this.startDate = startDate;
         this.endDate = endDate;
         this.primaryBudget = primaryBudget;
         this.isBudgetLimitMode = isBudgetMode;
-        if (!isBudgetLimitMode) {
-            for (int i = 0; i < Category.getNumValidCategory(); i++) {
-                periodicCategoricalExpenses.add(new ArrayList<>());
-            }
-        }
+        this.maxIntervalCount = maxIntervalCount;
     }
 
     /**
-     * Gathers the data to be used for the elements of the trend line
+     * Gathers the data to be used for the elements of the trend line.
+     * The intervals are the budget windows, counted from the current window, which start from {@code startDate} to
+     * {@code endDate}. Their totals are read in a single sweep over the days with expenses.
      */
     private void generateTrendLine() {
 
         BudgetPeriod period = primaryBudget.getBudgetPeriod();
         Timestamp windowStartDate = primaryBudget.getWindowStartDate();
 
-        Timestamp validDate = findClosestWindowStartDate(startDate, windowStartDate, period);
-
-        int intervalCount = 0;
-
-
-        while (hasInterval(validDate, endDate, period) && intervalCount < INTERVAL_COUNT) {
-            Timestamp localStartDate = validDate;
-
-
-            Timestamp nextLocalStartDate = localStartDate.plus(period.getPeriod());
-            Timestamp localEndDate = nextLocalStartDate.minusDays(1);
-
-            List<List<Expense>> categorisedPeriodicExpenses =
-                    getCategorisedPeriodicExpenses(localStartDate, localEndDate);
+        dates = getIntervalStartDates(windowStartDate, period.getPeriod());
+        int intervalCount = dates.size();
+        LocalDate[] boundaries = new LocalDate[intervalCount + 1];
+        for (int k = 0; k < intervalCount; k++) {
+            boundaries[k] = dates.get(k).getDate();
+        }
+        boundaries[intervalCount] = intervalCount == 0
+                ? startDate.getDate()
+                : dates.get(intervalCount - 1).plus(period.getPeriod()).getDate();
 
+        long[] cents = primaryBudget.getDailyCategoryTotals().getCentsByInterval(boundaries);
+        int numCategories = Category.getNumValidCategory();
 
-            if (isBudgetLimitMode) {
-                double periodicTotalExpenditure = getTotalExpenditure(categorisedPeriodicExpenses);
-                this.periodicTotalExpenditures.add(periodicTotalExpenditure);
-                periodicBudgetLimits.add(primaryBudget.getAmount().getAsDouble());
-            } else {
-                List<Double> categorisedExpenditureAtPeriod = getCategoricalExpenditure(categorisedPeriodicExpenses);
-                flatMapAdd(categorisedExpenditureAtPeriod);
+        if (isBudgetLimitMode) {
+            periodicTotalExpenditures = new double[intervalCount];
+            for (int k = 0; k < intervalCount; k++) {
+                long totalCents = 0;
+                for (int i = 0; i < numCategories; i++) {
+                    totalCents = Price.addCents(totalCents, cents[k * numCategories + i]);
+                }
+                periodicTotalExpenditures[k] = Price.toDollars(totalCents);
+            }
+            periodicBudgetLimit = primaryBudget.getAmount().getAsDouble();
+        } else {
+            periodicCategoricalExpenses = new double[numCategories][intervalCount];
+            for (int k = 0; k < intervalCount; k++) {
+                for (int i = 0; i < numCategories; i++) {
+                    periodicCategoricalExpenses[i][k] = Price.toDollars(cents[k * numCategories + i]);
+                }
             }
-            dates.add(localStartDate);
-            intervalCount++;
-            validDate = nextLocalStartDate;
-
         }
+
         this.setTitle(String.format("Periodic trendline from %s to %s in the unit of %ss",
                 startDate.showDate(), endDate.showDate(),
                 period));
     }
 
     /**
-     * Finds the window start date that is closest to the start date of interest
-     * @param startDate The start date for the trend line
-     * @param windowStartDate The start date for the current winndow
-     * @param period The duration of the window
+     * Returns the start dates of the windows, of length {@code period}, which are counted from
+     * {@code windowStartDate} and start from {@code startDate} to {@code endDate}, up to the maximum number of
+     * intervals. Each start date is computed from {@code windowStartDate} directly, so that the windows do not drift
+     * when a month is shorter than the day of the window start.
      */
-    private Timestamp findClosestWindowStartDate(Timestamp startDate, Timestamp windowStartDate, BudgetPeriod period) {
-        Timestamp changedWindowDate = windowStartDate.createBackwardTimestamp(period);
-        while (windowStartDate.dateIsAfter(startDate) && changedWindowDate.dateIsAfter(startDate)) {
-            windowStartDate = changedWindowDate;
-            changedWindowDate = changedWindowDate.createBackwardTimestamp(period);
+    private List<Timestamp> getIntervalStartDates(Timestamp windowStartDate, Period period) {
+        List<Timestamp> startDates = new ArrayList<>();
+        int k = findFirstWindowIndex(windowStartDate.getDate(), startDate.getDate(), period);
+        Timestamp intervalStartDate = windowStartDate.plus(period.multipliedBy(k));
+        while (!intervalStartDate.dateIsAfter(endDate) && startDates.size() < maxIntervalCount) {
+            startDates.add(intervalStartDate);
+            k++;
+            intervalStartDate = windowStartDate.plus(period.multipliedBy(k));
         }
-        //edge case
-        if (changedWindowDate.getDate().equals(startDate.getDate())) {
-            windowStartDate = changedWindowDate;
-        }
-
-        return windowStartDate;
+        return startDates;
     }
 
     /**
-     * Adds the periodic expenditure from each category to its respective category list
-     * @param categorisedExpenditureAtPeriod A list of total expenditure for each category
+     * Returns the smallest k such that the window which starts k periods after {@code windowStartDate} starts on or
+     * after {@code startDate}, where k may be negative. k is estimated from the average length of the period, then
+     * corrected by at most a few steps.
      */
-    private void flatMapAdd(List<Double> categorisedExpenditureAtPeriod) {
-        for (int i = 0; i < categorisedExpenditureAtPeriod.size(); i++) {
-            List<Double> categoricalExpenses = periodicCategoricalExpenses.get(i);
-            categoricalExpenses.add(categorisedExpenditureAtPeriod.get(i));
+    private static int findFirstWindowIndex(LocalDate windowStartDate, LocalDate startDate, Period period) {
+        double averagePeriodDays = period.toTotalMonths() * DAYS_PER_MONTH + period.getDays();
+        int k = (int) Math.ceil(ChronoUnit.DAYS.between(windowStartDate, startDate) / averagePeriodDays);
+        while (windowStartDate.plus(period.multipliedBy(k)).isBefore(startDate)) {
+            k++;
         }
-    }
-
-    private List<List<Expense>> getCategorisedPeriodicExpenses(Timestamp startDate, Timestamp endDate) {
-        TabularStatistics statistics = new TabularStatistics(expenses, startDate, endDate);
-        List<List<Expense>> dataWithTotal = statistics.extractRelevantExpenses(startDate, endDate);
-        dataWithTotal.remove(dataWithTotal.size() - 1);
-        return dataWithTotal;
-    }
-
-    private double getExpenditureForCategory(List<Expense> categorisedExpenses) {
-        double total = 0;
-        for (Expense expense : categorisedExpenses) {
-            total += Double.parseDouble(expense.getPrice().value);
+        while (!windowStartDate.plus(period.multipliedBy(k - 1)).isBefore(startDate)) {
+            k--;
         }
-        return total;
+        return k;
     }
 
-    private double getTotalExpenditure(List<List<Expense>> data) {
-        double total = 0;
-        for (List<Expense> categorisedExpenses : data) {
-            total += getExpenditureForCategory(categorisedExpenses);
-        }
-        return total;
-    }
-
-    private List<Double> getCategoricalExpenditure(List<List<Expense>> data) {
-        ArrayList<Double> result = new ArrayList<>();
-        for (List<Expense> categorisedExpenses : data) {
-            result.add(getExpenditureForCategory(categorisedExpenses));
+    public List<List<Double>> getPeriodicCategoricalExpenses() {
+        List<List<Double>> result = new ArrayList<>();
+        for (double[] categoricalExpenses : periodicCategoricalExpenses) {
+            result.add(toList(categoricalExpenses));
         }
         return result;
     }
 
-    public List<List<Double>> getPeriodicCategoricalExpenses() {
-        return periodicCategoricalExpenses;
-    }
-
-    private static boolean hasInterval (Timestamp validDate, Timestamp endDate, BudgetPeriod period) {
-        return !validDate.dateIsAfter(endDate);
-    }
-
     public List<Timestamp> getDates() {
         return dates;
     }
 
+    /**
+     * Returns the values of {@code values} as a list.
+     */
+    private static List<Double> toList(double[] values) {
+        List<Double> result = new ArrayList<>(values.length);
+        for (double value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
     public String toString() {
-        return String.format("%s\n%s", getTitle(), periodicTotalExpenditures);
+        return String.format("%s\n%s", getTitle(), toList(periodicTotalExpenditures));
     }
 
     @Override
@@ -200,12 +203,10 @@ public class TrendStatistics implements Statistics {
     @Override
     public StatisticsRegionFactory createFactory() {
         if (isBudgetLimitMode) {
-            return new LineChartBudgetRegionFactory(dates, periodicTotalExpenditures, periodicBudgetLimits, title);
+            return new LineChartBudgetRegionFactory(dates, toList(periodicTotalExpenditures),
+                    Collections.nCopies(periodicTotalExpenditures.length, periodicBudgetLimit), title);
         } else {
-            return new LineChartCategoriesRegionFactory(dates, periodicCategoricalExpenses, title);
+            return new LineChartCategoriesRegionFactory(dates, getPeriodicCategoricalExpenses(), title);
         }
     }
 }
-
-
-
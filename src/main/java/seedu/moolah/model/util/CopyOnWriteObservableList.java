@@ -0,0 +1,170 @@
+package seedu.moolah.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} that shares its backing elements with its copies until either of them is modified.
+ * Copying is O(1); the first modification of a shared list makes a private copy of the backing elements.
+ * Two lists that still share their backing elements are known to be equal without comparing any element.
+ *
+ * @param <E> The type of elements in this list.
+ */
+public class CopyOnWriteObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private List<E> elements;
+    private boolean isShared;
+
+    /**
+     * Constructs an empty {@code CopyOnWriteObservableList}.
+     */
+    public CopyOnWriteObservableList() {
+        elements = new ArrayList<>();
+    }
+
+    /**
+     * Constructs a {@code CopyOnWriteObservableList} containing the given elements, in the same order.
+     *
+     * @param elements The elements to be placed in the list.
+     */
+    public CopyOnWriteObservableList(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        this.elements = new ArrayList<>(elements);
+    }
+
+    /**
+     * Returns a copy of the given list, sharing the backing elements if it is a {@code CopyOnWriteObservableList}.
+     *
+     * @param source The list to be copied.
+     * @return A new {@code CopyOnWriteObservableList} with the same elements as {@code source}.
+     */
+    public static <E> CopyOnWriteObservableList<E> copyOf(List<? extends E> source) {
+        requireNonNull(source);
+        if (!(source instanceof CopyOnWriteObservableList)) {
+            return new CopyOnWriteObservableList<>(source);
+        }
+        CopyOnWriteObservableList<E> copy = new CopyOnWriteObservableList<>();
+        copy.shareElementsOf((CopyOnWriteObservableList<? extends E>) source);
+        return copy;
+    }
+
+    /**
+     * Returns true if this list and {@code other} are backed by the same elements.
+     */
+    public boolean sharesElementsWith(CopyOnWriteObservableList<?> other) {
+        return other != null && elements == other.elements;
+    }
+
+    /**
+     * Makes this list share the backing elements of {@code other}.
+     * The elements are never modified while shared, so they can be viewed as elements of this list.
+     */
+    @SuppressWarnings("unchecked")
+    private void shareElementsOf(CopyOnWriteObservableList<? extends E> other) {
+        other.isShared = true;
+        elements = (List<E>) other.elements;
+        isShared = true;
+    }
+
+    /**
+     * Gives this list a private copy of its backing elements if they may be shared with another list.
+     */
+    private void ensureExclusiveElements() {
+        if (isShared) {
+            elements = new ArrayList<>(elements);
+            isShared = false;
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        ensureExclusiveElements();
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        ensureExclusiveElements();
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        ensureExclusiveElements();
+        return elements.remove(index);
+    }
+
+    /**
+     * Replaces all elements of this list with the elements of {@code col}, reported as a single change.
+     * If {@code col} is a {@code CopyOnWriteObservableList}, its backing elements are shared instead of copied.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean setAll(Collection<? extends E> col) {
+        requireNonNull(col);
+        List<E> removed = elements;
+        if (col instanceof CopyOnWriteObservableList) {
+            shareElementsOf((CopyOnWriteObservableList<? extends E>) col);
+        } else {
+            elements = new ArrayList<>(col);
+            isShared = false;
+        }
+        fireReplacement(removed);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (isEmpty()) {
+            return;
+        }
+        List<E> removed = elements;
+        elements = new ArrayList<>();
+        isShared = false;
+        fireReplacement(removed);
+    }
+
+    /**
+     * Notifies listeners that {@code removed} has been replaced by the current elements of this list.
+     * {@code removed} is no longer referenced by this list, so it is safe to hand out to listeners.
+     */
+    private void fireReplacement(List<E> removed) {
+        modCount++;
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!elements.isEmpty()) {
+            nextAdd(0, elements.size());
+        }
+        endChange();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CopyOnWriteObservableList
+                        && sharesElementsWith((CopyOnWriteObservableList<?>) other))
+                || super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
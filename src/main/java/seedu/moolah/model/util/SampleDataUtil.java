@@ -2,6 +2,8 @@ package seedu.moolah.model.util;
 
 import static seedu.moolah.model.budget.Budget.DEFAULT_BUDGET_DESCRIPTION;
 
+import java.util.Arrays;
+
 import seedu.moolah.model.MooLah;
 import seedu.moolah.model.ReadOnlyMooLah;
 import seedu.moolah.model.budget.Budget;
@@ -315,9 +317,7 @@ public class SampleDataUtil {
         for (Budget sampleBudget : getSampleBudgets()) {
             sampleMl.addBudget(sampleBudget);
         }
-        for (Expense sampleExpense : getSampleExpenses()) {
-            sampleMl.addExpense(sampleExpense);
-        }
+        sampleMl.addExpenses(Arrays.asList(getSampleExpenses()));
         for (Event sampleEvent : getSampleEvents()) {
             sampleMl.addEvent(sampleEvent);
         }
@@ -325,7 +325,7 @@ public class SampleDataUtil {
     }
 
     public static Category getCategory(String category) {
-        return new Category(category);
+        return Category.of(category);
     }
 
 }
@@ -0,0 +1,234 @@
+package seedu.moolah.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.moolah.commons.core.LogsCenter;
+import seedu.moolah.model.MooLah;
+import seedu.moolah.model.ReadOnlyMooLah;
+import seedu.moolah.model.ReadOnlyUserPrefs;
+
+/**
+ * Saves MooLah data and user preferences to a {@code Storage} on a background thread.
+ * Each save request takes copies of the data on the calling thread, so the caller may keep modifying it while the
+ * saving thread reads only the copies. Requests made while a write is pending are coalesced, so that only the most
+ * recent data is written.
+ * Only the data modified since the previous request is copied and written, so requests made after commands which
+ * change nothing cost nothing.
+ * Data whose write failed is kept, and written again with the next request, until a write of it succeeds.
+ */
+public class AsyncSaver {
+
+    private static final String THREAD_NAME = "MooLah-save";
+    private static final long NO_VERSION = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+
+    private Consumer<IOException> onSaveFailure = e -> { };
+    private Snapshot pendingSnapshot;
+    // the data whose most recent write failed, or null if all data requested so far has been written
+    private Snapshot unsavedSnapshot;
+    private int pendingWriteDepth;
+    private IOException lastFailure;
+    private volatile Duration lastSaveLatency = Duration.ZERO;
+
+    // the versions of the data of the previous request, or NO_VERSION before the first request
+    private long lastMooLahVersion = NO_VERSION;
+    private long lastUserPrefsVersion = NO_VERSION;
+
+    /**
+     * Constructs an {@code AsyncSaver} which writes to {@code storage} on its own daemon thread.
+     */
+    public AsyncSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler to be notified, on the saving thread, of every failed write.
+     */
+    public void setOnSaveFailure(Consumer<IOException> onSaveFailure) {
+        requireNonNull(onSaveFailure);
+        this.onSaveFailure = onSaveFailure;
+    }
+
+    /**
+     * Schedules a copy of {@code mooLah} and {@code userPrefs} to be written to storage, skipping either of them if
+     * it has not been modified since the previous request. Nothing is scheduled if neither has been modified and no
+     * earlier write has failed. If an earlier request has not been written yet, it is replaced by this one.
+     */
+    public void save(ReadOnlyMooLah mooLah, ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(mooLah);
+        requireNonNull(userPrefs);
+
+        synchronized (this) {
+            ReadOnlyMooLah mooLahCopy = null;
+            if (mooLah.getVersion() != lastMooLahVersion) {
+                lastMooLahVersion = mooLah.getVersion();
+                // copied on the calling thread, as budgets are changed in place by the thread which owns them
+                mooLahCopy = deepCopyOf(mooLah);
+            }
+            ReadOnlyUserPrefs userPrefsCopy = null;
+            if (userPrefs.getVersion() != lastUserPrefsVersion) {
+                lastUserPrefsVersion = userPrefs.getVersion();
+                userPrefsCopy = userPrefs.copy();
+            }
+            if (mooLahCopy == null && userPrefsCopy == null && unsavedSnapshot == null) {
+                logger.fine("Skipped saving unmodified data");
+                return;
+            }
+
+            Snapshot snapshot = new Snapshot(mooLahCopy, userPrefsCopy);
+            boolean isWriteScheduled = pendingSnapshot != null;
+            pendingSnapshot = isWriteScheduled ? pendingSnapshot.updatedWith(snapshot) : snapshot;
+            pendingWriteDepth++;
+            if (!isWriteScheduled) {
+                executor.execute(this::writePendingSnapshot);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code mooLah} which shares nothing that is changed in place, such as its budgets.
+     */
+    private static MooLah deepCopyOf(ReadOnlyMooLah mooLah) {
+        return mooLah instanceof MooLah ? ((MooLah) mooLah).deepCopy() : new MooLah(mooLah).deepCopy();
+    }
+
+    /**
+     * Writes the most recently requested snapshot, covering every request made up to that point, together with the
+     * data whose previous write failed. Each part is written even if the other fails.
+     */
+    private void writePendingSnapshot() {
+        Snapshot snapshot;
+        int coveredRequests;
+        synchronized (this) {
+            snapshot = unsavedSnapshot != null ? unsavedSnapshot.updatedWith(pendingSnapshot) : pendingSnapshot;
+            coveredRequests = pendingWriteDepth;
+            pendingSnapshot = null;
+        }
+
+        long start = System.nanoTime();
+        IOException failure = null;
+        ReadOnlyMooLah unsavedMooLah = null;
+        ReadOnlyUserPrefs unsavedUserPrefs = null;
+        if (snapshot.mooLah != null) {
+            try {
+                storage.saveMooLah(snapshot.mooLah);
+            } catch (IOException e) {
+                failure = e;
+                unsavedMooLah = snapshot.mooLah;
+            }
+        }
+        if (snapshot.userPrefs != null) {
+            try {
+                storage.saveUserPrefs(snapshot.userPrefs);
+            } catch (IOException e) {
+                failure = e;
+                unsavedUserPrefs = snapshot.userPrefs;
+            }
+        }
+        lastSaveLatency = Duration.ofNanos(System.nanoTime() - start);
+
+        synchronized (this) {
+            pendingWriteDepth -= coveredRequests;
+            // the failure is kept until the data which failed to be written has been written
+            unsavedSnapshot = failure != null ? new Snapshot(unsavedMooLah, unsavedUserPrefs) : null;
+            lastFailure = failure;
+        }
+
+        if (failure != null) {
+            logger.warning("Failed to save data: " + failure);
+            onSaveFailure.accept(failure);
+        } else {
+            logger.fine(String.format("Saved %d coalesced request(s) in %d ms", coveredRequests,
+                    lastSaveLatency.toMillis()));
+        }
+    }
+
+    /**
+     * Returns the number of save requests whose data has not been written yet.
+     */
+    public synchronized int getPendingWriteDepth() {
+        return pendingWriteDepth;
+    }
+
+    /**
+     * Returns the time taken by the most recent write.
+     */
+    public Duration getLastSaveLatency() {
+        return lastSaveLatency;
+    }
+
+    /**
+     * Waits until the data of every save request made so far has been written.
+     *
+     * @throws IOException if some of the data failed to be written, and has not been written since.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        synchronized (this) {
+            if (lastFailure != null) {
+                throw lastFailure;
+            }
+        }
+    }
+
+    /**
+     * Writes the data of every save request made so far, then stops the saving thread.
+     *
+     * @throws IOException if some of the data failed to be written, and has not been written since.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Copies of the data to be written by a single write, where data which need not be written is null.
+     */
+    private static class Snapshot {
+        private final ReadOnlyMooLah mooLah;
+        private final ReadOnlyUserPrefs userPrefs;
+
+        private Snapshot(ReadOnlyMooLah mooLah, ReadOnlyUserPrefs userPrefs) {
+            this.mooLah = mooLah;
+            this.userPrefs = userPrefs;
+        }
+
+        /**
+         * Returns a snapshot holding the data of {@code newer}, and the data of this snapshot where {@code newer}
+         * holds none.
+         */
+        private Snapshot updatedWith(Snapshot newer) {
+            return new Snapshot(newer.mooLah != null ? newer.mooLah : mooLah,
+                    newer.userPrefs != null ? newer.userPrefs : userPrefs);
+        }
+    }
+}
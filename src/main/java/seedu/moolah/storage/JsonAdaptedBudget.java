@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -63,31 +64,71 @@ class JsonAdaptedBudget {
      * @param source The source budget to be converted.
      */
     public JsonAdaptedBudget(Budget source) {
+        this(source, true);
+    }
+
+    /**
+     * Converts a given {@code Budget} into this class for Jackson use.
+     *
+     * @param source The source budget to be converted.
+     * @param isListingExpenses Whether the unique identifiers of the expenses of the budget are kept.
+     */
+    private JsonAdaptedBudget(Budget source, boolean isListingExpenses) {
         requireNonNull(source);
         description = source.getDescription().fullDescription;
         amount = source.getAmount().value;
-        startDate = source.getWindowStartDate().toString();
-        endDate = source.getWindowEndDate().toString();
+        startDate = source.getWindowStartDate().toStorageString();
+        endDate = source.getWindowEndDate().toStorageString();
         period = source.getBudgetPeriod().toString();
-        expenseIds.addAll(source.getExpenses().stream()
-                .map(e -> e.getUniqueIdentifier().value)
-                .collect(Collectors.toList()));
+        if (isListingExpenses) {
+            expenseIds.addAll(source.getExpenses().stream()
+                    .map(e -> e.getUniqueIdentifier().value)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Converts a given {@code Budget} into this class without listing its expenses, so that a log entry holding it
+     * does not grow with the number of expenses of the budget.
+     * When the log is replayed, the budget takes the expenses listed by the budget of the same name it replaces,
+     * and expenses added since are found by their budget name.
+     *
+     * @param source The source budget to be converted.
+     */
+    public static JsonAdaptedBudget withoutExpenses(Budget source) {
+        return new JsonAdaptedBudget(source, false);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Lists the expenses listed by {@code replaced} as the expenses of this budget, if this budget lists none.
+     *
+     * @param replaced The budget of the same name which this budget replaces.
+     */
+    public void listExpensesOf(JsonAdaptedBudget replaced) {
+        requireNonNull(replaced);
+        if (expenseIds.isEmpty()) {
+            expenseIds = replaced.expenseIds;
+        }
     }
 
     /**
      * Converts this Jackson-friendly adapted budget object into the model's {@code Budget} object.
      *
-     * @param expenses A list of expenses to refer to when reconstructing expenses from UniqueIdentifiers.
+     * @param expensesById Expenses already converted to the model type, keyed by their unique identifier,
+     *                     to refer to when reconstructing expenses from UniqueIdentifiers.
      * @throws IllegalValueException if there were any data constraints violated in the adapted budget.
      */
-    public Budget toModelType(List<JsonAdaptedExpense> expenses) throws IllegalValueException {
+    public Budget toModelType(Map<String, Expense> expensesById) throws IllegalValueException {
+        requireNonNull(expensesById);
         final ObservableList<Expense> expenseList = FXCollections.observableArrayList();
         for (String id : expenseIds) {
-            for (JsonAdaptedExpense je : expenses) {
-                Expense e = je.toModelType();
-                if (e.uniqueIdIs(id)) {
-                    expenseList.add(e);
-                }
+            Expense e = expensesById.get(id);
+            if (e != null) {
+                expenseList.add(e);
             }
         }
 
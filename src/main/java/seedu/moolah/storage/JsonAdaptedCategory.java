@@ -42,7 +42,7 @@ class JsonAdaptedCategory {
         if (!Category.isValidCategoryName(categoryName)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(categoryName);
+        return Category.of(categoryName);
     }
 
 }
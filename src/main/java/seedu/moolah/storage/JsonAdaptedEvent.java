@@ -48,7 +48,7 @@ class JsonAdaptedEvent {
     public JsonAdaptedEvent(Event source) {
         this.description = source.getDescription().fullDescription;
         this.price = source.getPrice().value;
-        this.rawTimestamp = source.getTimestamp().fullTimestamp.toString();
+        this.rawTimestamp = source.getTimestamp().toStorageString();
         this.category = source.getCategory().getCategoryName();
         this.budgetName = source.getBudgetName().fullDescription;
     }
@@ -67,7 +67,7 @@ class JsonAdaptedEvent {
         if (!Category.isValidCategoryName(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        Category modelCategory = new Category(category);
+        Category modelCategory = Category.of(category);
 
         if (description == null) {
             throw new IllegalValueException(
@@ -54,7 +54,7 @@ class JsonAdaptedExpense {
         price = source.getPrice().value;
         category = source.getCategory().getCategoryName();
         uniqueIdentifier = source.getUniqueIdentifier().value;
-        rawTimestamp = source.getTimestamp().fullTimestamp.toString();
+        rawTimestamp = source.getTimestamp().toStorageString();
         budgetName = source.getBudgetName().fullDescription;
     }
 
@@ -72,7 +72,7 @@ class JsonAdaptedExpense {
         if (!Category.isValidCategoryName(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        Category modelCategory = new Category(category);
+        Category modelCategory = Category.of(category);
 
         if (description == null) {
             throw new IllegalValueException(
@@ -0,0 +1,81 @@
+package seedu.moolah.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.moolah.commons.exceptions.IllegalValueException;
+import seedu.moolah.model.modelhistory.ListDelta;
+
+/**
+ * Jackson-friendly version of {@link ListDelta}, holding the adapted versions of the added elements.
+ * Only the number of removed elements is kept, as the log is only ever replayed forwards.
+ *
+ * @param <T> The Jackson-friendly type of elements in the list.
+ */
+class JsonAdaptedListDelta<T> {
+
+    public static final String MESSAGE_RANGE_OUT_OF_BOUNDS = "Logged change does not fit the stored list!";
+
+    private final int fromIndex;
+    private final int removedCount;
+    private final List<T> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListDelta} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListDelta(@JsonProperty("fromIndex") int fromIndex,
+                                @JsonProperty("removedCount") int removedCount,
+                                @JsonProperty("added") List<T> added) {
+        this.fromIndex = fromIndex;
+        this.removedCount = removedCount;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code ListDelta} into this class for Jackson use.
+     *
+     * @param source The source delta to be converted.
+     * @param adapter The conversion of each added element into its Jackson-friendly version.
+     */
+    public <S> JsonAdaptedListDelta(ListDelta<S> source, Function<? super S, ? extends T> adapter) {
+        requireNonNull(source);
+        requireNonNull(adapter);
+        fromIndex = source.getFromIndex();
+        removedCount = source.getRemoved().size();
+        for (S element : source.getAdded()) {
+            added.add(adapter.apply(element));
+        }
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Applies this change to the given list of Jackson-friendly elements.
+     *
+     * @return the elements removed from the list.
+     * @throws IllegalValueException if the removed range does not lie within the list.
+     */
+    public List<T> applyTo(List<T> list) throws IllegalValueException {
+        requireNonNull(list);
+        if (fromIndex < 0 || removedCount < 0 || fromIndex + removedCount > list.size()) {
+            throw new IllegalValueException(MESSAGE_RANGE_OUT_OF_BOUNDS);
+        }
+        List<T> removedRange = list.subList(fromIndex, fromIndex + removedCount);
+        List<T> removed = new ArrayList<>(removedRange);
+        removedRange.clear();
+        list.addAll(fromIndex, added);
+        return removed;
+    }
+
+}
@@ -0,0 +1,76 @@
+package seedu.moolah.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.moolah.model.modelhistory.MooLahDelta;
+
+/**
+ * Jackson-friendly version of {@link MooLahDelta}, forming a single entry of the MooLah log.
+ * Each entry names the generation of the snapshot it applies to, so that entries already compacted into a snapshot
+ * are not replayed.
+ * Budgets are logged without their expenses, so that the size of an entry depends only on the size of the change.
+ */
+class JsonAdaptedMooLahDelta {
+
+    private final long snapshotGeneration;
+    private final JsonAdaptedListDelta<JsonAdaptedExpense> expenses;
+    private final JsonAdaptedListDelta<JsonAdaptedEvent> events;
+    private final JsonAdaptedListDelta<JsonAdaptedBudget> budgets;
+    private final String primaryBudgetName;
+
+    /**
+     * Constructs a {@code JsonAdaptedMooLahDelta} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedMooLahDelta(@JsonProperty("snapshotGeneration") long snapshotGeneration,
+                                  @JsonProperty("expenses") JsonAdaptedListDelta<JsonAdaptedExpense> expenses,
+                                  @JsonProperty("events") JsonAdaptedListDelta<JsonAdaptedEvent> events,
+                                  @JsonProperty("budgets") JsonAdaptedListDelta<JsonAdaptedBudget> budgets,
+                                  @JsonProperty("primaryBudgetName") String primaryBudgetName) {
+        this.snapshotGeneration = snapshotGeneration;
+        this.expenses = expenses;
+        this.events = events;
+        this.budgets = budgets;
+        this.primaryBudgetName = primaryBudgetName;
+    }
+
+    /**
+     * Converts a given {@code MooLahDelta} into this class for Jackson use.
+     *
+     * @param snapshotGeneration The generation of the snapshot this change applies to.
+     * @param source The change to be converted.
+     * @param primaryBudgetName The name of the primary budget after the change.
+     */
+    public JsonAdaptedMooLahDelta(long snapshotGeneration, MooLahDelta source, String primaryBudgetName) {
+        requireNonNull(source);
+        this.snapshotGeneration = snapshotGeneration;
+        expenses = new JsonAdaptedListDelta<>(source.getExpenseDelta(), JsonAdaptedExpense::new);
+        events = new JsonAdaptedListDelta<>(source.getEventDelta(), JsonAdaptedEvent::new);
+        budgets = new JsonAdaptedListDelta<>(source.getBudgetDelta(), JsonAdaptedBudget::withoutExpenses);
+        this.primaryBudgetName = primaryBudgetName;
+    }
+
+    public long getSnapshotGeneration() {
+        return snapshotGeneration;
+    }
+
+    public JsonAdaptedListDelta<JsonAdaptedExpense> getExpenses() {
+        return expenses;
+    }
+
+    public JsonAdaptedListDelta<JsonAdaptedEvent> getEvents() {
+        return events;
+    }
+
+    public JsonAdaptedListDelta<JsonAdaptedBudget> getBudgets() {
+        return budgets;
+    }
+
+    public String getPrimaryBudgetName() {
+        return primaryBudgetName;
+    }
+
+}
@@ -2,23 +2,58 @@ package seedu.moolah.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.moolah.commons.core.LogsCenter;
 import seedu.moolah.commons.exceptions.DataConversionException;
 import seedu.moolah.commons.exceptions.IllegalValueException;
 import seedu.moolah.commons.util.FileUtil;
 import seedu.moolah.commons.util.JsonUtil;
+import seedu.moolah.model.MooLah;
 import seedu.moolah.model.ReadOnlyMooLah;
+import seedu.moolah.model.budget.Budget;
+import seedu.moolah.model.event.Event;
+import seedu.moolah.model.expense.Expense;
 
 /**
  * A class to access MooLah data stored as a json file on the hard disk.
+ * The file is read and written one record at a time, so that the whole file is never held in memory at once.
+ * Its format is the same as that of {@link JsonSerializableMooLah}.
  */
 public class JsonMooLahStorage implements MooLahStorage {
 
+    static final String EXPENSES_FIELD = "expenses";
+    static final String EVENTS_FIELD = "events";
+    static final String BUDGETS_FIELD = "budgets";
+    static final String PRIMARY_BUDGET_NAME_FIELD = "primaryBudgetName";
+    // name of the primary budget accepted by the constructor of JsonSerializableMooLah
+    static final String LEGACY_PRIMARY_BUDGET_NAME_FIELD = "primaryBudget";
+    // generation of a snapshot written by LogMooLahStorage, which is its first field when present
+    static final String SNAPSHOT_GENERATION_FIELD = "snapshotGeneration";
+    static final long NO_SNAPSHOT_GENERATION = 0;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private static final Logger logger = LogsCenter.getLogger(JsonMooLahStorage.class);
 
     private Path filePath;
@@ -45,20 +80,124 @@ public class JsonMooLahStorage implements MooLahStorage {
     public Optional<ReadOnlyMooLah> readMooLah(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableMooLah> jsonMooLah = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMooLah.class);
-        if (!jsonMooLah.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonMooLah.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return Optional.of(readMooLah(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads a MooLah from {@code in}, converting each expense and event into the model type as soon as it is read.
+     * Unknown fields are ignored.
+     *
+     * @throws IOException if {@code in} does not hold json data in the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static MooLah readMooLah(InputStream in) throws IOException, IllegalValueException {
+        Map<String, Expense> expensesById = new LinkedHashMap<>();
+        List<Event> events = new ArrayList<>();
+        List<JsonAdaptedBudget> budgets = new ArrayList<>();
+        String primaryBudgetName = null;
+        String legacyPrimaryBudgetName = null;
+
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected MooLah data to be an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case EXPENSES_FIELD:
+                    readRecords(parser, JsonAdaptedExpense.class,
+                        expense -> JsonSerializableMooLah.putExpense(expensesById, expense.toModelType()));
+                    break;
+                case EVENTS_FIELD:
+                    readRecords(parser, JsonAdaptedEvent.class, event -> events.add(event.toModelType()));
+                    break;
+                case BUDGETS_FIELD:
+                    // budgets refer to expenses by identifier, so they are converted once every expense is read
+                    readRecords(parser, JsonAdaptedBudget.class, budgets::add);
+                    break;
+                case PRIMARY_BUDGET_NAME_FIELD:
+                    primaryBudgetName = parser.getValueAsString();
+                    break;
+                case LEGACY_PRIMARY_BUDGET_NAME_FIELD:
+                    legacyPrimaryBudgetName = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return JsonSerializableMooLah.toModelType(expensesById, budgets, events,
+                primaryBudgetName != null ? primaryBudgetName : legacyPrimaryBudgetName);
+    }
+
+    /**
+     * Reads the generation of the snapshot in {@code in}, without reading the rest of the snapshot.
+     *
+     * @return the generation, or {@code NO_SNAPSHOT_GENERATION} if the snapshot has none.
+     * @throws IOException if {@code in} does not hold json data in the expected structure.
+     */
+    static long readSnapshotGeneration(InputStream in) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected MooLah data to be an object");
+            }
+            if (parser.nextToken() != JsonToken.FIELD_NAME
+                    || !SNAPSHOT_GENERATION_FIELD.equals(parser.getCurrentName())) {
+                return NO_SNAPSHOT_GENERATION;
+            }
+            if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                throw new JsonParseException(parser, "Expected the snapshot generation to be an integer");
+            }
+            return parser.getLongValue();
+        }
+    }
+
+    /**
+     * Reads the array of records at the current position of {@code parser}, handling each record as soon as it is
+     * read. An array given as null holds no records.
+     *
+     * @throws IOException if the value being read is not an array of records.
+     * @throws IllegalValueException if {@code handler} rejects a record.
+     */
+    private static <T> void readRecords(JsonParser parser, Class<T> recordClass, RecordHandler<T> handler)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of records");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a record");
+            }
+            handler.handle(parser.readValueAs(recordClass));
+        }
+    }
+
+    /**
+     * Handles a single record read from the json file.
+     */
+    @FunctionalInterface
+    private interface RecordHandler<T> {
+        void handle(T record) throws IllegalValueException;
+    }
+
     @Override
     public void saveMooLah(ReadOnlyMooLah mooLah) throws IOException {
         saveMooLah(mooLah, filePath);
@@ -74,7 +213,55 @@ public class JsonMooLahStorage implements MooLahStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMooLah(mooLah), filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeMooLah(mooLah, new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        }
+    }
+
+    /**
+     * Writes {@code mooLah} to {@code out} one record at a time, in the same format as
+     * {@code JsonUtil.toJsonString(new JsonSerializableMooLah(mooLah))}.
+     * {@code out} is flushed but left open.
+     */
+    static void writeMooLah(ReadOnlyMooLah mooLah, OutputStream out) throws IOException {
+        writeMooLah(mooLah, out, NO_SNAPSHOT_GENERATION);
+    }
+
+    /**
+     * Similar to {@link #writeMooLah(ReadOnlyMooLah, OutputStream)}, but writes {@code snapshotGeneration} as the
+     * first field unless it is {@code NO_SNAPSHOT_GENERATION}. Readers of the MooLah ignore the field.
+     */
+    static void writeMooLah(ReadOnlyMooLah mooLah, OutputStream out, long snapshotGeneration) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createPrettyGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+
+            if (snapshotGeneration != NO_SNAPSHOT_GENERATION) {
+                generator.writeNumberField(SNAPSHOT_GENERATION_FIELD, snapshotGeneration);
+            }
+
+            generator.writeArrayFieldStart(EXPENSES_FIELD);
+            for (Expense expense : mooLah.getExpenseList()) {
+                generator.writeObject(new JsonAdaptedExpense(expense));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(EVENTS_FIELD);
+            for (Event event : mooLah.getEventList()) {
+                generator.writeObject(new JsonAdaptedEvent(event));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(BUDGETS_FIELD);
+            for (Budget budget : mooLah.getBudgetList()) {
+                generator.writeObject(new JsonAdaptedBudget(budget));
+            }
+            generator.writeEndArray();
+
+            generator.writeStringField(PRIMARY_BUDGET_NAME_FIELD, mooLah.getPrimaryBudgetName());
+            generator.writeEndObject();
+        }
     }
 
 }
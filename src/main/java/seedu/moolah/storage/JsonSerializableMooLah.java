@@ -1,9 +1,16 @@
 package seedu.moolah.storage;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.moolah.model.budget.Budget.DEFAULT_BUDGET_DESCRIPTION;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -16,9 +23,12 @@ import seedu.moolah.model.ReadOnlyMooLah;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.event.Event;
 import seedu.moolah.model.expense.Expense;
+import seedu.moolah.model.expense.UniqueIdentifier;
+import seedu.moolah.model.general.Description;
 
 /**
- * An Immutable MooLah that is serializable to JSON format.
+ * A MooLah that is serializable to JSON format.
+ * It is only modified when replaying logged changes on top of a stored snapshot.
  */
 @JsonRootName(value = "moolah")
 class JsonSerializableMooLah {
@@ -35,7 +45,7 @@ class JsonSerializableMooLah {
 
     private final List<JsonAdaptedBudget> budgets = new ArrayList<>();
 
-    private final String primaryBudgetName;
+    private String primaryBudgetName;
 
 
     /**
@@ -64,31 +74,93 @@ class JsonSerializableMooLah {
         primaryBudgetName = source.getPrimaryBudgetName();
     }
 
+    /**
+     * Applies a change read from the MooLah log to this MooLah.
+     *
+     * @throws IllegalValueException if the change does not fit the lists of this MooLah.
+     */
+    public void applyDelta(JsonAdaptedMooLahDelta delta) throws IllegalValueException {
+        requireNonNull(delta);
+        if (delta.getExpenses() != null) {
+            delta.getExpenses().applyTo(expenses);
+        }
+        if (delta.getEvents() != null) {
+            delta.getEvents().applyTo(events);
+        }
+        if (delta.getBudgets() != null) {
+            List<JsonAdaptedBudget> replaced = delta.getBudgets().applyTo(budgets);
+            relistExpenses(replaced, delta.getBudgets().getAdded());
+        }
+        primaryBudgetName = delta.getPrimaryBudgetName();
+    }
+
+    /**
+     * Lets each logged budget list the expenses listed by the budget of the same name that it replaces.
+     * Expenses added to a budget since it was last listed are found by their budget name instead.
+     *
+     * @param replaced The budgets removed by a logged change.
+     * @param replacing The budgets added by the same change, logged without their expenses.
+     */
+    private static void relistExpenses(List<JsonAdaptedBudget> replaced, List<JsonAdaptedBudget> replacing) {
+        Map<String, JsonAdaptedBudget> replacedByName = new HashMap<>();
+        for (JsonAdaptedBudget budget : replaced) {
+            replacedByName.put(budget.getDescription(), budget);
+        }
+        for (JsonAdaptedBudget budget : replacing) {
+            JsonAdaptedBudget replacedBudget = replacedByName.get(budget.getDescription());
+            if (replacedBudget != null) {
+                budget.listExpensesOf(replacedBudget);
+            }
+        }
+    }
+
     /**
      * Converts this MooLah into the model's {@code MooLah} object.
+     * Each adapted expense is converted exactly once, and budgets resolve their expenses by unique identifier.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public MooLah toModelType() throws IllegalValueException {
+        Map<String, Expense> expensesById = new LinkedHashMap<>();
+        for (JsonAdaptedExpense jsonAdaptedExpense : expenses) {
+            putExpense(expensesById, jsonAdaptedExpense.toModelType());
+        }
+
+        List<Event> modelEvents = new ArrayList<>();
+        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
+            modelEvents.add(jsonAdaptedEvent.toModelType());
+        }
+
+        return toModelType(expensesById, budgets, modelEvents, primaryBudgetName);
+    }
+
+    /**
+     * Assembles the model's {@code MooLah} object from its converted expenses and events, and its adapted budgets.
+     * This is shared by every way of reading the stored MooLah, so that they all reconstruct the same data.
+     *
+     * @param expensesById Converted expenses keyed by unique identifier, in their stored order.
+     * @param budgets Adapted budgets, which resolve their expenses from {@code expensesById}.
+     * @param events Converted events, in their stored order.
+     * @param primaryBudgetName Name of the primary budget, or null for the default budget.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static MooLah toModelType(Map<String, Expense> expensesById, List<JsonAdaptedBudget> budgets,
+                              List<Event> events, String primaryBudgetName) throws IllegalValueException {
         MooLah mooLah = new MooLah();
+        Map<Description, List<Expense>> expensesByBudgetName = groupByBudgetName(expensesById.values());
+
         for (JsonAdaptedBudget jsonAdaptedBudget : budgets) {
-            Budget budget = jsonAdaptedBudget.toModelType(expenses);
+            Budget budget = jsonAdaptedBudget.toModelType(expensesById);
             if (mooLah.hasBudget(budget) && !budget.isDefaultBudget()) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_BUDGET);
             }
+            linkUnlistedExpenses(budget, expensesByBudgetName.get(budget.getDescription()));
             mooLah.addBudgetFromStorage(budget);
         }
 
-        for (JsonAdaptedExpense jsonAdaptedExpense : expenses) {
-            Expense expense = jsonAdaptedExpense.toModelType();
-            if (mooLah.hasExpense(expense)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EXPENSE);
-            }
-            mooLah.addExpense(expense);
-        }
+        mooLah.setExpenses(new ArrayList<>(expensesById.values()));
 
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
+        for (Event event : events) {
             if (mooLah.hasEvent(event)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
             }
@@ -104,4 +176,47 @@ class JsonSerializableMooLah {
         return mooLah;
     }
 
+    /**
+     * Adds {@code expense} to the expenses converted so far, keyed by its unique identifier.
+     *
+     * @throws IllegalValueException if an expense with the same unique identifier has already been converted.
+     */
+    static void putExpense(Map<String, Expense> expensesById, Expense expense) throws IllegalValueException {
+        if (expensesById.putIfAbsent(expense.getUniqueIdentifier().value, expense) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EXPENSE);
+        }
+    }
+
+    /**
+     * Groups the given expenses by the name of the budget they belong to.
+     */
+    private static Map<Description, List<Expense>> groupByBudgetName(Collection<Expense> expenses) {
+        Map<Description, List<Expense>> expensesByBudgetName = new HashMap<>();
+        for (Expense expense : expenses) {
+            expensesByBudgetName.computeIfAbsent(expense.getBudgetName(), name -> new ArrayList<>()).add(expense);
+        }
+        return expensesByBudgetName;
+    }
+
+    /**
+     * Adds to {@code budget} those of its expenses that are not listed in the budget's stored expense ids.
+     *
+     * @param budget The budget reconstructed from storage.
+     * @param budgetExpenses All expenses naming this budget, or null if there are none.
+     */
+    private static void linkUnlistedExpenses(Budget budget, List<Expense> budgetExpenses) {
+        if (budgetExpenses == null) {
+            return;
+        }
+        Set<UniqueIdentifier> listedIds = new HashSet<>();
+        for (Expense expense : budget.getExpenses()) {
+            listedIds.add(expense.getUniqueIdentifier());
+        }
+        for (Expense expense : budgetExpenses) {
+            if (!listedIds.contains(expense.getUniqueIdentifier())) {
+                budget.addExpense(expense);
+            }
+        }
+    }
+
 }
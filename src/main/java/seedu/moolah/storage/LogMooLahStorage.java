@@ -0,0 +1,377 @@
+package seedu.moolah.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.moolah.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.moolah.commons.core.LogsCenter;
+import seedu.moolah.commons.exceptions.DataConversionException;
+import seedu.moolah.commons.exceptions.IllegalValueException;
+import seedu.moolah.commons.util.FileUtil;
+import seedu.moolah.commons.util.JsonUtil;
+import seedu.moolah.model.MooLah;
+import seedu.moolah.model.ReadOnlyMooLah;
+import seedu.moolah.model.budget.Budget;
+import seedu.moolah.model.general.Description;
+import seedu.moolah.model.modelhistory.MooLahDelta;
+
+/**
+ * A class to access MooLah data stored as a json snapshot file and an append-only log of changes on the hard disk.
+ * The snapshot has the same format as the file of {@link JsonMooLahStorage}. Each save appends only the changes
+ * since the previous save to the log, which is synced to the disk once every {@code syncBatchSize} entries and
+ * compacted into a new snapshot once it holds {@code compactionThreshold} entries.
+ * Each snapshot is given a generation greater than that of the snapshot it replaces, and log entries are replayed
+ * only onto the snapshot of their generation.
+ */
+public class LogMooLahStorage implements MooLahStorage {
+
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 16;
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String MESSAGE_CONSTRAINTS = "Sync batch size and compaction threshold should be positive";
+
+    private static final String LOG_FILE_SUFFIX = ".log";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final int SNAPSHOT_BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(LogMooLahStorage.class);
+
+    private final Path filePath;
+    private final int syncBatchSize;
+    private final int compactionThreshold;
+
+    private MooLah lastSaved;
+    private long snapshotGeneration = JsonMooLahStorage.NO_SNAPSHOT_GENERATION;
+    private int logSize;
+    private int unsyncedLogSize;
+
+    /**
+     * Constructs a {@code LogMooLahStorage} with the default sync batch size and compaction threshold.
+     *
+     * @param filePath location of the snapshot. The log is kept next to it.
+     */
+    public LogMooLahStorage(Path filePath) {
+        this(filePath, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code LogMooLahStorage}.
+     *
+     * @param filePath location of the snapshot. The log is kept next to it.
+     * @param syncBatchSize number of log entries written between each sync of the log to the disk.
+     * @param compactionThreshold number of log entries after which the log is compacted into a new snapshot.
+     */
+    public LogMooLahStorage(Path filePath, int syncBatchSize, int compactionThreshold) {
+        requireNonNull(filePath);
+        checkArgument(syncBatchSize > 0 && compactionThreshold > 0, MESSAGE_CONSTRAINTS);
+        this.filePath = filePath;
+        this.syncBatchSize = syncBatchSize;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getMooLahFilePath() {
+        return filePath;
+    }
+
+    public Path getLogFilePath() {
+        return getLogFilePath(filePath);
+    }
+
+    /**
+     * Returns the location of the log kept next to the snapshot at {@code snapshotFilePath}.
+     */
+    private static Path getLogFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyMooLah> readMooLah() throws DataConversionException, IOException {
+        return readMooLah(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the changes logged next to it.
+     * An incomplete last log entry, left by an interrupted write, is ignored.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the log is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMooLah> readMooLah(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // the stored order of budgets may differ from the order in the model, so start with a new snapshot
+            lastSaved = null;
+        }
+
+        if (!FileUtil.isFileExists(getLogFilePath(filePath))) {
+            // with no changes to replay, the snapshot is read one record at a time
+            return new JsonMooLahStorage(filePath).readMooLah();
+        }
+
+        String snapshot = FileUtil.readFromFile(filePath);
+        JsonSerializableMooLah jsonMooLah;
+        try {
+            jsonMooLah = JsonUtil.fromJsonString(snapshot, JsonSerializableMooLah.class);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        long generation;
+        try {
+            generation = readSnapshotGeneration(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        try {
+            int replayed = replayLog(jsonMooLah, getLogFilePath(filePath), generation);
+            logger.fine("Replayed " + replayed + " logged changes onto " + filePath);
+            return Optional.of(jsonMooLah.toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Applies the changes in the log at {@code logFilePath} which belong to the snapshot of the given generation.
+     * A snapshot without a generation was not written by this storage, so no changes belong to it.
+     *
+     * @return the number of changes applied.
+     */
+    private static int replayLog(JsonSerializableMooLah jsonMooLah, Path logFilePath, long generation)
+            throws DataConversionException, IllegalValueException, IOException {
+        if (!FileUtil.isFileExists(logFilePath)) {
+            return 0;
+        }
+
+        List<String> entries = Files.readAllLines(logFilePath, StandardCharsets.UTF_8);
+        int replayed = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            String entry = entries.get(i);
+            if (entry.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedMooLahDelta delta;
+            try {
+                delta = JsonUtil.fromJsonString(entry, JsonAdaptedMooLahDelta.class);
+            } catch (IOException e) {
+                if (i == entries.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of " + logFilePath + ": " + e);
+                    break;
+                }
+                logger.warning("Error reading from log file " + logFilePath + ": " + e);
+                throw new DataConversionException(e);
+            }
+
+            if (generation != JsonMooLahStorage.NO_SNAPSHOT_GENERATION
+                    && generation == delta.getSnapshotGeneration()) {
+                jsonMooLah.applyDelta(delta);
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    @Override
+    public void saveMooLah(ReadOnlyMooLah mooLah) throws IOException {
+        saveMooLah(mooLah, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMooLah(ReadOnlyMooLah)}.
+     * Saving to a location other than {@link #getMooLahFilePath()} always writes a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMooLah(ReadOnlyMooLah mooLah, Path filePath) throws IOException {
+        requireNonNull(mooLah);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(mooLah, filePath, JsonMooLahStorage.NO_SNAPSHOT_GENERATION);
+            return;
+        }
+
+        try {
+            if (lastSaved == null) {
+                compact(mooLah);
+            } else {
+                MooLahDelta delta = MooLahDelta.between(lastSaved, mooLah);
+                if (delta.isEmpty()) {
+                    return;
+                } else if (isMovingExpensesBetweenBudgets(delta)) {
+                    // expenses are moved by renaming their budget in place, which the delta cannot see, and logged
+                    // budgets find their expenses by budget name
+                    compact(mooLah);
+                } else {
+                    appendToLog(new JsonAdaptedMooLahDelta(snapshotGeneration, delta, mooLah.getPrimaryBudgetName()));
+                    if (logSize >= compactionThreshold) {
+                        compact(mooLah);
+                    }
+                }
+            }
+            // the data given may still be changed by its owner, so the baseline is a copy of it which shares no budgets
+            lastSaved = mooLah instanceof MooLah ? ((MooLah) mooLah).deepCopy() : new MooLah(mooLah).deepCopy();
+        } catch (IOException e) {
+            // the data on disk is no longer known, so the next save starts with a new snapshot
+            lastSaved = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code delta} removes a budget with expenses under a name that it does not add back, or adds a
+     * budget with expenses under a name that it does not remove.
+     */
+    private static boolean isMovingExpensesBetweenBudgets(MooLahDelta delta) {
+        Set<Description> removedNames = new HashSet<>();
+        Set<Description> addedNames = new HashSet<>();
+        for (Budget budget : delta.getBudgetDelta().getRemoved()) {
+            removedNames.add(budget.getDescription());
+        }
+        for (Budget budget : delta.getBudgetDelta().getAdded()) {
+            addedNames.add(budget.getDescription());
+        }
+        return hasBudgetWithExpensesNotNamed(delta.getBudgetDelta().getRemoved(), addedNames)
+                || hasBudgetWithExpensesNotNamed(delta.getBudgetDelta().getAdded(), removedNames);
+    }
+
+    /**
+     * Returns true if any of {@code budgets} has expenses and a name not in {@code names}.
+     */
+    private static boolean hasBudgetWithExpensesNotNamed(List<Budget> budgets, Set<Description> names) {
+        for (Budget budget : budgets) {
+            if (!budget.getExpenses().isEmpty() && !names.contains(budget.getDescription())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends {@code delta} to the log, syncing the log to the disk if enough entries have been written since the
+     * previous sync.
+     */
+    private void appendToLog(JsonAdaptedMooLahDelta delta) throws IOException {
+        byte[] entry = (JsonUtil.toCompactJsonString(delta) + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(getLogFilePath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            logSize++;
+            unsyncedLogSize++;
+            if (unsyncedLogSize >= syncBatchSize) {
+                channel.force(false);
+                unsyncedLogSize = 0;
+            }
+        }
+    }
+
+    /**
+     * Syncs to the disk the log entries appended since the log was last synced.
+     */
+    @Override
+    public void flushMooLah() throws IOException {
+        if (unsyncedLogSize == 0 || !FileUtil.isFileExists(getLogFilePath())) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(getLogFilePath(), StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+        unsyncedLogSize = 0;
+    }
+
+    /**
+     * Writes {@code mooLah} as the new snapshot, of a generation greater than that of the snapshot it replaces, and
+     * discards the log. Entries of the old log left behind by an interruption belong to an older generation, so they
+     * are never replayed.
+     */
+    private void compact(ReadOnlyMooLah mooLah) throws IOException {
+        long generation = Math.max(snapshotGeneration, readStoredSnapshotGeneration()) + 1;
+        writeSnapshot(mooLah, filePath, generation);
+        snapshotGeneration = generation;
+        Files.deleteIfExists(getLogFilePath());
+        logSize = 0;
+        unsyncedLogSize = 0;
+        logger.fine("Compacted MooLah log into " + filePath);
+    }
+
+    /**
+     * Returns the generation of the snapshot on the disk, or {@code NO_SNAPSHOT_GENERATION} if it has none or cannot
+     * be read.
+     */
+    private long readStoredSnapshotGeneration() {
+        if (!FileUtil.isFileExists(filePath)) {
+            return JsonMooLahStorage.NO_SNAPSHOT_GENERATION;
+        }
+        try {
+            return readSnapshotGeneration(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading the snapshot generation of " + filePath + ": " + e);
+            return JsonMooLahStorage.NO_SNAPSHOT_GENERATION;
+        }
+    }
+
+    /**
+     * Returns the generation of the snapshot at {@code filePath}, or {@code NO_SNAPSHOT_GENERATION} if it has none.
+     */
+    private static long readSnapshotGeneration(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return JsonMooLahStorage.readSnapshotGeneration(in);
+        }
+    }
+
+    /**
+     * Atomically replaces the file at {@code filePath} with a snapshot of {@code mooLah} of the given generation,
+     * synced to the disk. The snapshot is written one record at a time.
+     */
+    private static void writeSnapshot(ReadOnlyMooLah mooLah, Path filePath, long generation) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            JsonMooLahStorage.writeMooLah(mooLah,
+                    new BufferedOutputStream(Channels.newOutputStream(channel), SNAPSHOT_BUFFER_SIZE), generation);
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
@@ -43,4 +43,12 @@ public interface MooLahStorage {
      */
     void saveMooLah(ReadOnlyMooLah mooLah, Path filePath) throws IOException;
 
+    /**
+     * Syncs to the disk any saved data which has not been synced yet, before the storage stops being used.
+     * @throws IOException if there was any problem syncing the data.
+     */
+    default void flushMooLah() throws IOException {
+        // data is synced as it is saved, unless a storage defers syncing
+    }
+
 }
@@ -74,4 +74,9 @@ public class StorageManager implements Storage {
         mooLahStorage.saveMooLah(mooLah, filePath);
     }
 
+    @Override
+    public void flushMooLah() throws IOException {
+        mooLahStorage.flushMooLah();
+    }
+
 }
@@ -2,10 +2,10 @@ package seedu.moolah.ui;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Timer;
 import java.util.logging.Logger;
 
 import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -18,7 +18,6 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
-import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
@@ -93,10 +92,9 @@ import seedu.moolah.ui.event.EventListPanel;
 import seedu.moolah.ui.expense.ExpenseListPanel;
 import seedu.moolah.ui.panel.PanelManager;
 import seedu.moolah.ui.panel.PanelName;
-import seedu.moolah.ui.panel.PlaceholderPanel;
 import seedu.moolah.ui.panel.SinglePanelView;
 import seedu.moolah.ui.panel.exceptions.UnmappedPanelException;
-import seedu.moolah.ui.statistics.StatisticsRegionFactory;
+import seedu.moolah.ui.statistics.StatisticsWorker;
 import seedu.moolah.ui.statistics.StatsPanel;
 import seedu.moolah.ui.textfield.CommandBox;
 
@@ -124,12 +122,16 @@ public class MainWindow extends UiPart<Stage> {
     private Stage primaryStage;
     private Logic logic;
     private Timekeeper timekeeper;
-    private Timer systemTimer;
-    private Timer eventsTimer;
+    private StatisticsWorker statisticsWorker = new StatisticsWorker();
 
     // Panel Manager which manages which panel(extending UiPart Region) is displayed.
     private PanelManager panelManager;
 
+    // Panels which show a snapshot of the model, updated in place when they are viewed
+    private BudgetPanel budgetPanel;
+    private AliasListPanel aliasListPanel;
+    private StatsPanel statsPanel;
+
     // Ui parts which are always displayed
     private ResultDisplay resultDisplay;
     private CommandBox commandBox;
@@ -152,15 +154,13 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane statusbarPlaceholder;
 
-    public MainWindow(Stage primaryStage, Logic logic, Timekeeper timekeeper, Timer systemTimer, Timer eventsTimer) {
+    public MainWindow(Stage primaryStage, Logic logic, Timekeeper timekeeper) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
         this.timekeeper = timekeeper;
-        this.systemTimer = systemTimer;
-        this.eventsTimer = eventsTimer;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -219,6 +219,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setOnSaveFailure(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getMooLahFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -227,17 +228,20 @@ public class MainWindow extends UiPart<Stage> {
         panelManager = singlePanelView;
         panelPlaceholder.getChildren().add(singlePanelView.getRoot());
 
-        // fill single panel view
-        panelManager.setPanel(BudgetPanel.PANEL_NAME, new BudgetPanel(logic.getPrimaryBudget()));
+        // fill single panel view, with one panel for each panel name for the lifetime of the window
+        budgetPanel = new BudgetPanel(logic.getPrimaryBudget());
+        panelManager.setPanel(BudgetPanel.PANEL_NAME, budgetPanel);
 
-        panelManager.setPanel(AliasListPanel.PANEL_NAME, new AliasListPanel(logic.getAliasMappings()));
+        aliasListPanel = new AliasListPanel(logic.getAliasMappings());
+        panelManager.setPanel(AliasListPanel.PANEL_NAME, aliasListPanel);
         panelManager.setPanel(ExpenseListPanel.PANEL_NAME,
                 new ExpenseListPanel(logic.getFilteredExpenseList(), true));
         panelManager.setPanel(BudgetListPanel.PANEL_NAME,
                 new BudgetListPanel(logic.getFilteredBudgetList()));
         panelManager.setPanel(EventListPanel.PANEL_NAME,
                 new EventListPanel(logic.getFilteredEventList(), true));
-        panelManager.setPanel(StatsPanel.PANEL_NAME, new PlaceholderPanel());
+        statsPanel = new StatsPanel(statisticsWorker);
+        panelManager.setPanel(StatsPanel.PANEL_NAME, statsPanel);
 
         // startup panel = expense list panel
         try {
@@ -413,6 +417,8 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Changes the currently viewed Panel in the MainWindow.
+     * The list panels are bound to the lists of the model, so only the panels showing a snapshot of the model are
+     * updated, in place.
      * @param panelName The Panel Name of assigned to the Panel.
      * @throws UnmappedPanelException if there is no Panel assigned to the specified Panel Name.
      */
@@ -423,36 +429,24 @@ public class MainWindow extends UiPart<Stage> {
             panelName = panelManager.getCurrentPanelName();
         }
         if (panelName.equals(AliasListPanel.PANEL_NAME)) {
-            panelManager.setPanel(AliasListPanel.PANEL_NAME, new AliasListPanel(logic.getAliasMappings()));
+            aliasListPanel.setAliasMappings(logic.getAliasMappings());
         } else if (panelName.equals(BudgetPanel.PANEL_NAME)) {
-            panelManager.setPanel(BudgetPanel.PANEL_NAME, new BudgetPanel(logic.getPrimaryBudget()));
-        } else if (panelName.equals(BudgetListPanel.PANEL_NAME)) {
-            panelManager.setPanel(BudgetListPanel.PANEL_NAME, new BudgetListPanel(logic.getFilteredBudgetList()));
-        } else if (panelName.equals(ExpenseListPanel.PANEL_NAME)) {
-            panelManager.setPanel(ExpenseListPanel.PANEL_NAME,
-                    new ExpenseListPanel(logic.getFilteredExpenseList(), true));
-        } else if (panelName.equals(EventListPanel.PANEL_NAME)) {
-            panelManager.setPanel(EventListPanel.PANEL_NAME,
-                    new EventListPanel(logic.getFilteredEventList(), true));
+            budgetPanel.setBudget(logic.getPrimaryBudget());
         } else if (panelName.equals(StatsPanel.PANEL_NAME)) {
-            try {
-                populateStatisticsPanel();
-            } catch (NullPointerException e) {
-                panelManager.setPanel(StatsPanel.PANEL_NAME, new PlaceholderPanel());
-            }
+            populateStatisticsPanel();
         }
         panelManager.viewPanel(panelName);
     }
 
     /**
-     * Changes the currently viewed Panel in the MainWindow to the Statistics Panel
+     * Shows the latest statistics on the Statistics Panel, which computes them in the background. Any statistics
+     * still being computed for an earlier command are cancelled. The panel stays empty until statistics are requested.
      */
     private void populateStatisticsPanel() {
         Statistics statistics = logic.getStatistics();
-        StatisticsRegionFactory factory = statistics.createFactory();
-        Region data = factory.createRegion();
-        String localTitle = factory.getTitle();
-        panelManager.setPanel(StatsPanel.PANEL_NAME, new StatsPanel(data, localTitle));
+        if (statistics != null) {
+            statsPanel.setStatistics(statistics);
+        }
     }
 
 
@@ -574,10 +568,7 @@ public class MainWindow extends UiPart<Stage> {
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
-        systemTimer.cancel();
-        systemTimer.purge();
-        eventsTimer.cancel();
-        eventsTimer.purge();
+        timekeeper.stop();
     }
 
     /**
@@ -1,7 +1,5 @@
 package seedu.moolah.ui;
 
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -26,16 +24,12 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private Timekeeper timekeeper;
-    private Timer eventsTimer;
-    private Timer systemTimer;
     private MainWindow mainWindow;
 
     public UiManager(Logic logic, Timekeeper timekeeper) {
         super();
         this.logic = logic;
         this.timekeeper = timekeeper;
-        this.systemTimer = new Timer();
-        this.eventsTimer = new Timer();
     }
 
     @Override
@@ -46,32 +40,13 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic, timekeeper, systemTimer, eventsTimer);
+            mainWindow = new MainWindow(primaryStage, logic, timekeeper);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
             mainWindow.displayReminders();
 
-            long updateTimeInterval = 50;
-
-            systemTimer.schedule(new TimerTask() {
-                public void run() {
-                    timekeeper.updateTime();
-                }
-            }, 0, updateTimeInterval);
-
-            long checkEventsInterval = 2000;
-
-            eventsTimer.schedule(new TimerTask() {
-                public void run () {
-                    Platform.runLater(new Runnable() {
-                        @Override
-                        public void run() {
-                            mainWindow.handleTranspiredEvents();
-                        }
-                    });
-                }
-            }, 0, checkEventsInterval);
+            timekeeper.start(mainWindow::handleTranspiredEvents, Platform::runLater);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -9,6 +9,7 @@ import seedu.moolah.ui.UiPart;
 
 /**
  * An UI component that displays information of a {@code Alias}.
+ * A card can be rebound to another alias, so that a list cell loads its card only once.
  */
 public class AliasCard extends UiPart<Region> {
 
@@ -31,6 +32,14 @@ public class AliasCard extends UiPart<Region> {
 
     public AliasCard(Alias alias, int maxLength) {
         super(FXML);
+        setAlias(alias, maxLength);
+    }
+
+    /**
+     * Shows {@code alias} on this card, in place of the alias shown before, with its name padded to
+     * {@code maxLength}.
+     */
+    public void setAlias(Alias alias, int maxLength) {
         this.alias = alias;
         int whiteSpaceCount = maxLength - alias.getAliasName().length();
         aliasName.setText(" ".repeat(whiteSpaceCount) + alias.getAliasName());
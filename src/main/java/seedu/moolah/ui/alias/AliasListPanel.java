@@ -1,5 +1,6 @@
 package seedu.moolah.ui.alias;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -30,13 +31,26 @@ public class AliasListPanel extends Panel {
 
     public AliasListPanel(AliasMappings aliasMappings) {
         super(FXML);
-        aliasMappings.getAliases();
         titlePlaceHolder.getChildren().add(new Label("User Defined Aliases"));
-        aliasListView.getItems().addAll(aliasMappings.getAliases());
-        maxLength = aliasMappings.getAliases().stream().map(x -> x.getAliasName().length()).reduce(0, Math::max);
+        setAliasMappings(aliasMappings);
         aliasListView.setCellFactory(aliasListView -> new AliasListCell());
     }
 
+    /**
+     * Shows the aliases of {@code aliasMappings} in place of the aliases shown before, reusing the cells of this
+     * panel.
+     */
+    public void setAliasMappings(AliasMappings aliasMappings) {
+        List<Alias> aliases = aliasMappings.getAliases();
+        int newMaxLength = aliases.stream().map(x -> x.getAliasName().length()).reduce(0, Math::max);
+        aliasListView.getItems().setAll(aliases);
+        if (newMaxLength != maxLength) {
+            // the cards of unchanged aliases are padded to the longest alias name too
+            maxLength = newMaxLength;
+            aliasListView.refresh();
+        }
+    }
+
     @Override
     public void view() {
         getRoot().setVisible(true);
@@ -51,8 +65,11 @@ public class AliasListPanel extends Panel {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Alias} using a {@code AliasCard}.
+     * The card is loaded once per cell and rebound to each alias the cell is reused for.
      */
     class AliasListCell extends ListCell<Alias> {
+        private AliasCard aliasCard;
+
         @Override
         protected void updateItem(Alias alias, boolean empty) {
             super.updateItem(alias, empty);
@@ -61,7 +78,12 @@ public class AliasListPanel extends Panel {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new AliasCard(alias, maxLength).getRoot());
+                if (aliasCard == null) {
+                    aliasCard = new AliasCard(alias, maxLength);
+                } else {
+                    aliasCard.setAlias(alias, maxLength);
+                }
+                setGraphic(aliasCard.getRoot());
             }
         }
     }
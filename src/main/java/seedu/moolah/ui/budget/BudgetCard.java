@@ -53,10 +53,33 @@ public class BudgetCard extends UiPart<Region> {
 
     private Budget budget;
 
+    // the progress shown for the default budget, as declared in the FXML file
+    private final double defaultBudgetProgress;
+
+    private final ListChangeListener<Expense> expensesListener = change -> {
+        change.next();
+        if (change.wasAdded() || change.wasRemoved() || change.wasReplaced() || change.wasUpdated()) {
+            // update total
+            updateBudgetCardProgressBarText();
+            updateBudgetCardProgressBarColour();
+        }
+    };
+
     public BudgetCard(Budget budget) {
         super(FXML);
+        defaultBudgetProgress = budgetProgressBar.getProgress();
+        setBudget(budget);
+    }
 
+    /**
+     * Shows {@code budget} on this card in place of the budget shown before, without rebuilding the card.
+     */
+    public void setBudget(Budget budget) {
+        if (this.budget != null) {
+            this.budget.getExpenses().removeListener(expensesListener);
+        }
         this.budget = budget;
+        clearBudgetCard();
 
         // budget name
         updateBudgetCardDescription();
@@ -69,17 +92,33 @@ public class BudgetCard extends UiPart<Region> {
         // progress bar colour
         updateBudgetCardProgressBarColour();
 
-        budget.getExpenses().addListener(new ListChangeListener<Expense>() {
-            @Override
-            public void onChanged(Change<? extends Expense> change) {
-                change.next();
-                if (change.wasAdded() || change.wasRemoved() || change.wasReplaced() || change.wasUpdated()) {
-                    // update total
-                    updateBudgetCardProgressBarText();
-                    updateBudgetCardProgressBarColour();
-                }
-            }
-        });
+        budget.getExpenses().addListener(expensesListener);
+    }
+
+    /**
+     * Stops updating this card with changes to the expenses of the budget shown, so that a card which is not in use
+     * does not keep listening to a budget which may have been removed.
+     */
+    public void unbind() {
+        if (budget != null) {
+            budget.getExpenses().removeListener(expensesListener);
+            budget = null;
+        }
+    }
+
+    /**
+     * Clears the details which are not shown for the default budget.
+     */
+    private void clearBudgetCard() {
+        budgetStart.setText("");
+        separator.setText("");
+        budgetEnd.setText("");
+        budgetTotalAmount.setText("");
+        divider.setText("");
+        budgetAllocatedAmount.setText("");
+        proportionUsed.setText("");
+        budgetProgressBar.setProgress(defaultBudgetProgress);
+        budgetProgressBar.setStyle("");
     }
 
     /**
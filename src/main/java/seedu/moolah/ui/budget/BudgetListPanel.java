@@ -59,20 +59,28 @@ public class BudgetListPanel extends Panel {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Budget} using a {@code BudgetCard}.
+     * The card is loaded once per cell and rebound to each budget the cell is reused for.
      */
     class BudgetListViewCell extends ListCell<Budget> {
+        private BudgetCard budgetCard;
+
         @Override
         protected void updateItem(Budget budget, boolean empty) {
             super.updateItem(budget, empty);
 
             if (empty || budget == null) {
+                if (budgetCard != null) {
+                    budgetCard.unbind();
+                }
                 setGraphic(null);
                 setText(null);
             } else {
-                BudgetCard budgetCard = new BudgetCard(budget);
-                if (budget.isPrimary()) {
-                    budgetCard.setBorder(PRIMARY_BUDGET_BORDER);
+                if (budgetCard == null) {
+                    budgetCard = new BudgetCard(budget);
+                } else {
+                    budgetCard.setBudget(budget);
                 }
+                budgetCard.setBorder(budget.isPrimary() ? PRIMARY_BUDGET_BORDER : null);
                 setGraphic(budgetCard.getRoot());
             }
         }
@@ -11,7 +11,8 @@ import seedu.moolah.ui.panel.Panel;
 import seedu.moolah.ui.panel.PanelName;
 
 /**
- * Panel containing the list of expenses.
+ * Panel containing the primary budget and its expenses in the current period.
+ * The panel is kept for the lifetime of the window, and shows each new version of the primary budget in place.
  */
 public class BudgetPanel extends Panel {
     public static final PanelName PANEL_NAME = new PanelName("Primary Budget");
@@ -26,14 +27,33 @@ public class BudgetPanel extends Panel {
 
     private BudgetCard budgetCard;
 
+    private Budget budget;
+    private long budgetVersion;
+
     public BudgetPanel(Budget budget) {
         super(FXML);
+        this.budget = budget;
+        budgetVersion = budget.getVersion();
         expenseListPanel = new ExpenseListPanel(budget.getCurrentPeriodExpenses(), false);
         expenseListPanelPlaceholder.getChildren().add(expenseListPanel.getRoot());
         budgetCard = new BudgetCard(budget);
         budgetCardPlaceholder.getChildren().add(budgetCard.getRoot());
     }
 
+    /**
+     * Shows {@code budget} in place of the budget shown before, unless the same version of it is already shown.
+     */
+    public void setBudget(Budget budget) {
+        if (budget == this.budget && budget.getVersion() == budgetVersion) {
+            return;
+        }
+        logger.fine("Showing primary budget: " + budget.getDescription());
+        this.budget = budget;
+        budgetVersion = budget.getVersion();
+        expenseListPanel.setExpenses(budget.getCurrentPeriodExpenses());
+        budgetCard.setBudget(budget);
+    }
+
     @Override
     public void view() {
         getRoot().setVisible(true);
@@ -3,6 +3,8 @@ package seedu.moolah.ui.event;
 import static seedu.moolah.commons.util.AppUtil.getImage;
 
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -17,6 +19,7 @@ import seedu.moolah.ui.UiPart;
 
 /**
  * An UI component that displays information of a {@code Event}.
+ * A card can be rebound to another event, so that a list cell loads its card only once.
  */
 public class EventCard extends UiPart<Region> {
 
@@ -43,6 +46,10 @@ public class EventCard extends UiPart<Region> {
     private static final String OTHERS_ICON = "/images/category/others.png";
 
     private static final String DATE_PATTERN = "dd MMM yyyy";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
+    // the fill of each icon, loaded once and shared by all cards
+    private static final Map<String, ImagePattern> ICON_FILLS = new HashMap<>();
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -52,7 +59,7 @@ public class EventCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on MooLah level 4</a>
      */
 
-    public final Event event;
+    private Event event;
 
     @FXML
     private AnchorPane eventCardPane;
@@ -75,14 +82,24 @@ public class EventCard extends UiPart<Region> {
     @FXML
     private Circle iconBackground;
 
+    private final Label categoryLabel = new Label();
+
     public EventCard(Event event, int displayedIndex) {
         super(FXML);
+        categories.getChildren().add(categoryLabel);
+        setEvent(event, displayedIndex);
+    }
+
+    /**
+     * Shows {@code event} at {@code displayedIndex} on this card, in place of the event shown before.
+     */
+    public void setEvent(Event event, int displayedIndex) {
         this.event = event;
         index.setText(Integer.toString(displayedIndex));
         description.setText(event.getDescription().fullDescription);
         price.setText(String.format("%s%,.2f", "$", event.getPrice().getAsDouble()));
-        categories.getChildren().add(new Label(event.getCategory().getCategoryName()));
-        date.setText(event.getTimestamp().fullTimestamp.format(DateTimeFormatter.ofPattern(DATE_PATTERN)));
+        categoryLabel.setText(event.getCategory().getCategoryName());
+        date.setText(event.getTimestamp().fullTimestamp.format(DATE_FORMATTER));
         time.setText(null);
         budgetName.setText(event.getBudgetName().fullDescription);
 
@@ -94,27 +111,34 @@ public class EventCard extends UiPart<Region> {
      */
     private void setIcon(Circle icon, Category category) {
         if (FOOD.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(FOOD_ICON)));
+            icon.setFill(getIconFill(FOOD_ICON));
         } else if (TRAVEL.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(TRAVEL_ICON)));
+            icon.setFill(getIconFill(TRAVEL_ICON));
         } else if (HEALTHCARE.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(HEALTHCARE_ICON)));
+            icon.setFill(getIconFill(HEALTHCARE_ICON));
         } else if (EDUCATION.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(EDUCATION_ICON)));
+            icon.setFill(getIconFill(EDUCATION_ICON));
         } else if (ENTERTAINMENT.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(ENTERTAINMENT_ICON)));
+            icon.setFill(getIconFill(ENTERTAINMENT_ICON));
         } else if (UTILITIES.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(UTILITIES_ICON)));
+            icon.setFill(getIconFill(UTILITIES_ICON));
         } else if (SHOPPING.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(SHOPPING_ICON)));
+            icon.setFill(getIconFill(SHOPPING_ICON));
         } else if (TRANSPORT.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(TRANSPORT_ICON)));
+            icon.setFill(getIconFill(TRANSPORT_ICON));
         } else {
-            icon.setFill(new ImagePattern(getImage(OTHERS_ICON)));
+            icon.setFill(getIconFill(OTHERS_ICON));
         }
         icon.toFront();
     }
 
+    /**
+     * Returns the fill of the icon at {@code iconPath}, loading the icon on first use.
+     */
+    private static ImagePattern getIconFill(String iconPath) {
+        return ICON_FILLS.computeIfAbsent(iconPath, path -> new ImagePattern(getImage(path)));
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -52,8 +52,11 @@ public class EventListPanel extends Panel {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Event} using a {@code EventCard}.
+     * The card is loaded once per cell and rebound to each event the cell is reused for.
      */
     class EventListViewCell extends ListCell<Event> {
+        private EventCard eventCard;
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
@@ -62,7 +65,12 @@ public class EventListPanel extends Panel {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                if (eventCard == null) {
+                    eventCard = new EventCard(event, getIndex() + 1);
+                } else {
+                    eventCard.setEvent(event, getIndex() + 1);
+                }
+                setGraphic(eventCard.getRoot());
             }
         }
     }
@@ -3,6 +3,8 @@ package seedu.moolah.ui.expense;
 import static seedu.moolah.commons.util.AppUtil.getImage;
 
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -17,6 +19,7 @@ import seedu.moolah.ui.UiPart;
 
 /**
  * An UI component that displays information of a {@code Expense}.
+ * A card can be rebound to another expense, so that a list cell loads its card only once.
  */
 public class ExpenseCard extends UiPart<Region> {
 
@@ -46,6 +49,12 @@ public class ExpenseCard extends UiPart<Region> {
     private static final String HEALTHCARE_ICON = "/images/category/healthcare.png";
     private static final String OTHERS_ICON = "/images/category/others.png";
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TIME_PATTERN);
+
+    // the fill of each icon, loaded once and shared by all cards
+    private static final Map<String, ImagePattern> ICON_FILLS = new HashMap<>();
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX. As a consequence, UI
      * elements' variable names cannot be set to such keywords or an exception will be thrown by JavaFX during runtime.
@@ -53,7 +62,7 @@ public class ExpenseCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on MooLah level 4</a>
      */
 
-    private final Expense expense;
+    private Expense expense;
 
     @FXML
     private AnchorPane expenseCardPane;
@@ -76,18 +85,27 @@ public class ExpenseCard extends UiPart<Region> {
     @FXML
     private Circle iconBackground;
 
+    private final Label categoryLabel = new Label();
+
     public ExpenseCard(Expense expense, int displayedIndex) {
         super(FXML);
+        categories.getChildren().add(categoryLabel);
+        setExpense(expense, displayedIndex);
+    }
 
+    /**
+     * Shows {@code expense} at {@code displayedIndex} on this card, in place of the expense shown before.
+     */
+    public void setExpense(Expense expense, int displayedIndex) {
         this.expense = expense;
 
         index.setText(Integer.toString(displayedIndex));
         uniqueId.setText(expense.getUniqueIdentifier().toString());
         description.setText(expense.getDescription().fullDescription);
         price.setText(String.format(PRICE_TEMPLATE, CURRENCY_SYMBOL, expense.getPrice().getAsDouble()));
-        date.setText(expense.getTimestamp().getFullTimestamp().format(DateTimeFormatter.ofPattern(DATE_PATTERN)));
-        time.setText(expense.getTimestamp().getFullTimestamp().format(DateTimeFormatter.ofPattern(TIME_PATTERN)));
-        categories.getChildren().add(new Label(expense.getCategory().getCategoryName()));
+        date.setText(expense.getTimestamp().getFullTimestamp().format(DATE_FORMATTER));
+        time.setText(expense.getTimestamp().getFullTimestamp().format(TIME_FORMATTER));
+        categoryLabel.setText(expense.getCategory().getCategoryName());
         setIcon(icon, expense.getCategory());
     }
 
@@ -97,27 +115,34 @@ public class ExpenseCard extends UiPart<Region> {
      */
     private void setIcon(Circle icon, Category category) {
         if (FOOD.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(FOOD_ICON)));
+            icon.setFill(getIconFill(FOOD_ICON));
         } else if (TRAVEL.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(TRAVEL_ICON)));
+            icon.setFill(getIconFill(TRAVEL_ICON));
         } else if (HEALTHCARE.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(HEALTHCARE_ICON)));
+            icon.setFill(getIconFill(HEALTHCARE_ICON));
         } else if (EDUCATION.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(EDUCATION_ICON)));
+            icon.setFill(getIconFill(EDUCATION_ICON));
         } else if (ENTERTAINMENT.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(ENTERTAINMENT_ICON)));
+            icon.setFill(getIconFill(ENTERTAINMENT_ICON));
         } else if (UTILITIES.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(UTILITIES_ICON)));
+            icon.setFill(getIconFill(UTILITIES_ICON));
         } else if (SHOPPING.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(SHOPPING_ICON)));
+            icon.setFill(getIconFill(SHOPPING_ICON));
         } else if (TRANSPORT.equals(category)) {
-            icon.setFill(new ImagePattern(getImage(TRANSPORT_ICON)));
+            icon.setFill(getIconFill(TRANSPORT_ICON));
         } else {
-            icon.setFill(new ImagePattern(getImage(OTHERS_ICON)));
+            icon.setFill(getIconFill(OTHERS_ICON));
         }
         icon.toFront();
     }
 
+    /**
+     * Returns the fill of the icon at {@code iconPath}, loading the icon on first use.
+     */
+    private static ImagePattern getIconFill(String iconPath) {
+        return ICON_FILLS.computeIfAbsent(iconPath, path -> new ImagePattern(getImage(path)));
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -38,6 +38,13 @@ public class ExpenseListPanel extends Panel {
 
     }
 
+    /**
+     * Shows {@code expenseList} in place of the list shown before, reusing the cells of this panel.
+     */
+    public void setExpenses(ObservableList<Expense> expenseList) {
+        listView.setItems(expenseList);
+    }
+
     @Override
     public void view() {
         getRoot().setVisible(true);
@@ -52,8 +59,11 @@ public class ExpenseListPanel extends Panel {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Expense} using a {@code ExpenseCard}.
+     * The card is loaded once per cell and rebound to each expense the cell is reused for.
      */
     class ExpenseListViewCell extends ListCell<Expense> {
+        private ExpenseCard expenseCard;
+
         @Override
         protected void updateItem(Expense expense, boolean empty) {
             super.updateItem(expense, empty);
@@ -62,7 +72,12 @@ public class ExpenseListPanel extends Panel {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ExpenseCard(expense, getIndex() + 1).getRoot());
+                if (expenseCard == null) {
+                    expenseCard = new ExpenseCard(expense, getIndex() + 1);
+                } else {
+                    expenseCard.setExpense(expense, getIndex() + 1);
+                }
+                setGraphic(expenseCard.getRoot());
             }
         }
     }
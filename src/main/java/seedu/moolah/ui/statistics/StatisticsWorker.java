@@ -0,0 +1,103 @@
+package seedu.moolah.ui.statistics;
+
+import static seedu.moolah.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.moolah.commons.core.LogsCenter;
+import seedu.moolah.model.statistics.Statistics;
+
+/**
+ * Computes statistics on a background thread, so that the window stays responsive while they are computed.
+ * Only the most recently requested statistics are delivered. A computation superseded by a later request is
+ * cancelled if it has not finished, and its result is discarded.
+ */
+public class StatisticsWorker {
+
+    private static final String THREAD_NAME = "MooLah-statistics";
+
+    private static final Logger logger = LogsCenter.getLogger(StatisticsWorker.class);
+
+    private final ExecutorService executor;
+    private final Executor resultExecutor;
+
+    private Future<?> pendingComputation;
+    private long requestCount;
+
+    /**
+     * Constructs a {@code StatisticsWorker} which delivers its results on the JavaFX application thread.
+     */
+    public StatisticsWorker() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code StatisticsWorker} which delivers its results through {@code resultExecutor}.
+     */
+    StatisticsWorker(Executor resultExecutor) {
+        this.resultExecutor = resultExecutor;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code statistics} to be populated, after which the factory of its visual representation is handed
+     * to {@code onComputed}, unless other statistics have been requested in the meantime. If the statistics cannot
+     * be computed, the error is handed to {@code onFailed} instead, under the same condition.
+     */
+    public synchronized void compute(Statistics statistics, Consumer<StatisticsRegionFactory> onComputed,
+                                     Consumer<RuntimeException> onFailed) {
+        requireAllNonNull(statistics, onComputed, onFailed);
+        cancel();
+        long request = requestCount;
+        pendingComputation = executor.submit(() -> {
+            long start = System.nanoTime();
+            StatisticsRegionFactory factory;
+            try {
+                statistics.populateData();
+                factory = statistics.createFactory();
+            } catch (RuntimeException e) {
+                logger.warning("Failed to compute statistics: " + e);
+                resultExecutor.execute(() -> {
+                    if (isLatestRequest(request)) {
+                        onFailed.accept(e);
+                    }
+                });
+                return;
+            }
+            logger.fine(String.format("Computed statistics in %d ms", (System.nanoTime() - start) / 1_000_000));
+            resultExecutor.execute(() -> {
+                if (isLatestRequest(request)) {
+                    onComputed.accept(factory);
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancels the computation of the most recently requested statistics, so that its result is never delivered.
+     */
+    public synchronized void cancel() {
+        requestCount++;
+        if (pendingComputation != null) {
+            pendingComputation.cancel(true);
+            pendingComputation = null;
+        }
+    }
+
+    /**
+     * Returns true if no statistics have been requested, or cancelled, since the given request.
+     */
+    private synchronized boolean isLatestRequest(long request) {
+        return requestCount == request;
+    }
+}
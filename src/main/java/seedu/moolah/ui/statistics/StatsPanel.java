@@ -4,20 +4,25 @@ import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.layout.Region;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.StackPane;
 
 import seedu.moolah.commons.core.LogsCenter;
+import seedu.moolah.model.statistics.Statistics;
 import seedu.moolah.ui.panel.Panel;
 import seedu.moolah.ui.panel.PanelName;
 
 
 /**
  * Panel containing the PieChart generated by a statistics command.
+ * A progress indicator is shown in its place until the statistics have been computed in the background.
+ * The panel is kept for the lifetime of the window, and shows the statistics of each new command in place.
  */
 public class StatsPanel extends Panel {
 
     public static final PanelName PANEL_NAME = new PanelName("Statistics");
+    public static final String MESSAGE_CALCULATING = "Calculating statistics...";
+    public static final String MESSAGE_FAILED = "Could not calculate statistics";
     private static final String FXML = "StatsPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(StatsPanel.class);
 
@@ -27,14 +32,48 @@ public class StatsPanel extends Panel {
     @FXML
     private StackPane statisticsHolder;
 
+    private final StatisticsWorker statisticsWorker;
 
-    public StatsPanel(Region statistics, String title) {
-        super(FXML);
+    private Statistics statistics;
 
+    public StatsPanel(StatisticsWorker statisticsWorker) {
+        super(FXML);
+        this.statisticsWorker = statisticsWorker;
         titlePlaceHolder.setMinHeight(0);
-        titlePlaceHolder.getChildren().add(new Label(title));
+    }
+
+    /**
+     * Shows {@code statistics} in place of the statistics shown before, once they have been computed in the
+     * background. Statistics which are already shown are not computed again.
+     */
+    public void setStatistics(Statistics statistics) {
+        if (statistics == this.statistics) {
+            return;
+        }
+        this.statistics = statistics;
+        titlePlaceHolder.getChildren().setAll(new Label(MESSAGE_CALCULATING));
+        statisticsHolder.getChildren().setAll(new ProgressIndicator());
+
+        statisticsWorker.compute(statistics, this::showStatistics, this::showFailure);
+    }
+
+    /**
+     * Replaces the progress indicator with the visual representation created by {@code factory}.
+     */
+    private void showStatistics(StatisticsRegionFactory factory) {
+        logger.fine("Showing statistics: " + factory.getTitle());
+        titlePlaceHolder.getChildren().setAll(new Label(factory.getTitle()));
+        statisticsHolder.getChildren().setAll(factory.createRegion());
+    }
 
-        statisticsHolder.getChildren().add(statistics);
+    /**
+     * Replaces the progress indicator with an error title, and lets the same statistics be computed again.
+     */
+    private void showFailure(RuntimeException error) {
+        logger.warning("Showing failure to compute statistics: " + error);
+        statistics = null;
+        titlePlaceHolder.getChildren().setAll(new Label(MESSAGE_FAILED));
+        statisticsHolder.getChildren().clear();
     }
 
 
@@ -50,4 +89,3 @@ public class StatsPanel extends Panel {
         getRoot().setDisable(true);
     }
 }
-
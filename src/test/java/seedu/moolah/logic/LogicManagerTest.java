@@ -7,7 +7,10 @@ import static seedu.moolah.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -43,6 +46,12 @@ public class LogicManagerTest {
         Timekeeper timekeeper = new Timekeeper(logic);
     }
 
+    @AfterEach
+    public void tearDown() throws IOException {
+        // wait for background saves, so that the temporary folder is not deleted while they are running
+        logic.flush();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -82,6 +91,33 @@ public class LogicManagerTest {
     //        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     //    }
 
+    @Test
+    public void save_storageThrowsIoException_reportsFailure() throws Exception {
+        JsonMooLahStorage mooLahStorage =
+                new JsonMooLahIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionMooLah.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        Logic failingLogic = new LogicManager(model, new StorageManager(mooLahStorage, userPrefsStorage));
+        AtomicReference<String> reportedMessage = new AtomicReference<>();
+        failingLogic.setOnSaveFailure(reportedMessage::set);
+
+        failingLogic.execute(ListExpensesCommand.COMMAND_WORD, "");
+        assertThrows(IOException.class, failingLogic::flush);
+        assertEquals(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, reportedMessage.get());
+    }
+
+    @Test
+    public void shutdown_afterSave_flushesStorage() throws Exception {
+        FlushRecordingStub mooLahStorage = new FlushRecordingStub(temporaryFolder.resolve("flushedMooLah.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("flushedUserPrefs.json"));
+        Logic shutdownLogic = new LogicManager(model, new StorageManager(mooLahStorage, userPrefsStorage));
+
+        shutdownLogic.execute(ListExpensesCommand.COMMAND_WORD, "");
+        shutdownLogic.shutdown();
+        assertEquals(1, mooLahStorage.savesWhenFlushed.get());
+    }
+
     @Test
     public void getFilteredExpenseList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredExpenseList().remove(0));
@@ -153,4 +189,27 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class which records how many saves had been made when it was flushed.
+     */
+    private static class FlushRecordingStub extends JsonMooLahStorage {
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private final AtomicInteger savesWhenFlushed = new AtomicInteger(-1);
+
+        private FlushRecordingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveMooLah(ReadOnlyMooLah mooLah, Path filePath) throws IOException {
+            saveCount.incrementAndGet();
+            super.saveMooLah(mooLah, filePath);
+        }
+
+        @Override
+        public void flushMooLah() {
+            savesWhenFlushed.set(saveCount.get());
+        }
+    }
 }
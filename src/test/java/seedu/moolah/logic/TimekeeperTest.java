@@ -1,15 +1,60 @@
 package seedu.moolah.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.moolah.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.moolah.model.Model;
+import seedu.moolah.model.ModelManager;
+import seedu.moolah.model.event.Event;
+import seedu.moolah.storage.JsonMooLahStorage;
+import seedu.moolah.storage.JsonUserPrefsStorage;
+import seedu.moolah.storage.StorageManager;
+import seedu.moolah.testutil.EventBuilder;
 
 public class TimekeeperTest {
 
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Logic logic;
+    private Timekeeper timekeeper;
+    private AtomicInteger transpiredCount = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonMooLahStorage(temporaryFolder.resolve("moolah.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (timekeeper != null) {
+            timekeeper.stop();
+        }
+        logic.flush();
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Timekeeper(null));
@@ -22,4 +67,70 @@ public class TimekeeperTest {
         LocalDateTime actualDateTime = Timekeeper.convertToLocalDateTime(date);
         assertEquals(expectedDateTime, actualDateTime);
     }
+
+    @Test
+    public void getTimeUntilNextDeadline_noEvents_untilDayBreakOrMaximumSleep() {
+        startAt("2019-01-01T23:30");
+        assertEquals(Duration.ofMinutes(30), timekeeper.getTimeUntilNextDeadline());
+        timekeeper.stop();
+
+        startAt("2019-01-01T12:00");
+        assertEquals(Timekeeper.MAX_SLEEP, timekeeper.getTimeUntilNextDeadline());
+    }
+
+    @Test
+    public void getTimeUntilNextDeadline_eventsChanged_untilEarliestEvent() {
+        model.addEvent(new EventBuilder().withTimestamp("01-01-2019 23:50").build());
+        startAt("2019-01-01T23:30");
+        assertEquals(Duration.ofMinutes(20), timekeeper.getTimeUntilNextDeadline());
+
+        model.addEvent(new EventBuilder().withTimestamp("01-01-2019 23:40").build());
+        assertEquals(Duration.ofMinutes(10), timekeeper.getTimeUntilNextDeadline());
+
+        model.deleteEvent(new EventBuilder().withTimestamp("01-01-2019 23:40").build());
+        assertEquals(Duration.ofMinutes(20), timekeeper.getTimeUntilNextDeadline());
+        assertEquals(0, transpiredCount.get());
+    }
+
+    @Test
+    public void start_eventTranspiredBeforeStart_handledStraightAway() {
+        model.addEvent(new EventBuilder().withTimestamp("01-01-2019 22:00").build());
+        startAt("2019-01-01T23:30");
+        assertEquals(1, transpiredCount.get());
+
+        // the transpired event is not waited for again, even if it was not handled
+        assertEquals(Duration.ofMinutes(30), timekeeper.getTimeUntilNextDeadline());
+    }
+
+    @Test
+    public void getTranspiredEvents_eventsBeforeAndAfterNow_returnsTranspiredEvents() {
+        Event pastEvent = new EventBuilder().withDescription("Past").withTimestamp("01-01-2019 22:00").build();
+        Event futureEvent = new EventBuilder().withDescription("Future").withTimestamp("02-01-2019 01:00").build();
+        model.addEvent(futureEvent);
+        model.addEvent(pastEvent);
+        startAt("2019-01-01T23:30");
+        assertEquals(Collections.singletonList(pastEvent), timekeeper.getTranspiredEvents());
+    }
+
+    @Test
+    public void displayReminders_eventsWithinThreshold_remindedInOrder() {
+        model.addEvent(new EventBuilder().withDescription("Later").withTimestamp("05-01-2019 12:00").build());
+        model.addEvent(new EventBuilder().withDescription("Sooner").withTimestamp("03-01-2019 12:00").build());
+        model.addEvent(new EventBuilder().withDescription("Past").withTimestamp("01-01-2019 12:00").build());
+        model.addEvent(new EventBuilder().withDescription("Far").withTimestamp("09-01-2019 12:00").build());
+        startAt("2019-01-01T23:30");
+        String reminders = timekeeper.displayReminders();
+        assertTrue(reminders.indexOf("Sooner") < reminders.indexOf("Later"));
+        assertFalse(reminders.contains("Past"));
+        assertFalse(reminders.contains("Far"));
+    }
+
+    /**
+     * Starts a new timekeeper whose clock is fixed at {@code dateTime}, which runs its tasks straight away.
+     */
+    private void startAt(String dateTime) {
+        Clock clock = Clock.fixed(LocalDateTime.parse(dateTime).atZone(ZONE).toInstant(), ZONE);
+        timekeeper = new Timekeeper(logic, clock);
+        timekeeper.start(transpiredCount::incrementAndGet, Runnable::run);
+    }
 }
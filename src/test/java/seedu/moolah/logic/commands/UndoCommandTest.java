@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import seedu.moolah.model.Model;
 import seedu.moolah.model.ModelManager;
 import seedu.moolah.model.modelhistory.ModelChanges;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 public class UndoCommandTest {
 
@@ -30,8 +31,9 @@ public class UndoCommandTest {
     @Test
     public void run_hasPastChanges_success() {
         String changeMessage = "test";
-        ModelChanges changes = new ModelChanges(changeMessage).setMooLah(getTypicalMooLah());
-        ModelChanges revert = new ModelChanges(changeMessage).setMooLah(model.getMooLah());
+        MooLahDelta delta = MooLahDelta.between(model.getMooLah(), getTypicalMooLah());
+        ModelChanges changes = new ModelChanges(changeMessage).setMooLahDelta(delta);
+        ModelChanges revert = new ModelChanges(changeMessage).setMooLahDelta(delta.inverse());
 
         model.addToPastChanges(changes);
         expectedModel.addToFutureChanges(revert);
@@ -1,7 +1,10 @@
 package seedu.moolah.logic.commands.alias;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -171,6 +174,11 @@ public class ModelSupportingAliasStub implements Model {
         throw new AssertionError("Method should not be called.");
     }
 
+    @Override
+    public void addExpenses(Collection<Expense> expenses) {
+        throw new AssertionError("Method should not be called.");
+    }
+
     @Override
     public void setExpense(Expense target, Expense editedExpense) {
         throw new AssertionError("Method should not be called.");
@@ -306,6 +314,11 @@ public class ModelSupportingAliasStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Statistics getOrCreateStatistics(List<?> parameters, Function<Budget, Statistics> creator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void handleAlreadyTranspiredEvents() {
         throw new AssertionError("This method should not be called.");
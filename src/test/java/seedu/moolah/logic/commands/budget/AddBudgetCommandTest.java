@@ -10,9 +10,11 @@ import static seedu.moolah.testutil.TypicalMooLah.SCHOOL;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -252,6 +254,11 @@ public class AddBudgetCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addExpenses(Collection<Expense> expenses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setMooLah(ReadOnlyMooLah newData) {
             throw new AssertionError("This method should not be called.");
@@ -368,6 +375,11 @@ public class AddBudgetCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Statistics getOrCreateStatistics(List<?> parameters, Function<Budget, Statistics> creator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void handleAlreadyTranspiredEvents() {
             throw new AssertionError("This method should not be called.");
@@ -10,6 +10,7 @@ import seedu.moolah.model.ModelManager;
 import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 import seedu.moolah.testutil.TypicalMooLah;
 
 public class ClearBudgetsCommandTest {
@@ -32,7 +33,8 @@ public class ClearBudgetsCommandTest {
         ClearBudgetsCommand command = new ClearBudgetsCommand();
 
         expectedModel.clearBudgets();
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         assertCommandSuccess(new ClearBudgetsCommand(), model, ClearBudgetsCommand.MESSAGE_SUCCESS, expectedModel);
         TypicalMooLah.reset();
@@ -20,6 +20,7 @@ import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 public class DeleteBudgetByIndexCommandTest {
 
@@ -41,7 +42,8 @@ public class DeleteBudgetByIndexCommandTest {
                 budgetToDelete);
 
         expectedModel.deleteBudget(budgetToDelete);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
@@ -19,6 +19,7 @@ import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.general.Description;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 public class DeleteBudgetByNameCommandTest {
     private static final Description SCHOOL = new Description(VALID_BUDGET_DESCRIPTION_SCHOOL);
@@ -39,7 +40,8 @@ public class DeleteBudgetByNameCommandTest {
         DeleteBudgetByNameCommand command = new DeleteBudgetByNameCommand(SCHOOL);
 
         expectedModel.deleteBudget(budgetToDelete);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(DeleteBudgetByNameCommand.MESSAGE_DELETE_BUDGET_SUCCESS, SCHOOL);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -21,6 +21,7 @@ import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 public class DeleteExpenseFromBudgetCommandTest {
 
@@ -45,7 +46,8 @@ public class DeleteExpenseFromBudgetCommandTest {
         Budget primaryBudgetCopy = primaryBudget.deepCopy();
         primaryBudgetCopy.removeExpense(expenseToDelete);
         expectedModel.setBudget(primaryBudget, primaryBudgetCopy);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(DeleteExpenseFromBudgetCommand.MESSAGE_DELETE_EXPENSE_SUCCESS,
                 expenseToDelete);
@@ -26,6 +26,7 @@ import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 import seedu.moolah.testutil.BudgetBuilder;
 import seedu.moolah.testutil.EditBudgetDescriptorBuilder;
 
@@ -54,7 +55,8 @@ public class EditBudgetCommandTest {
         EditBudgetCommand command = new EditBudgetCommand(INDEX_SECOND, descriptor);
 
         expectedModel.setBudget(model.getFilteredBudgetList().get(INDEX_SECOND.getZeroBased()), editedBudget);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(EditBudgetCommand.MESSAGE_EDIT_BUDGET_SUCCESS, editedBudget);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -76,7 +78,8 @@ public class EditBudgetCommandTest {
         EditBudgetCommand command = new EditBudgetCommand(indexLastBudget, descriptor);
 
         expectedModel.setBudget(lastBudget, editedBudget);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(EditBudgetCommand.MESSAGE_EDIT_BUDGET_SUCCESS, editedBudget);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
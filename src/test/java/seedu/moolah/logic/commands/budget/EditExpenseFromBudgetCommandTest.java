@@ -26,6 +26,7 @@ import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 import seedu.moolah.testutil.EditExpenseDescriptorBuilder;
 import seedu.moolah.testutil.ExpenseBuilder;
 
@@ -68,7 +69,8 @@ public class EditExpenseFromBudgetCommandTest {
         Budget primaryBudgetCopy = primaryBudget.deepCopy();
         primaryBudgetCopy.setExpense(lastExpense, editedExpense);
         expectedModel.setBudget(primaryBudget, primaryBudgetCopy);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(EditExpenseFromBudgetCommand.MESSAGE_EDIT_EXPENSE_SUCCESS,
                 editedExpense);
@@ -101,7 +103,8 @@ public class EditExpenseFromBudgetCommandTest {
         Budget primaryBudgetCopy = primaryBudget.deepCopy();
         primaryBudgetCopy.setExpense(lastExpense, editedExpense);
         expectedModel.setBudget(primaryBudget, primaryBudgetCopy);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(EditExpenseFromBudgetCommand.MESSAGE_EDIT_EXPENSE_SUCCESS,
                 editedExpense);
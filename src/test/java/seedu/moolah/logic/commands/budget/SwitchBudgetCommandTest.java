@@ -15,9 +15,11 @@ import seedu.moolah.logic.commands.CommandResult;
 import seedu.moolah.logic.commands.exceptions.CommandException;
 import seedu.moolah.model.Model;
 import seedu.moolah.model.ModelManager;
+import seedu.moolah.model.ReadOnlyMooLah;
 import seedu.moolah.model.general.Description;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 public class SwitchBudgetCommandTest {
     @Test
@@ -35,10 +37,11 @@ public class SwitchBudgetCommandTest {
         try {
             Description validInput = SCHOOL.getDescription();
             SwitchBudgetCommand command = new SwitchBudgetCommand(validInput);
+            ReadOnlyMooLah prevMooLah = model.getMooLah().copy();
+            CommandResult commandResult = command.run(model);
             ModelHistory expectedModelHistory = new ModelHistory();
             expectedModelHistory.addToPastChanges(new ModelChanges(command.getDescription())
-                    .setMooLah(model.getMooLah()));
-            CommandResult commandResult = command.run(model);
+                    .setMooLahDelta(MooLahDelta.between(model.getMooLah(), prevMooLah)));
             assertEquals(model.getPrimaryBudget(), SCHOOL);
             assertEquals(model.getModelHistory(), expectedModelHistory);
             assertEquals(String.format(SwitchBudgetCommand.MESSAGE_SUCCESS, validInput),
@@ -14,9 +14,11 @@ import seedu.moolah.logic.commands.CommandResult;
 import seedu.moolah.logic.commands.exceptions.CommandException;
 import seedu.moolah.model.Model;
 import seedu.moolah.model.ModelManager;
+import seedu.moolah.model.ReadOnlyMooLah;
 import seedu.moolah.model.general.Timestamp;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 public class SwitchPeriodCommandTest {
     private static final Timestamp SEP_15 = new Timestamp(
@@ -38,10 +40,11 @@ public class SwitchPeriodCommandTest {
         try {
             Timestamp validInput = Timestamp.createTimestampIfValid("01-10-2019").get();
             SwitchPeriodCommand command = new SwitchPeriodCommand(validInput);
+            ReadOnlyMooLah prevMooLah = model.getMooLah().copy();
+            CommandResult commandResult = command.run(model);
             ModelHistory expectedModelHistory = new ModelHistory();
             expectedModelHistory.addToPastChanges(new ModelChanges(command.getDescription())
-                    .setMooLah(model.getMooLah()));
-            CommandResult commandResult = command.run(model);
+                    .setMooLahDelta(MooLahDelta.between(model.getMooLah(), prevMooLah)));
             assertEquals(model.getPrimaryBudget().getWindowStartDate(), SEP_15);
             assertEquals(model.getPrimaryBudget().getWindowEndDate(), OCT_14);
             assertEquals(model.getModelHistory(), expectedModelHistory);
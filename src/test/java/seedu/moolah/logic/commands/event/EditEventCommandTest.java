@@ -26,6 +26,7 @@ import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.event.Event;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 import seedu.moolah.testutil.EditEventDescriptorBuilder;
 import seedu.moolah.testutil.EventBuilder;
 
@@ -76,7 +77,8 @@ public class EditEventCommandTest {
         EditEventCommand command = new EditEventCommand(indexLastEvent, descriptor);
 
         expectedModel.setEvent(lastEvent, editedEvent);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(EditEventCommand.MESSAGE_EDIT_EVENT_SUCCESS, editedEvent);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -8,8 +8,10 @@ import static seedu.moolah.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -247,6 +249,11 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addExpenses(Collection<Expense> expenses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setMooLah(ReadOnlyMooLah newData) {
             throw new AssertionError("This method should not be called.");
@@ -368,6 +375,11 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Statistics getOrCreateStatistics(List<?> parameters, Function<Budget, Statistics> creator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void handleAlreadyTranspiredEvents() {
             throw new AssertionError("This method should not be called.");
@@ -11,9 +11,11 @@ import static seedu.moolah.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -258,6 +260,11 @@ public class AddMenuExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addExpenses(Collection<Expense> expenses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setMooLah(ReadOnlyMooLah newData) {
             throw new AssertionError("This method should not be called.");
@@ -379,6 +386,11 @@ public class AddMenuExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Statistics getOrCreateStatistics(List<?> parameters, Function<Budget, Statistics> creator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void handleAlreadyTranspiredEvents() {
             throw new AssertionError("This method should not be called.");
@@ -21,6 +21,7 @@ import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 /**
  * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
@@ -43,7 +44,8 @@ public class DeleteExpenseCommandTest {
         DeleteExpenseCommand command = new DeleteExpenseCommand(INDEX_FIRST);
 
         expectedModel.deleteExpense(expenseToDelete);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(DeleteExpenseCommand.MESSAGE_DELETE_EXPENSE_SUCCESS, expenseToDelete);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -65,7 +67,8 @@ public class DeleteExpenseCommandTest {
         DeleteExpenseCommand command = new DeleteExpenseCommand(INDEX_FIRST);
 
         expectedModel.deleteExpense(expenseToDelete);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
         showNoExpense(expectedModel);
 
         String expectedMessage = String.format(DeleteExpenseCommand.MESSAGE_DELETE_EXPENSE_SUCCESS, expenseToDelete);
@@ -27,6 +27,7 @@ import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 import seedu.moolah.testutil.EditExpenseDescriptorBuilder;
 import seedu.moolah.testutil.ExpenseBuilder;
 
@@ -51,7 +52,8 @@ public class EditExpenseCommandTest {
         EditExpenseCommand command = new EditExpenseCommand(INDEX_FIRST, descriptor);
 
         expectedModel.setExpense(model.getFilteredExpenseList().get(0), editedExpense);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(EditExpenseCommand.MESSAGE_EDIT_EXPENSE_SUCCESS, editedExpense);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -75,7 +77,8 @@ public class EditExpenseCommandTest {
         EditExpenseCommand command = new EditExpenseCommand(indexLastExpense, descriptor);
 
         expectedModel.setExpense(lastExpense, editedExpense);
-        expectedModel.addToPastChanges(new ModelChanges(command.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         String expectedMessage = String.format(EditExpenseCommand.MESSAGE_EDIT_EXPENSE_SUCCESS, editedExpense);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -106,7 +109,8 @@ public class EditExpenseCommandTest {
 
         expectedModel.setExpense(model.getFilteredExpenseList().get(0), editedExpense);
         expectedModel.addToPastChanges(new ModelChanges(command.getDescription())
-                .setMooLah(model.getMooLah()).setExpensePredicate(model.getFilteredExpensePredicate()));
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah()))
+                .setExpensePredicate(model.getFilteredExpensePredicate()));
 
         String expectedMessage = String.format(EditExpenseCommand.MESSAGE_EDIT_EXPENSE_SUCCESS, editedExpense);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -11,6 +11,7 @@ import seedu.moolah.model.ModelManager;
 import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 
 public class ClearCommandTest {
 
@@ -37,7 +38,8 @@ public class ClearCommandTest {
         ClearCommand clearCommand = new ClearCommand();
 
         model = new ModelManager(getTypicalMooLah(), new UserPrefs(), new ModelHistory());
-        expectedModel.addToPastChanges(new ModelChanges(clearCommand.getDescription()).setMooLah(model.getMooLah()));
+        expectedModel.addToPastChanges(new ModelChanges(clearCommand.getDescription())
+                .setMooLahDelta(MooLahDelta.between(expectedModel.getMooLah(), model.getMooLah())));
 
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
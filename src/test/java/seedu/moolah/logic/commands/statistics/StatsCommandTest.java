@@ -42,7 +42,7 @@ class StatsCommandTest {
         descriptor.setEndDate(primaryBudget.getWindowEndDate());
         StatsCommand command = new StatsCommand(descriptor);
 
-        PieChartStatistics statistics = new PieChartStatistics(primaryBudget.getExpenses(),
+        PieChartStatistics statistics = new PieChartStatistics(primaryBudget,
                 primaryBudget.getWindowStartDate(),
                 primaryBudget.getWindowEndDate());
         statistics.populateData();
@@ -60,7 +60,7 @@ class StatsCommandTest {
         descriptor.setStartDate(primaryBudget.getWindowStartDate());
         StatsCommand command = new StatsCommand(descriptor);
 
-        PieChartStatistics statistics = new PieChartStatistics(primaryBudget.getExpenses(),
+        PieChartStatistics statistics = new PieChartStatistics(primaryBudget,
                 primaryBudget.getWindowStartDate(),
                 primaryBudget.getWindowEndDate());
         statistics.populateData();
@@ -77,7 +77,7 @@ class StatsCommandTest {
         descriptor.setEndDate(primaryBudget.getWindowEndDate());
         StatsCommand command = new StatsCommand(descriptor);
 
-        PieChartStatistics statistics = new PieChartStatistics(primaryBudget.getExpenses(),
+        PieChartStatistics statistics = new PieChartStatistics(primaryBudget,
                 primaryBudget.getWindowStartDate(),
                 primaryBudget.getWindowEndDate());
         statistics.populateData();
@@ -94,7 +94,7 @@ class StatsCommandTest {
         Budget primaryBudget = model.getPrimaryBudget();
         StatsCommand command = new StatsCommand(descriptor);
 
-        PieChartStatistics statistics = new PieChartStatistics(primaryBudget.getExpenses(),
+        PieChartStatistics statistics = new PieChartStatistics(primaryBudget,
                 primaryBudget.getWindowStartDate(),
                 primaryBudget.getWindowEndDate());
         statistics.populateData();
@@ -6,6 +6,10 @@ import static seedu.moolah.logic.commands.CommandTestUtil.VALID_STATS_TREND_DESC
 import static seedu.moolah.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.moolah.testutil.TypicalMooLah.getTypicalMooLahForStatistics;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +20,7 @@ import seedu.moolah.model.UserPrefs;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.modelhistory.ModelHistory;
 import seedu.moolah.model.statistics.PieChartStatistics;
+import seedu.moolah.model.statistics.Statistics;
 import seedu.moolah.model.statistics.TrendStatistics;
 
 /**
@@ -59,7 +64,7 @@ class StatsTrendCommandTest {
         descriptor.setStartDate(primaryBudget.getWindowStartDate());
         StatsTrendCommand command = new StatsTrendCommand(descriptor);
 
-        PieChartStatistics statistics = new PieChartStatistics(primaryBudget.getExpenses(),
+        PieChartStatistics statistics = new PieChartStatistics(primaryBudget,
                 primaryBudget.getWindowStartDate(),
                 primaryBudget.getWindowEndDate());
         statistics.populateData();
@@ -102,6 +107,25 @@ class StatsTrendCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void run_intervalCountInUserPrefs_capsIntervals() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTrendIntervalCount(4);
+        List<Statistics> created = new ArrayList<>();
+        model = new ModelManager(getTypicalMooLahForStatistics(), userPrefs, new ModelHistory()) {
+            @Override
+            public Statistics getOrCreateStatistics(List<?> parameters, Function<Budget, Statistics> creator) {
+                created.add(creator.apply(getPrimaryBudget()));
+                return super.getOrCreateStatistics(parameters, creator);
+            }
+        };
+
+        new StatsTrendCommand(new StatsTrendDescriptor()).run(model);
+        TrendStatistics statistics = (TrendStatistics) created.get(0);
+        statistics.populateData();
+        assertEquals(4, statistics.getDates().size());
+    }
+
     @Test
     public void equals() {
         final StatsTrendCommand standardCommand = new StatsTrendCommand(VALID_STATS_TREND_DESCRIPTOR);
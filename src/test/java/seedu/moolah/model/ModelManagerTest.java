@@ -23,6 +23,7 @@ import seedu.moolah.commons.core.GuiSettings;
 import seedu.moolah.model.general.DescriptionContainsKeywordsPredicate;
 import seedu.moolah.model.modelhistory.ModelChanges;
 import seedu.moolah.model.modelhistory.ModelHistory;
+import seedu.moolah.model.modelhistory.MooLahDelta;
 import seedu.moolah.testutil.MooLahBuilder;
 
 public class ModelManagerTest {
@@ -68,7 +69,7 @@ public class ModelManagerTest {
         userPrefs.setMooLahFilePath(Paths.get("dummyFilepath"));
 
         ModelChanges changes = new ModelChanges("dummy")
-                .setMooLah(getTypicalMooLah())
+                .setMooLahDelta(MooLahDelta.between(modelManager.getMooLah(), getTypicalMooLah()))
                 .setUserPrefs(userPrefs)
                 .setExpensePredicate(expense -> false)
                 .setEventPredicate(event -> false)
@@ -2,12 +2,17 @@ package seedu.moolah.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.moolah.logic.commands.CommandTestUtil.VALID_EXPENSE_CATEGORY_CHICKEN;
 import static seedu.moolah.testutil.Assert.assertThrows;
 import static seedu.moolah.testutil.TypicalMooLah.ANNIVERSARY;
+import static seedu.moolah.testutil.TypicalMooLah.CHICKEN_RICE;
+import static seedu.moolah.testutil.TypicalMooLah.SCHOOL;
 import static seedu.moolah.testutil.TypicalMooLah.getTypicalMooLah;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,6 +26,9 @@ import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.event.Event;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.expense.exceptions.DuplicateExpenseException;
+import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.model.modelhistory.MooLahDelta;
+import seedu.moolah.testutil.BudgetBuilder;
 import seedu.moolah.testutil.ExpenseBuilder;
 
 public class MooLahTest {
@@ -54,6 +62,89 @@ public class MooLahTest {
         assertThrows(DuplicateExpenseException.class, () -> mooLah.resetData(newData));
     }
 
+    @Test
+    public void addExpenses_newExpenses_addedToListAndBudget() {
+        Expense withoutBudget = new Expense(CHICKEN_RICE.getDescription(), CHICKEN_RICE.getPrice(),
+                CHICKEN_RICE.getCategory(), CHICKEN_RICE.getTimestamp(), CHICKEN_RICE.getUniqueIdentifier());
+        mooLah.addExpenses(Arrays.asList(ANNIVERSARY, withoutBudget));
+
+        assertEquals(Arrays.asList(ANNIVERSARY, withoutBudget), mooLah.getExpenseList());
+        Budget primaryBudget = mooLah.getPrimaryBudget();
+        assertEquals(primaryBudget.getDescription(), withoutBudget.getBudgetName());
+        assertTrue(primaryBudget.getExpenses().containsAll(Arrays.asList(ANNIVERSARY, withoutBudget)));
+    }
+
+    @Test
+    public void addExpenses_duplicateExpense_throwsDuplicateExpenseException() {
+        mooLah.addExpense(ANNIVERSARY);
+        Expense withoutBudget = new Expense(CHICKEN_RICE.getDescription(), CHICKEN_RICE.getPrice(),
+                CHICKEN_RICE.getCategory(), CHICKEN_RICE.getTimestamp(), CHICKEN_RICE.getUniqueIdentifier());
+        assertThrows(DuplicateExpenseException.class, () ->
+                mooLah.addExpenses(Arrays.asList(withoutBudget, ANNIVERSARY)));
+        assertEquals(Collections.singletonList(ANNIVERSARY), mooLah.getExpenseList());
+        // the expenses of a rejected batch are not given a budget
+        assertNull(withoutBudget.getBudgetName());
+    }
+
+    @Test
+    public void getVersion_modified_changes() {
+        long version = mooLah.getVersion();
+        long expenseListVersion = mooLah.getExpenseListVersion();
+        long eventListVersion = mooLah.getEventListVersion();
+        mooLah.addExpense(ANNIVERSARY);
+        assertNotEquals(version, mooLah.getVersion());
+        assertNotEquals(expenseListVersion, mooLah.getExpenseListVersion());
+        assertEquals(eventListVersion, mooLah.getEventListVersion());
+
+        version = mooLah.getVersion();
+        mooLah.getExpenseList();
+        mooLah.hasExpense(ANNIVERSARY);
+        assertEquals(version, mooLah.getVersion());
+    }
+
+    @Test
+    public void getVersion_copy_sameVersionUntilModified() {
+        mooLah.addExpense(ANNIVERSARY);
+        MooLah copy = mooLah.copy();
+        assertEquals(mooLah.getVersion(), copy.getVersion());
+        assertEquals(mooLah.getExpenseListVersion(), copy.getExpenseListVersion());
+
+        copy.removeExpense(ANNIVERSARY);
+        assertNotEquals(mooLah.getVersion(), copy.getVersion());
+
+        // the same data, built independently, is not known to be the same
+        assertNotEquals(new MooLah().getVersion(), new MooLah().getVersion());
+    }
+
+    @Test
+    public void getVersion_budgetRefreshedInPlace_changes() {
+        // a budget whose window has not been refreshed since it was added
+        Budget budget = new BudgetBuilder(SCHOOL).withIsPrimary(false).build();
+        List<Budget> budgets = new ArrayList<>(mooLah.getBudgetList());
+        budgets.add(budget);
+        mooLah.setBudgets(budgets);
+        MooLah deepCopy = mooLah.deepCopy();
+        long version = mooLah.getVersion();
+        assertEquals(version, deepCopy.getVersion());
+
+        budget.refresh();
+        assertNotEquals(version, mooLah.getVersion());
+        assertEquals(version, deepCopy.getVersion());
+        assertNotEquals(mooLah, deepCopy);
+    }
+
+    @Test
+    public void applyDelta_deltaFromOtherMooLah_replacesData() {
+        MooLah typicalMooLah = getTypicalMooLah();
+        MooLahDelta delta = MooLahDelta.between(mooLah, typicalMooLah);
+
+        mooLah.applyDelta(delta);
+        assertEquals(typicalMooLah, mooLah);
+
+        mooLah.applyDelta(delta.inverse());
+        assertEquals(new MooLah(), mooLah);
+    }
+
     @Test
     public void hasExpense_nullExpense_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> mooLah.hasExpense(null));
@@ -108,10 +199,25 @@ public class MooLahTest {
             return events;
         }
 
+        @Override
+        public List<Event> getEventsBefore(Timestamp timestamp) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(Timestamp startTimestamp, Timestamp endTimestamp) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String getPrimaryBudgetName() {
             return primaryBudgetName;
         }
+
+        @Override
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
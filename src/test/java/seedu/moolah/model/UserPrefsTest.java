@@ -1,7 +1,11 @@
 package seedu.moolah.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.moolah.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -23,4 +27,29 @@ public class UserPrefsTest {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setAliasMappings(null));
     }
+
+    @Test
+    public void getVersion_modified_changes() {
+        UserPrefs userPrefs = new UserPrefs();
+        long version = userPrefs.getVersion();
+
+        userPrefs.setMooLahFilePath(Paths.get("moolah.json"));
+        assertNotEquals(version, userPrefs.getVersion());
+    }
+
+    @Test
+    public void getVersion_copy_sameVersion() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMooLahFilePath(Paths.get("moolah.json"));
+        assertEquals(userPrefs.getVersion(), userPrefs.copy().getVersion());
+    }
+
+    @Test
+    public void getVersion_removeMissingAlias_unchanged() {
+        UserPrefs userPrefs = new UserPrefs();
+        long version = userPrefs.getVersion();
+
+        userPrefs.removeAliasWithName("missing");
+        assertEquals(version, userPrefs.getVersion());
+    }
 }
@@ -2,6 +2,7 @@ package seedu.moolah.model.budget;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.moolah.testutil.TypicalMooLah.BUSAN_TRIP;
 import static seedu.moolah.testutil.TypicalMooLah.CHICKEN_RICE;
@@ -14,6 +15,7 @@ import static seedu.moolah.testutil.TypicalMooLah.SCHOOL;
 import static seedu.moolah.testutil.TypicalMooLah.SCHOOL_BUDGET_STRING_ONE;
 import static seedu.moolah.testutil.TypicalMooLah.SCHOOL_BUDGET_STRING_TWO;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import javafx.collections.ObservableList;
 import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.general.Timestamp;
 import seedu.moolah.testutil.BudgetBuilder;
+import seedu.moolah.testutil.ExpenseBuilder;
 
 public class BudgetTest {
 
@@ -33,6 +36,15 @@ public class BudgetTest {
         assertTrue(schoolCopy.getExpenses().contains(DRINKS));
     }
 
+    @Test
+    public void addExpenses_someDuplicates_addsEachExpenseOnce() {
+        Budget schoolCopy = new BudgetBuilder(SCHOOL).build();
+        schoolCopy.addExpense(DRINKS);
+        schoolCopy.addExpenses(Arrays.asList(DRINKS, CHICKEN_RICE, CHICKEN_RICE));
+        assertEquals(2, schoolCopy.getExpenses().size());
+        assertTrue(schoolCopy.getExpenses().containsAll(Arrays.asList(DRINKS, CHICKEN_RICE)));
+    }
+
     @Test
     public void testCalculateExpenseSum() {
         ObservableList<Expense> expenses = FXCollections.observableArrayList();
@@ -43,6 +55,58 @@ public class BudgetTest {
         assertEquals(53.50, editedSchool.calculateExpenseSum());
     }
 
+    @Test
+    public void testCalculateExpenseSum_expensesChanged() {
+        ObservableList<Expense> expenses = FXCollections.observableArrayList();
+        Budget editedSchool = new BudgetBuilder(SCHOOL)
+                .withExpenses(expenses).build();
+        Expense editedChickenRice = new ExpenseBuilder(CHICKEN_RICE).withPrice("10.05").build();
+        Expense outsideWindow = new ExpenseBuilder(CHICKEN_RICE).withTimestamp("23-12-2019 noon").build();
+
+        // changes made through the budget
+        editedSchool.addExpense(CHICKEN_RICE);
+        assertEquals(3.50, editedSchool.calculateExpenseSum());
+        editedSchool.setExpense(CHICKEN_RICE, editedChickenRice);
+        assertEquals(10.05, editedSchool.calculateExpenseSum());
+        editedSchool.addExpense(outsideWindow);
+        assertEquals(10.05, editedSchool.calculateExpenseSum());
+
+        // changes made directly to the expense list
+        expenses.remove(editedChickenRice);
+        assertEquals(0, editedSchool.calculateExpenseSum());
+        expenses.add(CHICKEN_RICE);
+        assertEquals(3.50, editedSchool.calculateExpenseSum());
+
+        // copies keep their own sums
+        Budget schoolCopy = editedSchool.deepCopy();
+        schoolCopy.removeExpense(CHICKEN_RICE);
+        assertEquals(0, schoolCopy.calculateExpenseSum());
+        assertEquals(3.50, editedSchool.calculateExpenseSum());
+
+        // moving the window to hold only the expense that was outside it
+        Budget normalizedSchool = editedSchool.normalize(Timestamp.createTimestampIfValid("17-12-2019").get());
+        assertEquals(3.50, normalizedSchool.calculateExpenseSum());
+        assertEquals(3.50, editedSchool.calculateExpenseSum());
+    }
+
+    @Test
+    public void getVersion_copiesAndChanges() {
+        Budget school = new BudgetBuilder(SCHOOL).withExpenses(FXCollections.observableArrayList()).build();
+        Budget schoolCopy = school.deepCopy();
+        assertEquals(school.getVersion(), schoolCopy.getVersion());
+
+        // changes to either budget give it a new version
+        schoolCopy.addExpense(CHICKEN_RICE);
+        assertNotEquals(school.getVersion(), schoolCopy.getVersion());
+        school.addExpense(CHICKEN_RICE);
+        assertNotEquals(school.getVersion(), schoolCopy.getVersion());
+
+        // moving the window gives the copy a new version
+        long version = school.getVersion();
+        assertNotEquals(version, school.normalize(Timestamp.createTimestampIfValid("17-12-2019").get()).getVersion());
+        assertEquals(version, school.getVersion());
+    }
+
     @Test
     public void testCalculateProportionUsed() {
         ObservableList<Expense> expenses = FXCollections.observableArrayList();
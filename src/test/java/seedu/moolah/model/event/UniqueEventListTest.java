@@ -7,6 +7,7 @@ import static seedu.moolah.testutil.Assert.assertThrows;
 import static seedu.moolah.testutil.TypicalMooLah.BIRTHDAY;
 import static seedu.moolah.testutil.TypicalMooLah.BUFFET;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -15,9 +16,18 @@ import org.junit.jupiter.api.Test;
 
 import seedu.moolah.model.event.exceptions.DuplicateEventException;
 import seedu.moolah.model.event.exceptions.EventNotFoundException;
+import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.testutil.EventBuilder;
 
 public class UniqueEventListTest {
 
+    private static final Event JANUARY_EVENT = new EventBuilder().withDescription("January")
+            .withTimestamp("15-01-2019 12:00").build();
+    private static final Event FEBRUARY_EVENT = new EventBuilder().withDescription("February")
+            .withTimestamp("15-02-2019 12:00").build();
+    private static final Event MARCH_EVENT = new EventBuilder().withDescription("March")
+            .withTimestamp("15-03-2019 12:00").build();
+
     private final UniqueEventList uniqueEventList = new UniqueEventList();
 
     @Test
@@ -136,4 +146,56 @@ public class UniqueEventListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueEventList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void contains_afterChanges_reflectsChanges() {
+        uniqueEventList.setEvents(Arrays.asList(JANUARY_EVENT, FEBRUARY_EVENT));
+        assertTrue(uniqueEventList.contains(FEBRUARY_EVENT));
+
+        uniqueEventList.setEvent(FEBRUARY_EVENT, MARCH_EVENT);
+        assertFalse(uniqueEventList.contains(FEBRUARY_EVENT));
+        assertTrue(uniqueEventList.contains(MARCH_EVENT));
+
+        uniqueEventList.remove(JANUARY_EVENT);
+        assertFalse(uniqueEventList.contains(JANUARY_EVENT));
+    }
+
+    @Test
+    public void getEventsBefore_eventsInAnyOrder_returnsEarlierEventsInOrder() {
+        uniqueEventList.setEvents(Arrays.asList(MARCH_EVENT, JANUARY_EVENT, FEBRUARY_EVENT));
+        assertEquals(Arrays.asList(JANUARY_EVENT, FEBRUARY_EVENT),
+                uniqueEventList.getEventsBefore(timestamp("2019-03-15T12:00")));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsBefore(timestamp("2019-01-15T12:00")));
+
+        uniqueEventList.remove(JANUARY_EVENT);
+        assertEquals(Collections.singletonList(FEBRUARY_EVENT),
+                uniqueEventList.getEventsBefore(timestamp("2019-03-15T12:00")));
+    }
+
+    @Test
+    public void getEventsBetween_range_returnsEventsFromStartToBeforeEnd() {
+        uniqueEventList.add(MARCH_EVENT);
+        uniqueEventList.add(FEBRUARY_EVENT);
+        uniqueEventList.add(JANUARY_EVENT);
+        assertEquals(Arrays.asList(FEBRUARY_EVENT, MARCH_EVENT),
+                uniqueEventList.getEventsBetween(timestamp("2019-02-15T12:00"), timestamp("2019-04-01T00:00")));
+        assertEquals(Collections.singletonList(JANUARY_EVENT),
+                uniqueEventList.getEventsBetween(timestamp("2019-01-01T00:00"), timestamp("2019-02-15T12:00")));
+        assertEquals(Collections.emptyList(),
+                uniqueEventList.getEventsBetween(timestamp("2019-04-01T00:00"), timestamp("2019-01-01T00:00")));
+    }
+
+    @Test
+    public void getEventsBetween_sharedList_indexesCopy() {
+        UniqueEventList other = new UniqueEventList();
+        other.add(JANUARY_EVENT);
+        uniqueEventList.setEvents(other);
+        other.add(FEBRUARY_EVENT);
+        assertEquals(Collections.singletonList(JANUARY_EVENT),
+                uniqueEventList.getEventsBetween(timestamp("2019-01-01T00:00"), timestamp("2019-04-01T00:00")));
+    }
+
+    private static Timestamp timestamp(String rawTimestamp) {
+        return new Timestamp(LocalDateTime.parse(rawTimestamp));
+    }
 }
@@ -5,16 +5,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.moolah.testutil.Assert.assertThrows;
 import static seedu.moolah.testutil.TypicalMooLah.ANNIVERSARY;
+import static seedu.moolah.testutil.TypicalMooLah.CHICKEN_RICE;
 import static seedu.moolah.testutil.TypicalMooLah.TRANSPORT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.moolah.model.expense.exceptions.DuplicateExpenseException;
 import seedu.moolah.model.expense.exceptions.ExpenseNotFoundException;
+import seedu.moolah.testutil.ExpenseBuilder;
 
 public class UniqueExpenseListTest {
 
@@ -47,6 +51,32 @@ public class UniqueExpenseListTest {
         assertThrows(DuplicateExpenseException.class, () -> uniqueExpenseList.add(ANNIVERSARY));
     }
 
+    @Test
+    public void addAll_newExpenses_addedInSingleChange() {
+        uniqueExpenseList.add(ANNIVERSARY);
+        List<ListChangeListener.Change<? extends Expense>> changes = new ArrayList<>();
+        uniqueExpenseList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Expense>) changes::add);
+
+        uniqueExpenseList.addAll(Arrays.asList(CHICKEN_RICE, TRANSPORT));
+        assertEquals(Arrays.asList(ANNIVERSARY, CHICKEN_RICE, TRANSPORT),
+                uniqueExpenseList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        assertTrue(uniqueExpenseList.contains(TRANSPORT));
+    }
+
+    @Test
+    public void addAll_duplicateExpenses_throwsDuplicateExpenseException() {
+        uniqueExpenseList.add(ANNIVERSARY);
+        assertThrows(DuplicateExpenseException.class, () ->
+                uniqueExpenseList.addAll(Arrays.asList(CHICKEN_RICE, ANNIVERSARY)));
+        assertThrows(DuplicateExpenseException.class, () ->
+                uniqueExpenseList.addAll(Arrays.asList(CHICKEN_RICE, CHICKEN_RICE)));
+
+        // nothing is added when an expense is rejected
+        assertEquals(Collections.singletonList(ANNIVERSARY), uniqueExpenseList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setExpense_nullTargetExpense_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueExpenseList.setExpense(null, ANNIVERSARY));
@@ -117,6 +147,23 @@ public class UniqueExpenseListTest {
         assertEquals(expectedUniqueExpenseList, uniqueExpenseList);
     }
 
+    @Test
+    public void remove_expenseBeforeOthers_keepsOthersFindable() {
+        uniqueExpenseList.setExpenses(Arrays.asList(ANNIVERSARY, TRANSPORT, CHICKEN_RICE));
+        uniqueExpenseList.remove(ANNIVERSARY);
+        uniqueExpenseList.remove(CHICKEN_RICE);
+        assertTrue(uniqueExpenseList.contains(TRANSPORT));
+        assertFalse(uniqueExpenseList.contains(CHICKEN_RICE));
+        assertEquals(Collections.singletonList(TRANSPORT), uniqueExpenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_expenseWithSameIdentityButDifferentFields_throwsExpenseNotFoundException() {
+        uniqueExpenseList.add(ANNIVERSARY);
+        Expense editedAnniversary = new ExpenseBuilder(ANNIVERSARY).withPrice("1.23").build();
+        assertThrows(ExpenseNotFoundException.class, () -> uniqueExpenseList.remove(editedAnniversary));
+    }
+
     @Test
     public void setExpenses_nullUniqueExpenseList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueExpenseList.setExpenses((UniqueExpenseList) null));
@@ -129,6 +176,11 @@ public class UniqueExpenseListTest {
         expectedUniqueExpenseList.add(TRANSPORT);
         uniqueExpenseList.setExpenses(expectedUniqueExpenseList);
         assertEquals(expectedUniqueExpenseList, uniqueExpenseList);
+
+        // expenses of the provided list can be looked up in the own list
+        assertFalse(uniqueExpenseList.contains(ANNIVERSARY));
+        uniqueExpenseList.remove(TRANSPORT);
+        assertTrue(expectedUniqueExpenseList.contains(TRANSPORT));
     }
 
     @Test
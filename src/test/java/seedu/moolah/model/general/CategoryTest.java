@@ -1,7 +1,11 @@
 package seedu.moolah.model.general;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.moolah.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class CategoryTest {
@@ -23,4 +27,23 @@ public class CategoryTest {
         assertThrows(NullPointerException.class, () -> Category.isValidCategoryName(null));
     }
 
+    @Test
+    public void of_validCategoryName_returnsSharedInstance() {
+        assertSame(Category.of("food"), Category.of("FOOD"));
+        assertEquals(new Category("Food"), Category.of("food"));
+        assertThrows(NullPointerException.class, () -> Category.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Category.of("snacks"));
+    }
+
+    @Test
+    public void getOrdinal_validCategories_positionInValidCategories() {
+        List<Category> validCategories = Category.getValidCategories();
+        assertEquals(Category.getNumValidCategory(), validCategories.size());
+        for (int i = 0; i < validCategories.size(); i++) {
+            assertEquals(i, validCategories.get(i).getOrdinal());
+            assertEquals(i, new Category(validCategories.get(i).getCategoryName()).getOrdinal());
+        }
+        assertThrows(UnsupportedOperationException.class, () -> validCategories.add(Category.of("food")));
+    }
+
 }
@@ -0,0 +1,122 @@
+package seedu.moolah.model.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.moolah.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class NaturalDateParserTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2019, 10, 21, 9, 0);
+
+    private final MutableClock clock = new MutableClock(MORNING);
+    private final NaturalDateParser parser = new NaturalDateParser(clock, 2);
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new NaturalDateParser(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new NaturalDateParser(clock, 0));
+    }
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> parser.parse(null));
+    }
+
+    @Test
+    public void parse_relativeDate_resolvedAgainOnDayChange() {
+        assertEquals(Optional.of(LocalDateTime.of(2019, 10, 20, 12, 0)), parser.parse("yesterday noon"));
+        assertEquals(1, parser.getCacheSize());
+
+        // cached for the rest of the day
+        clock.set(MORNING.plusHours(12));
+        assertEquals(Optional.of(LocalDateTime.of(2019, 10, 20, 12, 0)), parser.parse("yesterday noon"));
+        assertEquals(1, parser.getCacheSize());
+
+        // the cache is discarded on the next day
+        clock.set(MORNING.plusDays(1));
+        assertEquals(Optional.of(LocalDateTime.of(2019, 10, 21, 12, 0)), parser.parse("yesterday noon"));
+        assertEquals(1, parser.getCacheSize());
+    }
+
+    @Test
+    public void parse_dateWithoutTime_takesCurrentTimeOfDay() {
+        assertEquals(Optional.of(LocalDateTime.of(2019, 10, 12, 9, 0)), parser.parse("10/12/2019"));
+
+        clock.set(MORNING.plusMinutes(30));
+        assertEquals(Optional.of(LocalDateTime.of(2019, 10, 12, 9, 30)), parser.parse("10/12/2019"));
+        assertEquals(1, parser.getCacheSize());
+    }
+
+    @Test
+    public void parse_relativeTime_notCached() {
+        assertEquals(Optional.of(MORNING.plusMinutes(5)), parser.parse("in 5 minutes"));
+
+        clock.set(MORNING.plusMinutes(30));
+        assertEquals(Optional.of(MORNING.plusMinutes(35)), parser.parse("in 5 minutes"));
+        assertEquals(0, parser.getCacheSize());
+    }
+
+    @Test
+    public void parse_nestedRelativeTime_notCached() {
+        assertEquals(Optional.of(MORNING.plusHours(2)), parser.parse("2 hours from now"));
+        assertEquals(Optional.of(MORNING.minusMinutes(5)), parser.parse("5 minutes ago"));
+
+        clock.set(MORNING.plusMinutes(30));
+        assertEquals(Optional.of(MORNING.plusMinutes(150)), parser.parse("2 hours from now"));
+        assertEquals(Optional.of(MORNING.plusMinutes(25)), parser.parse("5 minutes ago"));
+        assertEquals(0, parser.getCacheSize());
+    }
+
+    @Test
+    public void parse_invalidInput_emptyResult() {
+        assertTrue(parser.parse("zshfkbsuhf").isEmpty());
+        assertTrue(parser.parse("zshfkbsuhf").isEmpty());
+    }
+
+    @Test
+    public void parse_moreInputsThanCapacity_leastRecentlyUsedEvicted() {
+        parser.parse("yesterday noon");
+        parser.parse("today 3pm");
+        parser.parse("yesterday noon");
+        parser.parse("tomorrow 4pm");
+        assertEquals(2, parser.getCacheSize());
+    }
+
+    /**
+     * A clock in the system time zone whose time can be changed.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(LocalDateTime dateTime) {
+            set(dateTime);
+        }
+
+        private void set(LocalDateTime dateTime) {
+            instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.moolah.model.general;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.moolah.testutil.Assert.assertThrows;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.Test;
 
 public class PriceTest {
@@ -46,4 +49,31 @@ public class PriceTest {
         assertTrue(Price.isValidPrice("93121534"));
         assertTrue(Price.isValidPrice("124293842033123")); // long prices
     }
+
+    @Test
+    public void getCents() {
+        assertEquals(9100, new Price("91").getCents());
+        assertEquals(93100, new Price("931.").getCents()); // 0 decimal places
+        assertEquals(93120, new Price("931.2").getCents()); // 1 decimal place
+        assertEquals(93121, new Price("931.21").getCents()); // 2 decimal places
+        assertEquals(12429384203312300L, new Price("124293842033123").getCents()); // long prices
+
+        // too large to be counted in cents
+        assertEquals(Price.UNCOUNTABLE_CENTS, Price.MAX_PRICE.getCents());
+        assertEquals(new BigDecimal("1000000000000000000000"), Price.MAX_PRICE.getAsBigDecimal());
+    }
+
+    @Test
+    public void addCents() {
+        assertEquals(1050, Price.addCents(1000, 50));
+        assertEquals(950, Price.addCents(1000, -50));
+        assertEquals(Price.UNCOUNTABLE_CENTS, Price.addCents(Price.UNCOUNTABLE_CENTS, 1));
+        assertEquals(Price.UNCOUNTABLE_CENTS, Price.addCents(Long.MAX_VALUE - 1, 2));
+    }
+
+    @Test
+    public void getAsDouble() {
+        assertEquals(931.21, new Price("931.21").getAsDouble());
+        assertEquals(1e21, Price.MAX_PRICE.getAsDouble());
+    }
 }
@@ -0,0 +1,67 @@
+package seedu.moolah.model.general;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Compares the time taken to parse stored timestamps directly with the time taken to parse them through Natty.
+ * This is not a test; run it with {@code gradlew timestampBenchmark}, optionally passing the number of timestamps
+ * to parse as the first argument.
+ */
+public class TimestampStorageBenchmark {
+
+    private static final int DEFAULT_COUNT = 100_000;
+    private static final int WARM_UP_COUNT = 1_000;
+    private static final LocalDateTime FIRST_TIMESTAMP = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args The number of timestamps to parse, if given.
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+        List<String> storedTimestamps = createStoredTimestamps(count);
+
+        run("Warm up (direct)", createStoredTimestamps(WARM_UP_COUNT), Timestamp::createGeneralTimestampFromStorage);
+        run("Warm up (Natty)", createStoredTimestamps(WARM_UP_COUNT), Timestamp::parseRawTimestamp);
+
+        long directNanos = run("Direct", storedTimestamps, Timestamp::createGeneralTimestampFromStorage);
+        long nattyNanos = run("Natty", storedTimestamps, Timestamp::parseRawTimestamp);
+        System.out.printf("Direct parsing is %.1fx as fast as Natty%n", (double) nattyNanos / directNanos);
+    }
+
+    /**
+     * Returns {@code count} distinct timestamps, one minute apart, as they are written to storage.
+     */
+    private static List<String> createStoredTimestamps(int count) {
+        List<String> storedTimestamps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            storedTimestamps.add(new Timestamp(FIRST_TIMESTAMP.plusMinutes(i)).toStorageString());
+        }
+        return storedTimestamps;
+    }
+
+    /**
+     * Parses every timestamp in {@code storedTimestamps} with {@code parser} and prints the time taken.
+     *
+     * @return the time taken, in nanoseconds.
+     */
+    private static long run(String name, List<String> storedTimestamps,
+                            Function<String, Optional<Timestamp>> parser) {
+        long start = System.nanoTime();
+        int parsed = 0;
+        for (String storedTimestamp : storedTimestamps) {
+            if (parser.apply(storedTimestamp).isPresent()) {
+                parsed++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s: parsed %d of %d timestamps in %d ms (%.2f us each)%n", name, parsed,
+                storedTimestamps.size(), elapsed / 1_000_000, elapsed / 1000.0 / storedTimestamps.size());
+        return elapsed;
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.moolah.model.general;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.moolah.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -50,4 +52,36 @@ public class TimestampTest {
         assertTrue(validTimestampFour.isPresent());
         assertTrue(validTimestampFive.isPresent());
     }
+
+    @Test
+    public void createGeneralTimestampFromStorage() {
+        // stored by this version
+        LocalDateTime fullTimestamp = LocalDateTime.of(2019, 10, 21, 12, 0);
+        assertEquals(Optional.of(new Timestamp(fullTimestamp)),
+                Timestamp.createGeneralTimestampFromStorage("2019-10-21T12:00"));
+        assertEquals(Optional.of(new Timestamp(fullTimestamp.plusNanos(500_000_000))),
+                Timestamp.createGeneralTimestampFromStorage("2019-10-21T12:00:00.5"));
+
+        // stored by older versions, in formats that only Natty understands
+        assertEquals(fullTimestamp.toLocalDate(),
+                Timestamp.createGeneralTimestampFromStorage("10/21/2019 noon").get().getDate());
+
+        // invalid timestamp
+        assertTrue(Timestamp.createGeneralTimestampFromStorage("zshfkbsuhf").isEmpty());
+    }
+
+    @Test
+    public void createPastTimestampFromStorage() {
+        assertTrue(Timestamp.createPastTimestampFromStorage("2019-10-21T12:00").isPresent());
+
+        // future timestamp
+        String futureTimestamp = new Timestamp(LocalDateTime.now().plusDays(1)).toStorageString();
+        assertTrue(Timestamp.createPastTimestampFromStorage(futureTimestamp).isEmpty());
+    }
+
+    @Test
+    public void toStorageString_readFromStorage_sameTimestamp() {
+        Timestamp timestamp = new Timestamp(LocalDateTime.of(2019, 2, 28, 23, 59, 59, 123));
+        assertEquals(Optional.of(timestamp), Timestamp.createGeneralTimestampFromStorage(timestamp.toStorageString()));
+    }
 }
@@ -0,0 +1,76 @@
+package seedu.moolah.model.modelhistory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.moolah.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListDeltaTest {
+
+    private static final List<String> BASE = Arrays.asList("a", "b", "c", "d");
+
+    @Test
+    public void constructor_negativeIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () ->
+                new ListDelta<>(-1, Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void between_sameLists_returnsEmptyDelta() {
+        ListDelta<String> delta = ListDelta.between(BASE, Arrays.asList("a", "b", "c", "d"));
+        assertTrue(delta.isEmpty());
+        assertEquals(0, delta.getSize());
+    }
+
+    @Test
+    public void between_changedMiddle_recordsOnlyChangedRange() {
+        ListDelta<String> delta = ListDelta.between(BASE, Arrays.asList("a", "x", "y", "d"));
+        assertEquals(new ListDelta<>(1, Arrays.asList("b", "c"), Arrays.asList("x", "y")), delta);
+        assertEquals(3, delta.getToIndex());
+        assertEquals(4, delta.getSize());
+    }
+
+    @Test
+    public void between_addedAndRemoved_recordsOnlyChangedRange() {
+        assertEquals(new ListDelta<>(4, Collections.emptyList(), Arrays.asList("e")),
+                ListDelta.between(BASE, Arrays.asList("a", "b", "c", "d", "e")));
+        assertEquals(new ListDelta<>(0, Arrays.asList("a"), Collections.emptyList()),
+                ListDelta.between(BASE, Arrays.asList("b", "c", "d")));
+    }
+
+    @Test
+    public void applyTo_applicableList_returnsOtherList() {
+        List<String> other = Arrays.asList("a", "x", "d");
+        ListDelta<String> delta = ListDelta.between(BASE, other);
+        assertTrue(delta.isApplicableTo(BASE));
+        assertEquals(other, delta.applyTo(BASE));
+        assertEquals(BASE, delta.inverse().applyTo(other));
+    }
+
+    @Test
+    public void applyTo_modifiedList_replacesElementsWherever() {
+        ListDelta<String> delta = ListDelta.between(BASE, Arrays.asList("a", "b", "x", "d"));
+        List<String> modified = Arrays.asList("c", "d");
+        assertFalse(delta.isApplicableTo(modified));
+        assertEquals(Arrays.asList("d", "x"), delta.applyTo(modified));
+    }
+
+    @Test
+    public void equals() {
+        ListDelta<String> delta = new ListDelta<>(1, Arrays.asList("b"), Arrays.asList("x"));
+
+        assertEquals(delta, delta);
+        assertEquals(delta, new ListDelta<>(1, Arrays.asList("b"), Arrays.asList("x")));
+        assertNotEquals(delta, null);
+        assertNotEquals(delta, new ListDelta<>(0, Arrays.asList("b"), Arrays.asList("x")));
+        assertNotEquals(delta, delta.inverse());
+        assertEquals(delta, delta.inverse().inverse());
+    }
+}
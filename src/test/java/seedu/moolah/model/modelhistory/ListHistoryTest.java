@@ -0,0 +1,65 @@
+package seedu.moolah.model.modelhistory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ListHistoryTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c", "d");
+    private long version;
+    private ListHistory history = ListHistory.startingAt(version);
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<String>) change -> history = history.after(change, ++version));
+    }
+
+    @Test
+    public void deltaSince_currentVersion_returnsEmptyDelta() {
+        list.set(1, "x");
+        assertTrue(history.deltaSince(version, list, list).isEmpty());
+    }
+
+    @Test
+    public void deltaSince_recordedChanges_coversChangedRanges() {
+        long baseVersion = version;
+        List<String> base = new ArrayList<>(list);
+        list.set(1, "x");
+        list.add("e");
+
+        ListDelta<String> delta = history.deltaSince(baseVersion, base, list);
+        assertEquals(new ListDelta<>(1, Arrays.asList("b", "c", "d"), Arrays.asList("x", "c", "d", "e")), delta);
+        assertEquals(list, delta.applyTo(base));
+    }
+
+    @Test
+    public void deltaSince_removalsOnly_coversChangedRanges() {
+        long baseVersion = version;
+        List<String> base = new ArrayList<>(list);
+        list.remove("b");
+        list.removeAll("c", "d");
+
+        ListDelta<String> delta = history.deltaSince(baseVersion, base, list);
+        assertEquals(new ListDelta<>(1, Arrays.asList("b", "c", "d"), List.of()), delta);
+        assertEquals(list, delta.applyTo(base));
+    }
+
+    @Test
+    public void deltaSince_unknownVersion_comparesLists() {
+        List<String> base = Arrays.asList("a", "y", "c", "d");
+        list.set(1, "x");
+        assertEquals(ListDelta.between(base, list), history.deltaSince(-1, base, list));
+    }
+
+}
@@ -3,6 +3,8 @@ package seedu.moolah.model.modelhistory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.moolah.testutil.TypicalMooLah.DUCK_RICE;
 import static seedu.moolah.testutil.TypicalMooLah.getTypicalMooLah;
 
 import java.nio.file.Paths;
@@ -16,10 +18,12 @@ import seedu.moolah.model.UserPrefs;
 
 public class ModelChangesTest {
 
+    private static final MooLahDelta DELTA = MooLahDelta.between(new MooLah(), getTypicalMooLah());
+
     @Test
     public void copyConstructor() {
         ModelChanges changes = new ModelChanges("test copy")
-                .setMooLah(new MooLah())
+                .setMooLahDelta(DELTA)
                 .setUserPrefs(new UserPrefs())
                 .setExpensePredicate(Model.PREDICATE_SHOW_ALL_EXPENSES)
                 .setEventPredicate(Model.PREDICATE_SHOW_ALL_EVENTS)
@@ -42,7 +46,8 @@ public class ModelChangesTest {
         // Includes mooLah
         other = new ModelManager(getTypicalMooLah(), new UserPrefs(), new ModelHistory());
         changes = ModelChanges.compareModels(changeMessage, base, other);
-        assertEquals(changes, new ModelChanges(changeMessage).setMooLah(base.getMooLah()));
+        assertEquals(changes, new ModelChanges(changeMessage)
+                .setMooLahDelta(MooLahDelta.between(other.getMooLah(), base.getMooLah())));
 
         // Includes userPrefs
         other = new ModelManager();
@@ -69,19 +74,35 @@ public class ModelChangesTest {
         assertEquals(changes, new ModelChanges(changeMessage).setBudgetPredicate(base.getFilteredBudgetPredicate()));
     }
 
+    @Test
+    public void compareModels_copies_comparesOnlyChangedData() {
+        String changeMessage = "test compare copies";
+        Model base = new ModelManager(getTypicalMooLah(), new UserPrefs(), new ModelHistory());
+        Model other = base.copy();
+
+        // unchanged copy
+        assertEquals(new ModelChanges(changeMessage), ModelChanges.compareModels(changeMessage, base, other));
+
+        // only the changed lists are recorded
+        other.addExpense(DUCK_RICE);
+        MooLahDelta delta = ModelChanges.compareModels(changeMessage, base, other).getMooLahDelta().get();
+        assertFalse(delta.getExpenseDelta().isEmpty());
+        assertTrue(delta.getEventDelta().isEmpty());
+    }
+
     @Test
     public void revertChanges() {
         Model model = new ModelManager();
 
         String changeMessage = "test revert changes";
         ModelChanges changes = new ModelChanges(changeMessage)
-                .setMooLah(new MooLah())
+                .setMooLahDelta(DELTA)
                 .setUserPrefs(new UserPrefs())
                 .setExpensePredicate(Model.PREDICATE_SHOW_ALL_EXPENSES)
                 .setEventPredicate(Model.PREDICATE_SHOW_ALL_EVENTS)
                 .setBudgetPredicate(Model.PREDICATE_SHOW_ALL_BUDGETS);
         ModelChanges expected = new ModelChanges(changeMessage)
-                .setMooLah(model.getMooLah())
+                .setMooLahDelta(DELTA.inverse())
                 .setUserPrefs(model.getUserPrefs())
                 .setExpensePredicate(model.getFilteredExpensePredicate())
                 .setEventPredicate(model.getFilteredEventPredicate())
@@ -91,12 +112,25 @@ public class ModelChangesTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void getSize() {
+        ModelChanges changes = new ModelChanges("test size");
+        assertEquals(0, changes.getSize());
+
+        changes.setMooLahDelta(DELTA);
+        assertEquals(DELTA.getSize(), changes.getSize());
+
+        changes.setUserPrefs(new UserPrefs())
+                .setExpensePredicate(Model.PREDICATE_SHOW_ALL_EXPENSES);
+        assertEquals(DELTA.getSize() + 1, changes.getSize());
+    }
+
     @Test
     public void toString_success() {
         ModelChanges changes = new ModelChanges("test toString");
         assertEquals("changed:", changes.toString());
 
-        changes.setMooLah(new MooLah());
+        changes.setMooLahDelta(DELTA);
         assertEquals("changed: mooLah", changes.toString());
 
         changes.setUserPrefs(new UserPrefs());
@@ -129,12 +163,12 @@ public class ModelChangesTest {
         assertNotEquals(changes, other);
 
         // To objects with null vs non-null mooLah
-        other = new ModelChanges(changeMessage).setMooLah(new MooLah());
+        other = new ModelChanges(changeMessage).setMooLahDelta(DELTA);
         assertNotEquals(changes, other);
 
         // To objects with different mooLah
-        changes = new ModelChanges(changeMessage).setMooLah(new MooLah());
-        other = new ModelChanges(changeMessage).setMooLah(getTypicalMooLah());
+        changes = new ModelChanges(changeMessage).setMooLahDelta(DELTA);
+        other = new ModelChanges(changeMessage).setMooLahDelta(DELTA.inverse());
         assertNotEquals(changes, other);
 
         // To objects with null vs non-null userPrefs
@@ -165,13 +199,13 @@ public class ModelChangesTest {
 
         // To objects with all equal values
         changes = new ModelChanges(changeMessage)
-                .setMooLah(new MooLah())
+                .setMooLahDelta(DELTA)
                 .setUserPrefs(new UserPrefs())
                 .setExpensePredicate(Model.PREDICATE_SHOW_ALL_EXPENSES)
                 .setEventPredicate(Model.PREDICATE_SHOW_ALL_EVENTS)
                 .setBudgetPredicate(Model.PREDICATE_SHOW_ALL_BUDGETS);
         other = new ModelChanges(changeMessage)
-                .setMooLah(new MooLah())
+                .setMooLahDelta(DELTA)
                 .setUserPrefs(new UserPrefs())
                 .setExpensePredicate(Model.PREDICATE_SHOW_ALL_EXPENSES)
                 .setEventPredicate(Model.PREDICATE_SHOW_ALL_EVENTS)
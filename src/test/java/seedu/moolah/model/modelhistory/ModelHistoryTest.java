@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.moolah.testutil.Assert.assertThrows;
 import static seedu.moolah.testutil.TestUtil.makeModelChangesStack;
+import static seedu.moolah.testutil.TypicalMooLah.getTypicalMooLah;
 
 import java.util.Optional;
 import java.util.Stack;
@@ -13,6 +14,9 @@ import java.util.Stack;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.moolah.model.MooLah;
+import seedu.moolah.model.UserPrefs;
+
 /**
  * Hybrid (Unit and Integration) tests for ModelHistory.
  */
@@ -31,6 +35,11 @@ public class ModelHistoryTest {
         assertTrue(history.isFutureChangesEmpty());
     }
 
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ModelHistory(0));
+    }
+
     @Test
     public void copyConstructor() {
         assertEquals(history, new ModelHistory(history));
@@ -109,6 +118,41 @@ public class ModelHistoryTest {
         assertTrue(history.isFutureChangesEmpty());
     }
 
+    @Test
+    public void addToPastChanges_exceedsCapacity_evictsOldestChanges() {
+        history = new ModelHistory(2);
+        history.addToPastChanges(new ModelChanges("first").setUserPrefs(new UserPrefs()));
+        history.addToPastChanges(new ModelChanges("second").setUserPrefs(new UserPrefs()));
+        history.addToPastChanges(new ModelChanges("third").setUserPrefs(new UserPrefs()));
+
+        assertEquals(2, history.getSize());
+        assertEquals(2, history.getPastChanges().size());
+        assertEquals("second", history.getPastChanges().firstElement().getChangeMessage());
+    }
+
+    @Test
+    public void addToPastChanges_singleChangeExceedsCapacity_keepsChange() {
+        history = new ModelHistory(1);
+        ModelChanges changes = new ModelChanges("large").setUserPrefs(new UserPrefs())
+                .setMooLahDelta(MooLahDelta.between(new MooLah(), getTypicalMooLah()));
+        history.addToPastChanges(new ModelChanges("small").setUserPrefs(new UserPrefs()));
+        history.addToPastChanges(changes);
+
+        assertEquals(changes.getSize(), history.getSize());
+        assertEquals(Optional.of(changes), history.getPrevChanges());
+        assertEquals(0, history.getSize());
+    }
+
+    @Test
+    public void clearFutureChanges_updatesSize() {
+        history.addToPastChanges(new ModelChanges("past").setUserPrefs(new UserPrefs()));
+        history.addToFutureChanges(new ModelChanges("future").setUserPrefs(new UserPrefs()));
+        assertEquals(2, history.getSize());
+
+        history.clearFutureChanges();
+        assertEquals(1, history.getSize());
+    }
+
     @Test
     public void getPrevChanges_noChanges_returnsEmptyOptional() {
         assertTrue(history.getPrevChanges().isEmpty());
@@ -155,6 +199,8 @@ public class ModelHistoryTest {
         assertNotEquals(history, new ModelHistory(history.getPastChanges(), oneChangesInStack));
         // To ModelHistory objects but different in past and future models
         assertNotEquals(history, new ModelHistory(oneChangesInStack, oneChangesInStack));
+        // To ModelHistory objects but different in capacity
+        assertNotEquals(history, new ModelHistory(history.getCapacity() + 1));
         // To ModelHistory objects and equal in both models
         assertEquals(history, new ModelHistory(history.getPastChanges(), history.getFutureChanges()));
     }
@@ -0,0 +1,41 @@
+package seedu.moolah.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Price;
+
+public class CategoryTotalsTest {
+
+    private static final int FOOD = Category.of("food").getOrdinal();
+    private static final int TRAVEL = Category.of("travel").getOrdinal();
+    private static final int SHOPPING = Category.of("shopping").getOrdinal();
+
+    @Test
+    public void add_severalCategories_totalledByCategory() {
+        CategoryTotals totals = new CategoryTotals();
+        totals.add(FOOD, 350, 1);
+        totals.add(TRAVEL, 10000, 1);
+        totals.add(FOOD, 55, 1);
+
+        assertEquals(405, totals.getCents(FOOD));
+        assertEquals(2, totals.getCount(FOOD));
+        assertEquals(10000, totals.getCents(TRAVEL));
+        assertEquals(1, totals.getCount(TRAVEL));
+        assertEquals(0, totals.getCents(SHOPPING));
+        assertEquals(0, totals.getCount(SHOPPING));
+        assertEquals(10405, totals.getTotalCents());
+    }
+
+    @Test
+    public void add_uncountableCents_saturates() {
+        CategoryTotals totals = new CategoryTotals();
+        totals.add(FOOD, Price.UNCOUNTABLE_CENTS, 1);
+        totals.add(FOOD, 100, 1);
+        totals.add(TRAVEL, 100, 1);
+        assertEquals(Price.UNCOUNTABLE_CENTS, totals.getCents(FOOD));
+        assertEquals(Price.UNCOUNTABLE_CENTS, totals.getTotalCents());
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.moolah.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.moolah.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.moolah.model.expense.Expense;
+import seedu.moolah.model.expense.UniqueIdentifier;
+import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Description;
+import seedu.moolah.model.general.Price;
+import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.testutil.ExpenseBuilder;
+
+public class DailyCategoryTotalsTest {
+
+    private static final Expense FIRST_FOOD = new ExpenseBuilder().withCategory("food").withPrice("1.50")
+            .withTimestamp("01-01-2019 noon").build();
+    private static final Expense SECOND_FOOD = new ExpenseBuilder().withCategory("food").withPrice("2")
+            .withTimestamp("02-01-2019 noon").build();
+    private static final Expense SECOND_TRAVEL = new ExpenseBuilder().withCategory("travel").withPrice("10")
+            .withTimestamp("02-01-2019").build();
+    private static final Expense THIRD_FOOD = new ExpenseBuilder().withCategory("food").withPrice("0.25")
+            .withTimestamp("03-01-2019 noon").build();
+
+    private static final int FOOD = Category.of("food").getOrdinal();
+    private static final int TRAVEL = Category.of("travel").getOrdinal();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DailyCategoryTotals(null));
+    }
+
+    @Test
+    public void getTotalsBetween_existingExpenses_totalsWithinDates() {
+        ObservableList<Expense> expenses =
+                FXCollections.observableArrayList(THIRD_FOOD, SECOND_TRAVEL, FIRST_FOOD, SECOND_FOOD);
+        DailyCategoryTotals totals = new DailyCategoryTotals(expenses);
+
+        CategoryTotals allDays = totals.getTotalsBetween(getTimestamp("01-01-2019"), getTimestamp("03-01-2019"));
+        assertEquals(375, allDays.getCents(FOOD));
+        assertEquals(3, allDays.getCount(FOOD));
+        assertEquals(1000, allDays.getCents(TRAVEL));
+        assertEquals(1375, totals.getTotals().getTotalCents());
+
+        CategoryTotals secondDay = totals.getTotalsBetween(getTimestamp("02-01-2019"), getTimestamp("02-01-2019"));
+        assertEquals(200, secondDay.getCents(FOOD));
+        assertEquals(1, secondDay.getCount(FOOD));
+        assertEquals(1000, secondDay.getCents(TRAVEL));
+
+        // dates without expenses
+        assertEquals(0, totals.getTotalsBetween(getTimestamp("04-01-2019"), getTimestamp("05-01-2019"))
+                .getTotalCents());
+
+        // start date after end date
+        assertEquals(0, totals.getTotalsBetween(getTimestamp("03-01-2019"), getTimestamp("01-01-2019"))
+                .getTotalCents());
+    }
+
+    @Test
+    public void getCentsByInterval_existingExpenses_totalsWithinIntervals() {
+        ObservableList<Expense> expenses =
+                FXCollections.observableArrayList(THIRD_FOOD, SECOND_TRAVEL, FIRST_FOOD, SECOND_FOOD);
+        DailyCategoryTotals totals = new DailyCategoryTotals(expenses);
+        int numCategories = Category.getNumValidCategory();
+
+        long[] cents = totals.getCentsByInterval(new LocalDate[] {LocalDate.of(2018, 12, 31),
+            LocalDate.of(2019, 1, 2), LocalDate.of(2019, 1, 3), LocalDate.of(2019, 1, 5)});
+        assertEquals(3 * numCategories, cents.length);
+        assertEquals(150, cents[FOOD]);
+        assertEquals(0, cents[TRAVEL]);
+        assertEquals(200, cents[numCategories + FOOD]);
+        assertEquals(1000, cents[numCategories + TRAVEL]);
+        assertEquals(25, cents[2 * numCategories + FOOD]);
+
+        // fewer than two boundaries
+        assertEquals(0, totals.getCentsByInterval(new LocalDate[] {LocalDate.of(2019, 1, 1)}).length);
+    }
+
+    @Test
+    public void getTotalsBetween_listChanged_reflectsChanges() {
+        ObservableList<Expense> expenses = FXCollections.observableArrayList(FIRST_FOOD, SECOND_FOOD);
+        DailyCategoryTotals totals = new DailyCategoryTotals(expenses);
+        assertEquals(350, totals.getTotals().getTotalCents());
+
+        expenses.remove(FIRST_FOOD);
+        expenses.add(THIRD_FOOD);
+        expenses.set(0, SECOND_TRAVEL);
+
+        CategoryTotals allDays = totals.getTotalsBetween(getTimestamp("01-01-2019"), getTimestamp("03-01-2019"));
+        assertEquals(25, allDays.getCents(FOOD));
+        assertEquals(1, allDays.getCount(FOOD));
+        assertEquals(1000, allDays.getCents(TRAVEL));
+    }
+
+    @Test
+    public void getTotalsBetween_uncountablePrice_countedUntilRemoved() {
+        Expense uncountable = new ExpenseBuilder().withCategory("food").withPrice(Price.MAX_PRICE.value)
+                .withTimestamp("02-01-2019 noon").build();
+        ObservableList<Expense> expenses = FXCollections.observableArrayList(FIRST_FOOD, uncountable);
+        DailyCategoryTotals totals = new DailyCategoryTotals(expenses);
+        assertEquals(Price.UNCOUNTABLE_CENTS, totals.getTotals().getCents(FOOD));
+
+        expenses.remove(uncountable);
+        assertEquals(150, totals.getTotals().getCents(FOOD));
+    }
+
+    @Test
+    public void constructor_parallel_sameTotalsAsSequential() {
+        ObservableList<Expense> expenses = FXCollections.observableArrayList();
+        LocalDateTime firstDay = LocalDateTime.of(2019, 1, 1, 12, 0);
+        List<Category> categories = Category.getValidCategories();
+        for (int i = 0; i < DailyCategoryTotals.PARALLEL_THRESHOLD * 2; i++) {
+            expenses.add(new Expense(new Description("Lunch"), new Price(String.valueOf(i % 97 + 1)),
+                    categories.get(i % categories.size()), new Timestamp(firstDay.plusDays(i % 400)),
+                    new UniqueIdentifier(ExpenseBuilder.DEFAULT_EXPENSE_UNIQUE_IDENTIFIER)));
+        }
+        expenses.add(new ExpenseBuilder().withCategory("food").withPrice(Price.MAX_PRICE.value)
+                .withTimestamp("02-01-2019 noon").build());
+
+        DailyCategoryTotals sequential = new DailyCategoryTotals(expenses, false);
+        DailyCategoryTotals parallel = new DailyCategoryTotals(expenses, true);
+
+        LocalDate[] boundaries = new LocalDate[60];
+        for (int i = 0; i < boundaries.length; i++) {
+            boundaries[i] = firstDay.toLocalDate().plusWeeks(i);
+        }
+        assertArrayEquals(sequential.getCentsByInterval(boundaries), parallel.getCentsByInterval(boundaries));
+        for (int i = 0; i < categories.size(); i++) {
+            assertEquals(sequential.getTotals().getCount(i), parallel.getTotals().getCount(i));
+        }
+    }
+
+    @Test
+    public void copyFor_eitherListChanged_otherUnaffected() {
+        ObservableList<Expense> expenses = FXCollections.observableArrayList(FIRST_FOOD, SECOND_FOOD);
+        DailyCategoryTotals totals = new DailyCategoryTotals(expenses);
+        ObservableList<Expense> expensesCopy = FXCollections.observableArrayList(expenses);
+        DailyCategoryTotals totalsCopy = totals.copyFor(expensesCopy);
+
+        expensesCopy.add(SECOND_TRAVEL);
+        expenses.remove(SECOND_FOOD);
+
+        assertEquals(150, totals.getTotals().getTotalCents());
+        assertEquals(1350, totalsCopy.getTotals().getTotalCents());
+    }
+
+    private static Timestamp getTimestamp(String rawTimestamp) {
+        return Timestamp.createTimestampIfValid(rawTimestamp).get();
+    }
+}
@@ -7,10 +7,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
 import seedu.moolah.model.budget.Budget;
 import seedu.moolah.model.budget.BudgetPeriod;
 import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.testutil.BudgetBuilder;
 import seedu.moolah.testutil.TypicalMooLah;
 
 class PieChartStatisticsTest {
@@ -78,15 +78,15 @@ class PieChartStatisticsTest {
         assertThrows(NullPointerException.class, () ->
                 new PieChartStatistics(null, WEEK_BUDGET_START_DATE, WEEK_BUDGET_END_DATE));
         assertThrows(NullPointerException.class, () ->
-                new PieChartStatistics(FXCollections.observableArrayList() , null, WEEK_BUDGET_END_DATE));
+                new PieChartStatistics(new BudgetBuilder().build(), null, WEEK_BUDGET_END_DATE));
         assertThrows(NullPointerException.class, () ->
-                new PieChartStatistics(FXCollections.observableArrayList() , WEEK_BUDGET_START_DATE, null));
+                new PieChartStatistics(new BudgetBuilder().build(), WEEK_BUDGET_START_DATE, null));
     }
 
     @Test
     void pieChart_dayPeriodWithNoDates_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedDayBudget();
-        PieChartStatistics statistics = new PieChartStatistics(budget.getExpenses(), budget.getWindowStartDate(),
+        PieChartStatistics statistics = new PieChartStatistics(budget, budget.getWindowStartDate(),
                 budget.getWindowEndDate());
         statistics.populateData();
         assertEquals(statistics.getTitle(), DAY_BUDGET_TITLE);
@@ -96,7 +96,7 @@ class PieChartStatisticsTest {
     @Test
     void pieChart_weekPeriodWithOnlyStartDate_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedWeekBudget();
-        PieChartStatistics statistics = new PieChartStatistics(budget.getExpenses(), WEEK_BUDGET_START_DATE,
+        PieChartStatistics statistics = new PieChartStatistics(budget, WEEK_BUDGET_START_DATE,
                 WEEK_BUDGET_END_DATE);
         statistics.populateData();
         assertEquals(statistics.getTitle(), WEEK_BUDGET_TITLE);
@@ -106,7 +106,7 @@ class PieChartStatisticsTest {
     @Test
     void pieChart_monthPeriodWithOnlyEndDate_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedMonthBudget();
-        PieChartStatistics statistics = new PieChartStatistics(budget.getExpenses(), MONTH_BUDGET_START_DATE,
+        PieChartStatistics statistics = new PieChartStatistics(budget, MONTH_BUDGET_START_DATE,
                 MONTH_BUDGET_END_DATE);
         statistics.populateData();
         assertEquals(statistics.getTitle(), MONTH_BUDGET_TITLE);
@@ -117,7 +117,7 @@ class PieChartStatisticsTest {
     @Test
     void pieChart_yearPeriodWithBothDates_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedYearBudget();
-        PieChartStatistics statistics = new PieChartStatistics(budget.getExpenses(),
+        PieChartStatistics statistics = new PieChartStatistics(budget,
                 YEAR_BUDGET_START_DATE, YEAR_BUDGET_END_DATE);
         statistics.populateData();
         assertEquals(statistics.getTitle(), YEAR_BUDGET_TITLE);
@@ -127,7 +127,7 @@ class PieChartStatisticsTest {
     @Test
     void pieChart_futureWeekPeriodWithOnlyStartDate_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedWeekBudget();
-        PieChartStatistics statistics = new PieChartStatistics(budget.getExpenses(),
+        PieChartStatistics statistics = new PieChartStatistics(budget,
                 FUTURE_WEEK_BUDGET_START_DATE, FUTURE_WEEK_BUDGET_END_DATE);
         statistics.populateData();
         assertEquals(statistics.getTitle(), FUTURE_WEEK_BUDGET_TITLE);
@@ -0,0 +1,103 @@
+package seedu.moolah.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.moolah.testutil.Assert.assertThrows;
+import static seedu.moolah.testutil.TypicalMooLah.CHICKEN_RICE;
+import static seedu.moolah.testutil.TypicalMooLah.OUTSIDE_SCHOOL;
+import static seedu.moolah.testutil.TypicalMooLah.SCHOOL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.moolah.model.budget.Budget;
+import seedu.moolah.testutil.BudgetBuilder;
+import seedu.moolah.ui.statistics.StatisticsRegionFactory;
+
+public class StatisticsCacheTest {
+
+    private static final List<String> PARAMETERS = List.of("statsbasic");
+    private static final List<String> OTHER_PARAMETERS = List.of("statstrend");
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StatisticsCache(0));
+    }
+
+    @Test
+    public void getOrCreate_sameBudgetAndParameters_returnsCachedStatistics() {
+        StatisticsCache cache = new StatisticsCache();
+        Statistics statistics = cache.getOrCreate(SCHOOL, PARAMETERS, StatisticsStub::new);
+
+        // copies of the budget have its version
+        assertSame(statistics, cache.getOrCreate(SCHOOL.deepCopy(), PARAMETERS, StatisticsStub::new));
+        assertNotSame(statistics, cache.getOrCreate(SCHOOL, OTHER_PARAMETERS, StatisticsStub::new));
+        assertNotSame(statistics, cache.getOrCreate(OUTSIDE_SCHOOL, PARAMETERS, StatisticsStub::new));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void getOrCreate_budgetChanged_dropsStatisticsOfOldVersion() {
+        StatisticsCache cache = new StatisticsCache();
+        Budget school = new BudgetBuilder(SCHOOL).withExpenses(FXCollections.observableArrayList()).build();
+        Statistics statistics = cache.getOrCreate(school, PARAMETERS, StatisticsStub::new);
+        cache.getOrCreate(school, OTHER_PARAMETERS, StatisticsStub::new);
+        cache.getOrCreate(OUTSIDE_SCHOOL, PARAMETERS, StatisticsStub::new);
+
+        school.addExpense(CHICKEN_RICE);
+        assertNotSame(statistics, cache.getOrCreate(school, PARAMETERS, StatisticsStub::new));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void getOrCreate_full_dropsLeastRecentlyUsed() {
+        StatisticsCache cache = new StatisticsCache(2);
+        Statistics statistics = cache.getOrCreate(SCHOOL, PARAMETERS, StatisticsStub::new);
+        cache.getOrCreate(SCHOOL, OTHER_PARAMETERS, StatisticsStub::new);
+        cache.getOrCreate(SCHOOL, PARAMETERS, StatisticsStub::new);
+        cache.getOrCreate(OUTSIDE_SCHOOL, PARAMETERS, StatisticsStub::new);
+
+        assertEquals(2, cache.size());
+        assertSame(statistics, cache.getOrCreate(SCHOOL, PARAMETERS, StatisticsStub::new));
+    }
+
+    @Test
+    public void populateData_cachedStatistics_populatedOnce() {
+        StatisticsStub stub = new StatisticsStub();
+        Statistics statistics = new StatisticsCache().getOrCreate(SCHOOL, PARAMETERS, () -> stub);
+        statistics.populateData();
+        statistics.populateData();
+        assertEquals(1, stub.populateCount);
+    }
+
+    /**
+     * A stub of statistics which counts how often it is populated.
+     */
+    private static class StatisticsStub implements Statistics {
+        private int populateCount;
+
+        @Override
+        public String getTitle() {
+            return "";
+        }
+
+        @Override
+        public void setTitle(String title) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void populateData() {
+            populateCount++;
+        }
+
+        @Override
+        public StatisticsRegionFactory createFactory() {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -119,7 +119,7 @@ class TabularStatisticsTest {
     @Test
     void tableView_dayPeriodSameInterval_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedDayBudget();
-        TabularStatistics statistics = new TabularStatistics(budget.getExpenses(), DAY_BUDGET_FIRST_START_DATE,
+        TabularStatistics statistics = new TabularStatistics(budget, DAY_BUDGET_FIRST_START_DATE,
                 DAY_BUDGET_FIRST_START_DATE, DAY_BUDGET_FIRST_START_DATE, DAY_BUDGET_FIRST_START_DATE);
         statistics.populateData();
         assertEquals(statistics.getTitle(), DAY_BUDGET_TITLE);
@@ -129,7 +129,7 @@ class TabularStatisticsTest {
     @Test
     void tableView_weekPeriodOverlappingIntervals_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedWeekBudget();
-        TabularStatistics statistics = new TabularStatistics(budget.getExpenses(),
+        TabularStatistics statistics = new TabularStatistics(budget,
                 WEEK_BUDGET_FIRST_START_DATE, WEEK_BUDGET_FIRST_END_DATE,
                 WEEK_BUDGET_SECOND_START_DATE, WEEK_BUDGET_SECOND_END_DATE);
         statistics.populateData();
@@ -140,7 +140,7 @@ class TabularStatisticsTest {
     @Test
     void tableView_monthPeriodDisjointIntervals_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedMonthBudget();
-        TabularStatistics statistics = new TabularStatistics(budget.getExpenses(),
+        TabularStatistics statistics = new TabularStatistics(budget,
                 MONTH_BUDGET_FIRST_START_DATE, MONTH_BUDGET_FIRST_END_DATE,
                 MONTH_BUDGET_SECOND_START_DATE, MONTH_BUDGET_SECOND_END_DATE);
         statistics.populateData();
@@ -151,7 +151,7 @@ class TabularStatisticsTest {
     @Test
     void tableView_futureYearPeriodDisjointIntervals_correctOutput() {
         Budget budget = TypicalMooLah.getPopulatedYearBudget();
-        TabularStatistics statistics = new TabularStatistics(budget.getExpenses(),
+        TabularStatistics statistics = new TabularStatistics(budget,
                 YEAR_BUDGET_FIRST_START_DATE, YEAR_BUDGET_FIRST_END_DATE,
                 YEAR_BUDGET_SECOND_START_DATE, YEAR_BUDGET_SECOND_END_DATE);
         statistics.populateData();
@@ -0,0 +1,83 @@
+package seedu.moolah.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.moolah.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.moolah.model.budget.Budget;
+import seedu.moolah.model.expense.Expense;
+import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.testutil.BudgetBuilder;
+import seedu.moolah.testutil.ExpenseBuilder;
+
+public class TrendStatisticsTest {
+
+    private static final Expense FEBRUARY_FOOD = new ExpenseBuilder().withCategory("food").withPrice("1.50")
+            .withTimestamp("15-02-2019 noon").build();
+    private static final Expense MARCH_TRAVEL = new ExpenseBuilder().withCategory("travel").withPrice("10")
+            .withTimestamp("31-03-2019 noon").build();
+
+    private static final int FOOD = Category.of("food").getOrdinal();
+    private static final int TRAVEL = Category.of("travel").getOrdinal();
+
+    private final Budget monthlyBudget = new BudgetBuilder().withStartDate("31-01-2019 noon").withPeriod("month")
+            .withAmount("100").withExpenses(FXCollections.observableArrayList(FEBRUARY_FOOD, MARCH_TRAVEL)).build();
+
+    @Test
+    public void constructor_nonPositiveMaxIntervalCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TrendStatistics(getTimestamp("01-01-2019"),
+                getTimestamp("30-06-2019"), monthlyBudget, true, 0));
+    }
+
+    @Test
+    public void populateData_categoryMode_windowsAnchoredToBudgetWindow() {
+        TrendStatistics statistics = new TrendStatistics(getTimestamp("01-01-2019"), getTimestamp("30-06-2019"),
+                monthlyBudget, false);
+        statistics.populateData();
+
+        // each window starts a whole number of months after the budget window, without drifting after February
+        assertEquals(List.of(LocalDate.of(2019, 1, 31), LocalDate.of(2019, 2, 28), LocalDate.of(2019, 3, 31),
+                LocalDate.of(2019, 4, 30), LocalDate.of(2019, 5, 31), LocalDate.of(2019, 6, 30)),
+                getDates(statistics));
+
+        List<List<Double>> expenses = statistics.getPeriodicCategoricalExpenses();
+        assertEquals(List.of(1.5, 0.0, 0.0, 0.0, 0.0, 0.0), expenses.get(FOOD));
+        assertEquals(List.of(0.0, 0.0, 10.0, 0.0, 0.0, 0.0), expenses.get(TRAVEL));
+    }
+
+    @Test
+    public void populateData_moreWindowsThanMaximum_capsIntervals() {
+        TrendStatistics statistics = new TrendStatistics(getTimestamp("01-01-2019"), getTimestamp("30-06-2019"),
+                monthlyBudget, false, 2);
+        statistics.populateData();
+        assertEquals(List.of(LocalDate.of(2019, 1, 31), LocalDate.of(2019, 2, 28)), getDates(statistics));
+    }
+
+    @Test
+    public void populateData_startDateFarFromBudgetWindow_startsAtClosestWindow() {
+        TrendStatistics statistics = new TrendStatistics(getTimestamp("01-01-2015"), getTimestamp("30-06-2019"),
+                monthlyBudget, true, 1);
+        statistics.populateData();
+        assertEquals(List.of(LocalDate.of(2015, 1, 31)), getDates(statistics));
+
+        statistics = new TrendStatistics(getTimestamp("01-01-2024"), getTimestamp("30-06-2024"),
+                monthlyBudget, true, 1);
+        statistics.populateData();
+        assertEquals(List.of(LocalDate.of(2024, 1, 31)), getDates(statistics));
+    }
+
+    private static List<LocalDate> getDates(TrendStatistics statistics) {
+        return statistics.getDates().stream().map(Timestamp::getDate).collect(Collectors.toList());
+    }
+
+    private static Timestamp getTimestamp(String rawTimestamp) {
+        return Timestamp.createTimestampIfValid(rawTimestamp).get();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.moolah.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.moolah.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+
+public class CopyOnWriteObservableListTest {
+
+    private final CopyOnWriteObservableList<String> list = new CopyOnWriteObservableList<>(Arrays.asList("a", "b"));
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CopyOnWriteObservableList.copyOf(null));
+    }
+
+    @Test
+    public void copyOf_copyOnWriteList_sharesElements() {
+        CopyOnWriteObservableList<String> copy = CopyOnWriteObservableList.copyOf(list);
+        assertTrue(copy.sharesElementsWith(list));
+        assertEquals(list, copy);
+    }
+
+    @Test
+    public void copyOf_otherList_copiesElements() {
+        CopyOnWriteObservableList<String> copy =
+                CopyOnWriteObservableList.copyOf(FXCollections.observableArrayList("a", "b"));
+        assertFalse(copy.sharesElementsWith(list));
+        assertEquals(list, copy);
+    }
+
+    @Test
+    public void add_sharedList_doesNotModifyCopy() {
+        CopyOnWriteObservableList<String> copy = CopyOnWriteObservableList.copyOf(list);
+        copy.add("c");
+        assertFalse(copy.sharesElementsWith(list));
+        assertEquals(Arrays.asList("a", "b"), list);
+        assertEquals(Arrays.asList("a", "b", "c"), copy);
+    }
+
+    @Test
+    public void setAndRemove_sharedList_doesNotModifyCopy() {
+        CopyOnWriteObservableList<String> copy = CopyOnWriteObservableList.copyOf(list);
+        list.set(0, "z");
+        copy.remove("b");
+        assertEquals(Arrays.asList("z", "b"), list);
+        assertEquals(Arrays.asList("a"), copy);
+    }
+
+    @Test
+    public void setAll_copyOnWriteList_sharesElementsAndFiresSingleChange() {
+        CopyOnWriteObservableList<String> other = new CopyOnWriteObservableList<>(Arrays.asList("c", "d", "e"));
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) changes::add);
+
+        list.setAll(other);
+
+        assertTrue(list.sharesElementsWith(other));
+        assertEquals(other, list);
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(Arrays.asList("a", "b"), change.getRemoved());
+        assertEquals(3, change.getAddedSize());
+
+        other.add("f");
+        assertEquals(Arrays.asList("c", "d", "e"), list);
+    }
+
+    @Test
+    public void clear_sharedList_doesNotModifyCopy() {
+        CopyOnWriteObservableList<String> copy = CopyOnWriteObservableList.copyOf(list);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(Arrays.asList("a", "b"), copy);
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertEquals(list, new CopyOnWriteObservableList<>(Arrays.asList("a", "b")));
+        assertEquals(list, Arrays.asList("a", "b"));
+        assertEquals(list.hashCode(), Arrays.asList("a", "b").hashCode());
+
+        // different values -> returns false
+        assertNotEquals(list, new CopyOnWriteObservableList<>(Arrays.asList("b", "a")));
+        assertNotEquals(list, null);
+    }
+}
@@ -0,0 +1,286 @@
+package seedu.moolah.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.moolah.testutil.Assert.assertThrows;
+import static seedu.moolah.testutil.TypicalMooLah.ANNIVERSARY;
+import static seedu.moolah.testutil.TypicalMooLah.CHICKEN_RICE;
+import static seedu.moolah.testutil.TypicalMooLah.SCHOOL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.moolah.commons.core.GuiSettings;
+import seedu.moolah.model.MooLah;
+import seedu.moolah.model.ReadOnlyMooLah;
+import seedu.moolah.model.ReadOnlyUserPrefs;
+import seedu.moolah.model.UserPrefs;
+import seedu.moolah.model.budget.Budget;
+import seedu.moolah.model.general.Timestamp;
+import seedu.moolah.testutil.BudgetBuilder;
+
+public class AsyncSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncSaver(null));
+    }
+
+    @Test
+    public void save_nullArguments_throwsNullPointerException() {
+        AsyncSaver saver = new AsyncSaver(getStorageManager(new JsonMooLahStorage(getTempFilePath("moolah.json"))));
+        assertThrows(NullPointerException.class, () -> saver.save(null, new UserPrefs()));
+        assertThrows(NullPointerException.class, () -> saver.save(new MooLah(), null));
+    }
+
+    @Test
+    public void save_burstWhileWriting_coalescesIntoLatestData() throws Exception {
+        Path filePath = getTempFilePath("moolah.json");
+        BlockingMooLahStorageStub mooLahStorage = new BlockingMooLahStorageStub(filePath);
+        AsyncSaver saver = new AsyncSaver(getStorageManager(mooLahStorage));
+        MooLah mooLah = new MooLah();
+
+        // the first write blocks, so that the following requests pile up behind it
+        saver.save(mooLah, new UserPrefs());
+        mooLahStorage.started.await();
+        mooLah.addExpense(ANNIVERSARY);
+        saver.save(mooLah, new UserPrefs());
+        mooLah.addExpense(CHICKEN_RICE);
+        saver.save(mooLah, new UserPrefs());
+        assertEquals(3, saver.getPendingWriteDepth());
+
+        // changes made after a request are not written by it
+        MooLah expectedMooLah = new MooLah(mooLah);
+        mooLah.removeExpense(ANNIVERSARY);
+
+        mooLahStorage.release.countDown();
+        saver.flush();
+        assertEquals(0, saver.getPendingWriteDepth());
+        assertEquals(2, mooLahStorage.saveCount.get());
+        assertEquals(expectedMooLah, new MooLah(new JsonMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void save_budgetRefreshedWhileWriting_writesBudgetAsRequested() throws Exception {
+        BlockingMooLahStorageStub mooLahStorage = new BlockingMooLahStorageStub(getTempFilePath("moolah.json"));
+        AsyncSaver saver = new AsyncSaver(getStorageManager(mooLahStorage));
+        MooLah mooLah = new MooLah();
+        // a budget whose window has not been refreshed since it was added
+        Budget budget = new BudgetBuilder(SCHOOL).withExpenses(FXCollections.observableArrayList())
+                .withIsPrimary(false).build();
+        List<Budget> budgets = new ArrayList<>(mooLah.getBudgetList());
+        budgets.add(budget);
+        mooLah.setBudgets(budgets);
+        Timestamp requestedStartDate = budget.getWindowStartDate();
+
+        // the budget is refreshed in place while the saving thread writes the request
+        saver.save(mooLah, new UserPrefs());
+        mooLahStorage.started.await();
+        budget.refresh();
+        mooLahStorage.release.countDown();
+        saver.flush();
+
+        assertNotEquals(requestedStartDate, budget.getWindowStartDate());
+        assertEquals(requestedStartDate, mooLahStorage.lastSaved.getBudgetList().get(1).getWindowStartDate());
+    }
+
+    @Test
+    public void save_unmodifiedData_skipsWrite() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub(getTempFilePath("moolah.json"),
+                getTempFilePath("prefs.json"));
+        AsyncSaver saver = new AsyncSaver(storage);
+        MooLah mooLah = new MooLah();
+        UserPrefs userPrefs = new UserPrefs();
+
+        saver.save(mooLah, userPrefs);
+        saver.flush();
+        saver.save(mooLah, userPrefs);
+        assertEquals(0, saver.getPendingWriteDepth());
+        saver.flush();
+        assertEquals(1, storage.mooLahSaveCount.get());
+        assertEquals(1, storage.userPrefsSaveCount.get());
+    }
+
+    @Test
+    public void save_onlyMooLahModified_writesOnlyMooLah() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub(getTempFilePath("moolah.json"),
+                getTempFilePath("prefs.json"));
+        AsyncSaver saver = new AsyncSaver(storage);
+        MooLah mooLah = new MooLah();
+        UserPrefs userPrefs = new UserPrefs();
+
+        saver.save(mooLah, userPrefs);
+        saver.flush();
+        mooLah.addExpense(ANNIVERSARY);
+        saver.save(mooLah, userPrefs);
+        saver.flush();
+        assertEquals(2, storage.mooLahSaveCount.get());
+        assertEquals(1, storage.userPrefsSaveCount.get());
+        assertEquals(mooLah, new MooLah(storage.readMooLah().get()));
+    }
+
+    @Test
+    public void save_afterFailure_writesAllData() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub(getTempFilePath("moolah.json"),
+                getTempFilePath("prefs.json"));
+        AsyncSaver saver = new AsyncSaver(storage);
+        MooLah mooLah = new MooLah();
+        UserPrefs userPrefs = new UserPrefs();
+
+        storage.isFailing = true;
+        saver.save(mooLah, userPrefs);
+        assertThrows(IOException.class, saver::flush);
+
+        // the data is unmodified, but was never stored
+        storage.isFailing = false;
+        saver.save(mooLah, userPrefs);
+        saver.flush();
+        assertEquals(1, storage.mooLahSaveCount.get());
+        assertEquals(1, storage.userPrefsSaveCount.get());
+    }
+
+    @Test
+    public void shutdown_pendingSave_writesData() throws Exception {
+        Path filePath = getTempFilePath("moolah.json");
+        BlockingMooLahStorageStub mooLahStorage = new BlockingMooLahStorageStub(filePath);
+        AsyncSaver saver = new AsyncSaver(getStorageManager(mooLahStorage));
+        MooLah mooLah = new MooLah();
+        mooLah.addExpense(ANNIVERSARY);
+
+        saver.save(mooLah, new UserPrefs());
+        mooLahStorage.started.await();
+        mooLahStorage.release.countDown();
+        saver.shutdown();
+        assertEquals(0, saver.getPendingWriteDepth());
+        assertEquals(mooLah, new MooLah(new JsonMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void flush_mooLahFailsThenPrefsOnlyWriteSucceeds_throwsUntilMooLahWritten() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub(getTempFilePath("moolah.json"),
+                getTempFilePath("prefs.json"));
+        AsyncSaver saver = new AsyncSaver(storage);
+        MooLah mooLah = new MooLah();
+        UserPrefs userPrefs = new UserPrefs();
+
+        storage.isFailing = true;
+        saver.save(mooLah, userPrefs);
+        assertThrows(IOException.class, saver::flush);
+
+        // only the preferences are modified, and written, so the MooLah data is still not stored
+        userPrefs.setGuiSettings(new GuiSettings(800, 600, 0, 0));
+        saver.save(mooLah, userPrefs);
+        assertThrows(IOException.class, saver::flush);
+        assertEquals(0, storage.mooLahSaveCount.get());
+        assertEquals(2, storage.userPrefsSaveCount.get());
+
+        storage.isFailing = false;
+        saver.save(mooLah, userPrefs);
+        saver.flush();
+        assertEquals(1, storage.mooLahSaveCount.get());
+        assertEquals(2, storage.userPrefsSaveCount.get());
+    }
+
+    @Test
+    public void save_storageThrowsIoException_reportsFailure() {
+        AsyncSaver saver = new AsyncSaver(getStorageManager(
+                new JsonMooLahIoExceptionThrowingStub(getTempFilePath("moolah.json"))));
+        AtomicReference<IOException> reportedFailure = new AtomicReference<>();
+        saver.setOnSaveFailure(reportedFailure::set);
+
+        saver.save(new MooLah(), new UserPrefs());
+        assertThrows(IOException.class, saver::flush);
+        assertEquals(DUMMY_IO_EXCEPTION, reportedFailure.get());
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+
+    private StorageManager getStorageManager(MooLahStorage mooLahStorage) {
+        return new StorageManager(mooLahStorage, new JsonUserPrefsStorage(getTempFilePath("prefs.json")));
+    }
+
+    /**
+     * A stub class which counts its saves, keeps the data of its last save and blocks its first save until released.
+     */
+    private static class BlockingMooLahStorageStub extends JsonMooLahStorage {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger saveCount = new AtomicInteger();
+        private volatile ReadOnlyMooLah lastSaved;
+
+        private BlockingMooLahStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveMooLah(ReadOnlyMooLah mooLah, Path filePath) throws IOException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saveCount.incrementAndGet();
+            lastSaved = mooLah;
+            super.saveMooLah(mooLah, filePath);
+        }
+    }
+
+    /**
+     * A stub class which counts its successful saves, and fails every save of MooLah data while failing.
+     */
+    private static class CountingStorageStub extends StorageManager {
+        private final AtomicInteger mooLahSaveCount = new AtomicInteger();
+        private final AtomicInteger userPrefsSaveCount = new AtomicInteger();
+        private volatile boolean isFailing;
+
+        private CountingStorageStub(Path mooLahFilePath, Path userPrefsFilePath) {
+            super(new JsonMooLahStorage(mooLahFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+        }
+
+        @Override
+        public void saveMooLah(ReadOnlyMooLah mooLah) throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            mooLahSaveCount.incrementAndGet();
+            super.saveMooLah(mooLah);
+        }
+
+        @Override
+        public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+            userPrefsSaveCount.incrementAndGet();
+            super.saveUserPrefs(userPrefs);
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonMooLahIoExceptionThrowingStub extends JsonMooLahStorage {
+        private JsonMooLahIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveMooLah(ReadOnlyMooLah mooLah, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}
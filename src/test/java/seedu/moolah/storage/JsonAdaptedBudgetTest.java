@@ -5,11 +5,14 @@ import static seedu.moolah.testutil.Assert.assertThrows;
 
 import java.time.Period;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.moolah.commons.exceptions.IllegalValueException;
+import seedu.moolah.model.expense.Expense;
 import seedu.moolah.model.general.Description;
 import seedu.moolah.model.general.Price;
 import seedu.moolah.model.general.Timestamp;
@@ -21,7 +24,7 @@ public class JsonAdaptedBudgetTest {
     public static final String VALID_START_DATE = "01-10-2019";
     public static final String VALID_END_DATE = "01-11-2019";
     public static final String VALID_PERIOD = "month";
-    public static final List<JsonAdaptedExpense> VALID_EXPENSES = new ArrayList<>();
+    public static final Map<String, Expense> VALID_EXPENSES = new HashMap<>();
     public static final List<String> VALID_EXPENSE_IDS = new ArrayList<>();
 
     private static final String INVALID_DESCRIPTION = "sch@@l related expenses";
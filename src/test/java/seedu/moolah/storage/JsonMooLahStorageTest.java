@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.moolah.testutil.Assert.assertThrows;
 import static seedu.moolah.testutil.TypicalMooLah.ANNIVERSARY;
+import static seedu.moolah.testutil.TypicalMooLah.CHICKEN_RICE;
 import static seedu.moolah.testutil.TypicalMooLah.HALLOWEEN;
 import static seedu.moolah.testutil.TypicalMooLah.INVESTMENT;
 import static seedu.moolah.testutil.TypicalMooLah.getTypicalMooLah;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,11 +18,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.moolah.commons.exceptions.DataConversionException;
+import seedu.moolah.commons.util.JsonUtil;
 import seedu.moolah.model.MooLah;
 import seedu.moolah.model.ReadOnlyMooLah;
 
 public class JsonMooLahStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMooLahStorageTest");
+    private static final Path TYPICAL_EVENTS_FILE = Paths.get("src", "test", "data", "JsonSerializableMooLahTest",
+            "typicalEventsMooLah.json");
+    private static final Path TYPICAL_EXPENSES_FILE = Paths.get("src", "test", "data", "JsonSerializableMooLahTest",
+            "typicalExpensesMooLah.json");
 
     @TempDir
     public Path testFolder;
@@ -98,6 +105,40 @@ public class JsonMooLahStorageTest {
     }
 
 
+    @Test
+    public void saveMooLah_typicalMooLah_sameFormatAsSerializableMooLah() throws Exception {
+        Path filePath = testFolder.resolve("TempMooLah.json");
+        MooLah original = getTypicalMooLah();
+        new JsonMooLahStorage(filePath).saveMooLah(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableMooLah(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void readMooLah_typicalFiles_sameAsSerializableMooLah() throws Exception {
+        for (Path filePath : new Path[] {TYPICAL_EVENTS_FILE, TYPICAL_EXPENSES_FILE}) {
+            MooLah expected = JsonUtil.readJsonFile(filePath, JsonSerializableMooLah.class).get().toModelType();
+            assertEquals(expected, new MooLah(new JsonMooLahStorage(filePath).readMooLah().get()));
+        }
+    }
+
+    @Test
+    public void readMooLah_legacyPrimaryBudgetName_success() throws Exception {
+        Path filePath = testFolder.resolve("TempMooLah.json");
+        MooLah original = new MooLah();
+        original.addExpense(ANNIVERSARY);
+        original.addExpense(CHICKEN_RICE);
+        new JsonMooLahStorage(filePath).saveMooLah(original);
+        Files.writeString(filePath, Files.readString(filePath).replace("\"primaryBudgetName\"", "\"primaryBudget\""));
+        assertEquals(original, new MooLah(new JsonMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void readMooLah_notArrayOfRecords_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempMooLah.json");
+        Files.writeString(filePath, "{\"expenses\": {}}");
+        assertThrows(DataConversionException.class, () -> new JsonMooLahStorage(filePath).readMooLah());
+    }
+
     @Test
     public void saveBookMooLah_nullMooLah_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveMooLah(null, "SomeFile.json"));
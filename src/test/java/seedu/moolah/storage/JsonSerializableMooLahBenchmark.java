@@ -0,0 +1,77 @@
+package seedu.moolah.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.moolah.commons.exceptions.IllegalValueException;
+
+/**
+ * Compares the time taken to load stored ledgers of growing size, all of whose expenses belong to a single budget.
+ * Loading four times the expenses should take about four times as long, where a quadratic load takes sixteen.
+ * This is not a test; run it with {@code gradlew mooLahLoadBenchmark}, optionally passing the number of expenses in
+ * the smallest ledger as the first argument.
+ */
+public class JsonSerializableMooLahBenchmark {
+
+    private static final int DEFAULT_COUNT = 2000;
+    private static final int SCALE = 4;
+    private static final int STEPS = 3;
+    private static final int LOAD_COUNT = 3;
+    private static final String BUDGET = "School related expenses";
+    private static final String UNIQUE_IDENTIFIER_FORMAT = "Expense@00000000-0000-0000-0000-%012d";
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args The number of expenses in the smallest ledger, if given.
+     */
+    public static void main(String[] args) throws IllegalValueException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+
+        run("Warm up", count);
+
+        long previousNanos = 0;
+        for (int i = 0, size = count; i < STEPS; i++, size *= SCALE) {
+            long nanos = run("Load", size);
+            if (previousNanos > 0) {
+                System.out.printf("%dx the expenses took %.1fx as long%n", SCALE, (double) nanos / previousNanos);
+            }
+            previousNanos = nanos;
+        }
+    }
+
+    /**
+     * Creates a {@code JsonSerializableMooLah} with {@code size} expenses, all of which belong to a single budget.
+     */
+    private static JsonSerializableMooLah createLedger(int size) {
+        List<JsonAdaptedExpense> expenses = new ArrayList<>(size);
+        List<String> expenseIds = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            String id = String.format(UNIQUE_IDENTIFIER_FORMAT, i);
+            expenses.add(new JsonAdaptedExpense("Expense " + i, "1.50", "Food", "2019-10-21T12:00", BUDGET, id));
+            expenseIds.add(id);
+        }
+        List<JsonAdaptedBudget> budgets = new ArrayList<>();
+        budgets.add(new JsonAdaptedBudget(BUDGET, "300", "01-10-2019", "31-10-2019", "month", expenseIds));
+        return new JsonSerializableMooLah(expenses, Collections.emptyList(), budgets, BUDGET);
+    }
+
+    /**
+     * Loads a ledger with {@code size} expenses a few times and prints the shortest time taken.
+     *
+     * @return the shortest time taken, in nanoseconds.
+     */
+    private static long run(String name, int size) throws IllegalValueException {
+        JsonSerializableMooLah ledger = createLedger(size);
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < LOAD_COUNT; i++) {
+            long start = System.nanoTime();
+            ledger.toModelType();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        System.out.printf("%s: loaded %d expenses in %d ms (%.2f us each)%n", name, size, bestNanos / 1_000_000,
+                bestNanos / 1000.0 / size);
+        return bestNanos;
+    }
+}
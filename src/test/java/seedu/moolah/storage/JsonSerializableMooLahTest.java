@@ -1,16 +1,21 @@
 package seedu.moolah.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.moolah.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.moolah.commons.exceptions.IllegalValueException;
 import seedu.moolah.commons.util.JsonUtil;
 import seedu.moolah.model.MooLah;
+import seedu.moolah.model.budget.Budget;
 import seedu.moolah.testutil.TypicalMooLah;
 
 public class JsonSerializableMooLahTest {
@@ -22,6 +27,9 @@ public class JsonSerializableMooLahTest {
     private static final Path INVALID_EVENT_FILE = TEST_DATA_FOLDER.resolve("invalidEventMooLah.json");
     private static final Path DUPLICATE_EVENT_FILE = TEST_DATA_FOLDER.resolve("duplicateEventMooLah.json");
 
+    private static final String LARGE_LEDGER_BUDGET = "School related expenses";
+    private static final String UNIQUE_IDENTIFIER_FORMAT = "Expense@00000000-0000-0000-0000-%012d";
+
     @Test
     public void toModelType_invalidExpenseFile_throwsIllegalValueException() throws Exception {
         JsonSerializableMooLah dataFromFile = JsonUtil.readJsonFile(INVALID_EXPENSE_FILE,
@@ -60,5 +68,34 @@ public class JsonSerializableMooLahTest {
         assertThrows(IllegalValueException.class, JsonSerializableMooLah.MESSAGE_DUPLICATE_EVENT,
                 dataFromFile::toModelType);
     }
-}
 
+    @Test
+    public void toModelType_budgetWithExpenses_sharesExpensesWithExpenseList() throws Exception {
+        MooLah mooLah = createLargeLedger(10).toModelType();
+        Budget budget = mooLah.getBudgetList().stream()
+                .filter(b -> b.getDescription().fullDescription.equals(LARGE_LEDGER_BUDGET))
+                .findFirst().get();
+        assertEquals(10, budget.getExpenses().size());
+        for (int i = 0; i < 10; i++) {
+            assertSame(mooLah.getExpenseList().get(i), budget.getExpenses().get(i));
+        }
+    }
+
+    /**
+     * Creates a {@code JsonSerializableMooLah} with {@code size} expenses, all of which belong to a single budget.
+     */
+    private static JsonSerializableMooLah createLargeLedger(int size) {
+        List<JsonAdaptedExpense> expenses = new ArrayList<>();
+        List<String> expenseIds = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            String id = String.format(UNIQUE_IDENTIFIER_FORMAT, i);
+            expenses.add(new JsonAdaptedExpense("Expense " + i, "1.50", "Food", "2019-10-21T12:00",
+                    LARGE_LEDGER_BUDGET, id));
+            expenseIds.add(id);
+        }
+        List<JsonAdaptedBudget> budgets = new ArrayList<>();
+        budgets.add(new JsonAdaptedBudget(LARGE_LEDGER_BUDGET, "300", "01-10-2019", "31-10-2019", "month",
+                expenseIds));
+        return new JsonSerializableMooLah(expenses, Collections.emptyList(), budgets, LARGE_LEDGER_BUDGET);
+    }
+}
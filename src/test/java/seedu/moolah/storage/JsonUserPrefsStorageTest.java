@@ -2,9 +2,11 @@ package seedu.moolah.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.moolah.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -120,4 +122,17 @@ public class JsonUserPrefsStorageTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveUserPrefs_version_notWrittenAndFreshOnRead() throws DataConversionException, IOException {
+        UserPrefs original = new UserPrefs();
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(prefsFilePath);
+
+        jsonUserPrefsStorage.saveUserPrefs(original);
+        assertFalse(Files.readString(prefsFilePath).contains("version"));
+
+        UserPrefs readBack = jsonUserPrefsStorage.readUserPrefs().get();
+        assertNotEquals(original.getVersion(), readBack.getVersion());
+    }
+
 }
@@ -0,0 +1,253 @@
+package seedu.moolah.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.moolah.testutil.Assert.assertThrows;
+import static seedu.moolah.testutil.TypicalMooLah.ANNIVERSARY;
+import static seedu.moolah.testutil.TypicalMooLah.CHICKEN_RICE;
+import static seedu.moolah.testutil.TypicalMooLah.SCHOOL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.moolah.model.ModelManager;
+import seedu.moolah.model.MooLah;
+import seedu.moolah.model.budget.Budget;
+import seedu.moolah.testutil.BudgetBuilder;
+import seedu.moolah.testutil.ExpenseBuilder;
+
+public class LogMooLahStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveArguments_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("MooLah.json");
+        assertThrows(IllegalArgumentException.class, () -> new LogMooLahStorage(filePath, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new LogMooLahStorage(filePath, 1, 0));
+    }
+
+    @Test
+    public void readMooLah_missingFile_emptyResult() throws Exception {
+        assertFalse(new LogMooLahStorage(testFolder.resolve("NonExistentFile.json")).readMooLah().isPresent());
+    }
+
+    @Test
+    public void saveMooLah_nullArguments_throwsNullPointerException() {
+        LogMooLahStorage storage = new LogMooLahStorage(testFolder.resolve("MooLah.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveMooLah(null));
+        assertThrows(NullPointerException.class, () -> storage.saveMooLah(new MooLah(), null));
+    }
+
+    @Test
+    public void saveMooLah_afterFirstSave_appendsToLogOnly() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        MooLah original = new MooLah();
+        original.addExpense(ANNIVERSARY);
+
+        // first save writes a snapshot
+        storage.saveMooLah(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(storage.getLogFilePath()));
+
+        // later saves append one entry each, leaving the snapshot untouched
+        original.addExpense(CHICKEN_RICE);
+        storage.saveMooLah(original);
+        original.removeExpense(ANNIVERSARY);
+        storage.saveMooLah(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(storage.getLogFilePath()).size());
+
+        // unchanged data appends nothing
+        storage.saveMooLah(original);
+        assertEquals(2, Files.readAllLines(storage.getLogFilePath()).size());
+
+        assertEquals(original, new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void saveMooLah_expenseAdded_logsNoOtherExpenses() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        MooLah original = new MooLah();
+        original.addExpense(ANNIVERSARY);
+        storage.saveMooLah(original);
+
+        // the budget receiving the new expense is logged without the expenses it already had
+        original.addExpense(CHICKEN_RICE);
+        storage.saveMooLah(original);
+        String entry = Files.readString(storage.getLogFilePath());
+        assertFalse(entry.contains(ANNIVERSARY.getUniqueIdentifier().value));
+
+        assertEquals(original, new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void saveMooLah_logReachesThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath, 1, 2);
+        MooLah original = new MooLah();
+
+        storage.saveMooLah(original);
+        original.addExpense(ANNIVERSARY);
+        storage.saveMooLah(original);
+        assertTrue(Files.exists(storage.getLogFilePath()));
+
+        original.addExpense(CHICKEN_RICE);
+        storage.saveMooLah(original);
+        assertFalse(Files.exists(storage.getLogFilePath()));
+
+        assertEquals(original, new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void readMooLah_incompleteLastEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        MooLah original = new MooLah();
+
+        storage.saveMooLah(original);
+        original.addExpense(ANNIVERSARY);
+        storage.saveMooLah(original);
+        Files.write(storage.getLogFilePath(), "{\"snapshotGeneration\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void readMooLah_entriesOfOldSnapshot_ignoresEntries() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        MooLah original = new MooLah();
+
+        storage.saveMooLah(original);
+        original.addExpense(ANNIVERSARY);
+        storage.saveMooLah(original);
+        byte[] oldLog = Files.readAllBytes(storage.getLogFilePath());
+
+        // a new storage starts with a new snapshot, after which the old log is left behind by an interruption
+        LogMooLahStorage newStorage = new LogMooLahStorage(filePath);
+        original.addExpense(CHICKEN_RICE);
+        newStorage.saveMooLah(original);
+        Files.write(newStorage.getLogFilePath(), oldLog);
+
+        assertEquals(original, new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void readMooLah_entriesOfOldSnapshotWithSameData_ignoresEntries() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        MooLah original = new MooLah();
+
+        storage.saveMooLah(original);
+        original.addExpense(ANNIVERSARY);
+        storage.saveMooLah(original);
+        byte[] oldLog = Files.readAllBytes(storage.getLogFilePath());
+
+        // the new snapshot holds the same data as the old one, but is of a later generation
+        LogMooLahStorage newStorage = new LogMooLahStorage(filePath);
+        MooLah empty = new MooLah();
+        newStorage.saveMooLah(empty);
+        Files.write(newStorage.getLogFilePath(), oldLog);
+
+        assertEquals(empty, new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void saveMooLah_budgetRenamed_roundTrips() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        ModelManager model = new ModelManager();
+        model.addBudget(new BudgetBuilder(SCHOOL).withExpenses(FXCollections.observableArrayList()).build());
+        model.addExpense(new ExpenseBuilder(ANNIVERSARY)
+                .withBudgetName(SCHOOL.getDescription().fullDescription).build());
+        storage.saveMooLah(model.getMooLah());
+
+        Budget budget = model.getPrimaryBudget();
+        model.setBudget(budget, new BudgetBuilder(budget).withDescription("Renamed").build());
+        storage.saveMooLah(model.getMooLah());
+
+        assertEquals(model.getMooLah(), new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void saveMooLah_budgetWithExpensesDeleted_roundTrips() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        ModelManager model = new ModelManager();
+        Budget budget = new BudgetBuilder(SCHOOL).withExpenses(FXCollections.observableArrayList()).build();
+        model.addBudget(budget);
+        model.addExpense(new ExpenseBuilder(ANNIVERSARY)
+                .withBudgetName(SCHOOL.getDescription().fullDescription).build());
+        storage.saveMooLah(model.getMooLah());
+
+        // the expenses of the deleted budget are moved to the default budget
+        model.deleteBudget(model.getPrimaryBudget());
+        storage.saveMooLah(model.getMooLah());
+
+        assertEquals(model.getMooLah(), new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void saveMooLah_budgetRefreshedInPlace_appendsToLog() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        MooLah original = new MooLah();
+        // a budget whose window has not been refreshed since it was added
+        Budget budget = new BudgetBuilder(SCHOOL).withExpenses(FXCollections.observableArrayList())
+                .withIsPrimary(false).build();
+        List<Budget> budgets = new ArrayList<>(original.getBudgetList());
+        budgets.add(budget);
+        original.setBudgets(budgets);
+        storage.saveMooLah(original);
+
+        budget.refresh();
+        storage.saveMooLah(original);
+        assertEquals(1, Files.readAllLines(storage.getLogFilePath()).size());
+
+        assertEquals(original, new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void flushMooLah_unsyncedEntries_keepsLog() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        MooLah original = new MooLah();
+
+        // flushing before anything is logged does nothing
+        storage.flushMooLah();
+        storage.saveMooLah(original);
+        original.addExpense(ANNIVERSARY);
+        storage.saveMooLah(original);
+        storage.flushMooLah();
+
+        assertEquals(1, Files.readAllLines(storage.getLogFilePath()).size());
+        assertEquals(original, new MooLah(new LogMooLahStorage(filePath).readMooLah().get()));
+    }
+
+    @Test
+    public void saveMooLah_otherFilePath_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("MooLah.json");
+        Path otherFilePath = testFolder.resolve("Other.json");
+        LogMooLahStorage storage = new LogMooLahStorage(filePath);
+        MooLah original = new MooLah();
+        original.addExpense(ANNIVERSARY);
+
+        storage.saveMooLah(original, otherFilePath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new MooLah(storage.readMooLah(otherFilePath).get()));
+    }
+}
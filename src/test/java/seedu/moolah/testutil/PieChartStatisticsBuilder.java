@@ -107,7 +107,7 @@ public class PieChartStatisticsBuilder {
 
 
     public PieChartStatistics build() {
-        return new PieChartStatistics(expenses, startDate, endDate);
+        return new PieChartStatistics(new BudgetBuilder().withExpenses(expenses).build(), startDate, endDate);
     }
 
 }
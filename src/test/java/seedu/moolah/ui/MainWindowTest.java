@@ -6,7 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.util.Collections;
-import java.util.Timer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,7 +45,7 @@ public class MainWindowTest extends GuiUnitTest {
         FxToolkit.setupStage(stage -> {
             Storage storage = new StorageManager(jsonMooLahStorage, jsonUserPrefsStorage);
             Logic logic = new LogicManager(new ModelManager(), storage);
-            mainWindow = new MainWindow(stage, logic, new Timekeeper(logic), new Timer(), new Timer());
+            mainWindow = new MainWindow(stage, logic, new Timekeeper(logic));
             mainWindow.fillInnerParts();
             mainWindowHandle = new MainWindowHandle(mainWindow.getPrimaryStage());
             mainWindowHandle.focus();
@@ -1,5 +1,6 @@
 package seedu.moolah.ui.alias;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.moolah.testutil.AliasTestUtil.VALID_ALIAS_MAPPINGS;
 import static seedu.moolah.ui.testutil.GuiTestAssert.assertCardDisplaysAlias;
 
@@ -15,6 +16,7 @@ import seedu.moolah.ui.GuiUnitTest;
  * Contains tests for {@code AliasListPanel}.
  */
 public class AliasListPanelTest extends GuiUnitTest {
+    private AliasListPanel aliasListPanel;
     private AliasListPanelHandle aliasListPanelHandle;
 
     @Test
@@ -30,15 +32,27 @@ public class AliasListPanelTest extends GuiUnitTest {
         }
     }
 
+    @Test
+    public void setAliasMappings_newMappings_displayedInPlace() {
+        initUi(new AliasMappings());
+        assertEquals(0, aliasListPanelHandle.getListSize());
+
+        guiRobot.interact(() -> aliasListPanel.setAliasMappings(VALID_ALIAS_MAPPINGS));
+        assertEquals(VALID_ALIAS_MAPPINGS.getAliases().size(), aliasListPanelHandle.getListSize());
+        for (int i = 0; i < VALID_ALIAS_MAPPINGS.getAliases().size(); i++) {
+            aliasListPanelHandle.navigateToCard(VALID_ALIAS_MAPPINGS.getAliases().get(i));
+            assertCardDisplaysAlias(VALID_ALIAS_MAPPINGS.getAliases().get(i), aliasListPanelHandle.getCardHandle(i));
+        }
+    }
+
     /**
      * Initializes {@code aliasListPanelHandle} with a {@code AliasListPanel} backed by {@code backingList}.
      * Also shows the {@code Stage} that displays only {@code AliasListPanel}.
      */
     private void initUi(AliasMappings aliasMappings) {
-        AliasListPanel listPanel =
-                new AliasListPanel(aliasMappings);
-        uiPartExtension.setUiPart(listPanel);
-        aliasListPanelHandle = new AliasListPanelHandle(getChildNode(listPanel.getRoot(),
+        aliasListPanel = new AliasListPanel(aliasMappings);
+        uiPartExtension.setUiPart(aliasListPanel);
+        aliasListPanelHandle = new AliasListPanelHandle(getChildNode(aliasListPanel.getRoot(),
                 AliasListPanelHandle.ALIAS_LIST_VIEW_ID));
     }
 }
@@ -0,0 +1,115 @@
+package seedu.moolah.ui.expense;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.moolah.model.expense.Expense;
+import seedu.moolah.model.expense.UniqueIdentifier;
+import seedu.moolah.model.general.Category;
+import seedu.moolah.model.general.Description;
+import seedu.moolah.model.general.Price;
+import seedu.moolah.model.general.Timestamp;
+
+/**
+ * Measures how many expense cells per second an {@code ExpenseListPanel} renders while it is scrolled from top to
+ * bottom, one page at a time, so that every page is rendered into reused cells.
+ * This is not a test; run it headless with {@code gradlew expenseListBenchmark}, optionally passing the number of
+ * expenses to scroll through with {@code -Pcount=<count>}.
+ */
+public class ExpenseListPanelBenchmark {
+
+    private static final int DEFAULT_COUNT = 20_000;
+    private static final int WARM_UP_COUNT = 1_000;
+    private static final int WINDOW_WIDTH = 800;
+    private static final int WINDOW_HEIGHT = 600;
+    private static final String[] CATEGORIES = {"FOOD", "TRAVEL", "TRANSPORT", "SHOPPING", "UTILITIES",
+        "HEALTHCARE", "ENTERTAINMENT", "EDUCATION", "OTHERS"};
+    private static final LocalDateTime FIRST_TIMESTAMP = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args The number of expenses to scroll through, if given.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+
+        CountDownLatch finished = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                run("Warm up", createExpenses(WARM_UP_COUNT));
+                run("Scroll", createExpenses(count));
+            } finally {
+                finished.countDown();
+            }
+        });
+        finished.await();
+        Platform.exit();
+    }
+
+    /**
+     * Returns {@code count} distinct expenses, one minute apart, cycling through the categories.
+     */
+    private static ObservableList<Expense> createExpenses(int count) {
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            expenses.add(new Expense(new Description("Expense " + i), new Price("1." + (i % 100)),
+                    new Category(CATEGORIES[i % CATEGORIES.length]), new Timestamp(FIRST_TIMESTAMP.plusMinutes(i)),
+                    new Description("Default Budget"),
+                    new UniqueIdentifier(String.format("Expense@00000000-0000-0000-0000-%012d", i))));
+        }
+        return FXCollections.observableList(expenses);
+    }
+
+    /**
+     * Shows {@code expenses} in an {@code ExpenseListPanel}, scrolls through them a page at a time and prints the
+     * number of cells rendered per second. Must be run on the JavaFX application thread.
+     */
+    private static void run(String name, ObservableList<Expense> expenses) {
+        ExpenseListPanel panel = new ExpenseListPanel(expenses, true);
+        Stage stage = new Stage();
+        stage.setScene(new Scene(panel.getRoot(), WINDOW_WIDTH, WINDOW_HEIGHT));
+        stage.show();
+
+        @SuppressWarnings("unchecked")
+        ListView<Expense> listView = (ListView<Expense>) panel.getRoot().lookup("#listView");
+        listView.layout();
+        int pageSize = Math.max(countFilledCells(listView), 1);
+
+        long start = System.nanoTime();
+        int renderedCells = 0;
+        for (int first = 0; first < expenses.size(); first += pageSize) {
+            listView.scrollTo(first);
+            listView.layout();
+            renderedCells += countFilledCells(listView);
+        }
+        long elapsed = System.nanoTime() - start;
+        stage.close();
+
+        System.out.printf("%s: rendered %d cells of %d expenses in %d ms (%.0f cells per second)%n", name,
+                renderedCells, expenses.size(), elapsed / 1_000_000, renderedCells / (elapsed / 1e9));
+    }
+
+    /**
+     * Returns the number of cells of {@code listView} which show an expense.
+     */
+    private static int countFilledCells(ListView<Expense> listView) {
+        int filledCells = 0;
+        for (Node node : listView.lookupAll(".list-cell")) {
+            if (node instanceof ListCell && !((ListCell<?>) node).isEmpty()) {
+                filledCells++;
+            }
+        }
+        return filledCells;
+    }
+}
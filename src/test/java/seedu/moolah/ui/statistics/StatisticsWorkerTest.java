@@ -0,0 +1,142 @@
+package seedu.moolah.ui.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.moolah.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.scene.layout.Region;
+import seedu.moolah.model.statistics.Statistics;
+
+public class StatisticsWorkerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final StatisticsWorker worker = new StatisticsWorker(Runnable::run);
+
+    @Test
+    public void compute_nullArguments_throwsNullPointerException() {
+        StatisticsStub statistics = new StatisticsStub("title");
+        assertThrows(NullPointerException.class, () -> worker.compute(null, factory -> { }, error -> { }));
+        assertThrows(NullPointerException.class, () -> worker.compute(statistics, null, error -> { }));
+        assertThrows(NullPointerException.class, () -> worker.compute(statistics, factory -> { }, null));
+    }
+
+    @Test
+    public void compute_supersededWhileComputing_onlyLatestDelivered() throws Exception {
+        StatisticsStub first = new StatisticsStub("first");
+        first.release = new CountDownLatch(1);
+        StatisticsStub second = new StatisticsStub("second");
+        CountDownLatch secondDelivered = new CountDownLatch(1);
+
+        worker.compute(first, factory -> delivered.add(factory.getTitle()), error -> delivered.add("failed"));
+        assertTrue(first.started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        worker.compute(second, factory -> {
+            delivered.add(factory.getTitle());
+            secondDelivered.countDown();
+        }, error -> delivered.add("failed"));
+        first.release.countDown();
+
+        assertTrue(secondDelivered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of("second"), delivered);
+    }
+
+    @Test
+    public void cancel_beforeComputed_nothingDelivered() throws Exception {
+        StatisticsStub blocking = new StatisticsStub("blocking");
+        blocking.release = new CountDownLatch(1);
+        worker.compute(blocking, factory -> delivered.add(factory.getTitle()), error -> delivered.add("failed"));
+        assertTrue(blocking.started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        worker.cancel();
+        blocking.release.countDown();
+
+        // a later computation on the same thread is only delivered after the cancelled one has finished
+        CountDownLatch laterDelivered = new CountDownLatch(1);
+        worker.compute(new StatisticsStub("later"), factory -> laterDelivered.countDown(), error -> { });
+        assertTrue(laterDelivered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of(), delivered);
+    }
+
+    @Test
+    public void compute_populationFails_failureDelivered() throws Exception {
+        StatisticsStub failing = new StatisticsStub("failing");
+        failing.failure = new IllegalStateException("dummy failure");
+        CountDownLatch failureDelivered = new CountDownLatch(1);
+
+        worker.compute(failing, factory -> delivered.add(factory.getTitle()), error -> {
+            delivered.add(error.getMessage());
+            failureDelivered.countDown();
+        });
+
+        assertTrue(failureDelivered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of("dummy failure"), delivered);
+    }
+
+    /**
+     * A stub of statistics whose population signals when it starts, and blocks until released if a latch is given.
+     * Interruptions are ignored, as with statistics which do not check for them. Population fails with the given
+     * failure, if any.
+     */
+    private static class StatisticsStub implements Statistics {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private CountDownLatch release;
+        private RuntimeException failure;
+        private String title;
+
+        private StatisticsStub(String title) {
+            this.title = title;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        @Override
+        public void populateData() {
+            started.countDown();
+            if (failure != null) {
+                throw failure;
+            }
+            if (release == null) {
+                return;
+            }
+            boolean isReleased = false;
+            while (!isReleased) {
+                try {
+                    isReleased = release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // keep waiting, so that the result is ready to be discarded
+                }
+            }
+        }
+
+        @Override
+        public StatisticsRegionFactory createFactory() {
+            return new StatisticsRegionFactory() {
+                @Override
+                public Region createRegion() {
+                    throw new AssertionError("This method should not be called.");
+                }
+
+                @Override
+                public String getTitle() {
+                    return title;
+                }
+            };
+        }
+    }
+}